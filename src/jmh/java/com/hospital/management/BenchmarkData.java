@@ -0,0 +1,131 @@
+package com.hospital.management;
+
+/**
+ * CLASS: BenchmarkData
+ * Purpose: Seeded synthetic corpora shared by the JMH benchmarks, so every
+ *          run and every build measures the same inputs
+ */
+final class BenchmarkData {
+    private BenchmarkData() {}
+    
+    static String[][] generateStaffRows(int count) {
+        String[] firstNames = {"  john ", "MARY", "sarah\t", "aHmEd", "li", " o'brien"};
+        String[] lastNames = {"doe  ", "smith", " JONES", "van   der berg", "nguyen"};
+        String[] departments = {"er", "ICU", " opd ", "Pediatrics", "general   medicine", "surgery"};
+        java.util.Random random = new java.util.Random(42);
+        
+        String[][] rows = new String[count][];
+        for (int i = 0; i < count; i++) {
+            rows[i] = new String[] {
+                firstNames[random.nextInt(firstNames.length)] + "  " + lastNames[random.nextInt(lastNames.length)],
+                (random.nextBoolean() ? "emp-" : " x#") + random.nextInt(100_000) + "a ",
+                departments[random.nextInt(departments.length)]
+            };
+        }
+        return rows;
+    }
+    
+    static String[] generateClinicalNotes(int count, int approximateLength) {
+        String[] words = {
+            "patient", "presents", "with", "covid", "symptoms,", "needs", "MRI", "and", "ct",
+            "scan.", "History:", "hiv", "negative", "aids", "null", "nil", "na", "xray",
+            "120/80", "98.6f", "60bpm", "follow-up", "in", "2", "weeks!!!", "(urgent)"
+        };
+        String[] gaps = {" ", "  ", "\t", "\n", " \n  "};
+        java.util.Random random = new java.util.Random(7);
+        
+        String[] notes = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder note = new StringBuilder(approximateLength + 32);
+            while (note.length() < approximateLength) {
+                note.append(words[random.nextInt(words.length)]).append(gaps[random.nextInt(gaps.length)]);
+            }
+            notes[i] = note.toString();
+        }
+        return notes;
+    }
+    
+    // Blood pressure, temperature and pulse fields in rotation, some with stray characters
+    static String[] generateVitalFields(int count) {
+        java.util.Random random = new java.util.Random(5);
+        String[] fields = new String[count];
+        for (int i = 0; i < count; i++) {
+            String field;
+            switch (i % 3) {
+                case 0:  field = (90 + random.nextInt(80)) + "/" + (50 + random.nextInt(40)); break;
+                case 1:  field = (96 + random.nextInt(6)) + "." + random.nextInt(10); break;
+                default: field = Integer.toString(45 + random.nextInt(100)); break;
+            }
+            fields[i] = random.nextInt(10) == 0 ? " " + field.replace("/", " // ") + " mm" : field;
+        }
+        return fields;
+    }
+    
+    static String generatePatientExport(int records) {
+        String[] names = {"Alice Johnson", "bob  smith", "CAROL o'neil", "dave nguyen"};
+        String[] conditions = {"Fractured arm", "high blood pressure", "covid symptoms", "migraine"};
+        java.util.Random random = new java.util.Random(3);
+        
+        StringBuilder export = new StringBuilder(records * 120);
+        for (int i = 0; i < records; i++) {
+            export.append("PATIENT RECORD\n")
+                  .append("Name: ").append(names[random.nextInt(names.length)]).append('\n')
+                  .append("Age: ").append(18 + random.nextInt(80)).append('\n');
+            if (random.nextInt(10) > 0) {
+                export.append("Condition: ").append(conditions[random.nextInt(conditions.length)]).append('\n');
+            }
+            export.append("Phone: 555").append(1_000_000 + random.nextInt(8_999_999)).append("\n\n");
+        }
+        return export.toString();
+    }
+    
+    // About one record in six re-enters an earlier patient with different case,
+    // spacing, word order or a one-letter typo. Surnames are random syllables.
+    static java.util.List<PatientRecord> generatePatientRecords(int count) {
+        String[] firstNames = {"alice", "bob", "carol", "dave", "erin", "frank", "grace", "heidi",
+                               "ivan", "judy", "mallory", "oscar", "peggy", "trent", "victor", "walter"};
+        String[] syllables = {"an", "ber", "co", "da", "el", "fin", "gar", "ho", "is", "jen", "ka", "lo",
+                              "mar", "ne", "o'", "pe", "ri", "son", "ta", "vic", "wel", "yo", "zu", "ley"};
+        java.util.Random random = new java.util.Random(11);
+        
+        java.util.List<PatientRecord> records = new java.util.ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && random.nextInt(6) == 0) {
+                PatientRecord original = records.get(random.nextInt(i));
+                String name = original.getName();
+                int firstSpace = name.indexOf(' ');
+                switch (random.nextInt(4)) {
+                    case 0: name = name.toUpperCase(); break;
+                    case 1: name = name.replace(" ", "   "); break;
+                    case 2: name = name.substring(firstSpace + 1).trim() + ", " + name.substring(0, firstSpace); break;
+                    default:
+                        char[] chars = name.toCharArray();
+                        chars[random.nextInt(firstSpace)] = (char) ('a' + random.nextInt(26));
+                        name = new String(chars);
+                }
+                records.add(new PatientRecord(name, original.getAge(), original.getCondition()));
+            } else {
+                StringBuilder name = new StringBuilder(firstNames[random.nextInt(firstNames.length)]).append(' ');
+                for (int s = 3 + random.nextInt(2); s > 0; s--) {
+                    name.append(syllables[random.nextInt(syllables.length)]);
+                }
+                records.add(new PatientRecord(name.toString(), random.nextInt(100), "migraine"));
+            }
+        }
+        return records;
+    }
+    
+    static java.nio.file.Path writeTempFile(String prefix, String suffix, String content) throws java.io.IOException {
+        java.nio.file.Path file = java.nio.file.Files.createTempFile(prefix, suffix);
+        file.toFile().deleteOnExit();
+        java.nio.file.Files.writeString(file, content);
+        return file;
+    }
+    
+    static void deleteRecursively(java.nio.file.Path directory) throws java.io.IOException {
+        if (directory == null || !java.nio.file.Files.exists(directory)) return;
+        try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.walk(directory)) {
+            files.sorted(java.util.Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
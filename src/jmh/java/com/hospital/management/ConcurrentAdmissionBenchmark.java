@@ -0,0 +1,51 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CLASS: ConcurrentAdmissionBenchmark
+ * Purpose: Four admission desks hammering one doctor, synchronized
+ *          check-then-act vs the CAS reservation in Doctor.tryAddPatient
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentAdmissionBenchmark {
+    private LegacyImplementations.SynchronizedPatientCounter legacy;
+    private Doctor shared;
+    
+    @Setup
+    public void setUp() {
+        legacy = new LegacyImplementations.SynchronizedPatientCounter();
+        shared = new Doctor("shared doctor", "emp-x", "er", "cardiology", "md123456");
+    }
+    
+    @Benchmark
+    public boolean synchronizedCheckThenAct() {
+        boolean added = legacy.add();
+        if (added) legacy.discharge();
+        return added;
+    }
+    
+    @Benchmark
+    public boolean casReservation() {
+        boolean added = shared.tryAddPatient();
+        if (added) shared.dischargePatient();
+        return added;
+    }
+}
@@ -0,0 +1,99 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CLASS: EventSinkBenchmark
+ * Purpose: Eight desks admitting and discharging with event output on:
+ *          println under the PrintStream lock (into a file rather than the
+ *          terminal) vs AsyncEventSink in BLOCK and DROP (1K ring) modes
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(8)
+public class EventSinkBenchmark {
+    
+    @State(Scope.Benchmark)
+    public static class Output {
+        @Param({"println", "async-block", "async-drop"})
+        String sink;
+        
+        java.nio.file.Path directory;
+        java.io.Closeable resource;
+        AsyncEventSink async;
+        
+        @Setup(Level.Trial)
+        public void setUp() throws java.io.IOException {
+            directory = java.nio.file.Files.createTempDirectory("hospital-events");
+            java.nio.file.Path file = directory.resolve(sink + ".log");
+            switch (sink) {
+                case "println":
+                    java.io.PrintStream stream = new java.io.PrintStream(java.nio.file.Files.newOutputStream(file), true);
+                    HospitalPersonnel.useEventSink((type, id, name, role, value, detail) ->
+                        stream.println(EventSink.message(type, name, role, value, detail)));
+                    resource = stream;
+                    break;
+                case "async-block":
+                    async = new AsyncEventSink(java.nio.file.Files.newBufferedWriter(file),
+                                               AsyncEventSink.DEFAULT_CAPACITY, AsyncEventSink.Overflow.BLOCK);
+                    break;
+                default:
+                    async = new AsyncEventSink(java.nio.file.Files.newBufferedWriter(file), 1_024,
+                                               AsyncEventSink.Overflow.DROP);
+            }
+            if (async != null) {
+                HospitalPersonnel.useEventSink(async);
+                resource = async;
+            }
+        }
+        
+        // Each iteration starts with an empty ring, so one iteration's backlog
+        // does not slow down the next
+        @TearDown(Level.Iteration)
+        public void drain() {
+            if (async != null) async.flush();
+        }
+        
+        @TearDown(Level.Trial)
+        public void tearDown() throws java.io.IOException {
+            HospitalPersonnel.useEventSink(null);
+            resource.close();
+            BenchmarkData.deleteRecursively(directory);
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class Desk {
+        Doctor doctor;
+        
+        @Setup(Level.Trial)
+        public void setUp() {
+            doctor = new Doctor("event doctor", "emp-e" + Thread.currentThread().getId(), "er", "cardiology",
+                                "md123456");
+        }
+    }
+    
+    // One PATIENT_ADDED event per invocation; the discharge frees the slot again
+    @Benchmark
+    public void admitAndDischarge(Output output, Desk desk) {
+        desk.doctor.addPatient();
+        desk.doctor.dischargePatient();
+    }
+}
@@ -0,0 +1,109 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CLASS: HotPathBenchmark
+ * Purpose: The methods run hardest in production, over realistic corpora,
+ *          tracked from build to build
+ * Run: gradle jmh -PjmhIncludes=HotPathBenchmark
+ *      The gc profiler adds gc.alloc.rate.norm (bytes per operation) next to
+ *      the throughput; both land in build/results/jmh/results.csv for diffing
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HotPathBenchmark {
+    private static final int ROWS = 20_000;
+    private static final int NOTES = 2_000;
+    private static final int FIELDS = 60_000;
+    private static final int RECORDS = 5_000;
+    private static final int EXPORTS = 200;
+    
+    private String[][] rows;
+    private String[] notes;
+    private String[] vitals;
+    private String[] records;
+    private String[] exports;
+    private Doctor doctor;
+    private Nurse nurse;
+    private PatientDataCleaner cleaner;
+    
+    @Setup
+    public void setUp() {
+        rows = BenchmarkData.generateStaffRows(ROWS);
+        notes = BenchmarkData.generateClinicalNotes(NOTES, 512);
+        vitals = BenchmarkData.generateVitalFields(FIELDS);
+        records = BenchmarkData.generatePatientExport(RECORDS).split("\n\n");
+        exports = new String[EXPORTS];
+        for (int i = 0; i < exports.length; i++) {
+            exports[i] = BenchmarkData.generatePatientExport(20) + "SSN: 123-45-6789 Card: 4111111111111111\n";
+        }
+        doctor = new Doctor("bench doctor", "emp-1", "er", "cardiology", "md123456");
+        nurse = new Nurse("bench nurse", "emp-2", "icu", "rn");
+        cleaner = PatientDataCleaner.getInstance();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void personnelConstruction(Blackhole blackhole) {
+        for (String[] row : rows) {
+            blackhole.consume(new Nurse(row[0], row[1], row[2], "rn"));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(NOTES)
+    public void doctorCleanAndFormat(Blackhole blackhole) {
+        for (String note : notes) {
+            blackhole.consume(doctor.cleanAndFormat(note));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(NOTES)
+    public void doctorValidateData(Blackhole blackhole) {
+        for (String note : notes) {
+            blackhole.consume(doctor.validateData(note));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public void nurseValidateData(Blackhole blackhole) {
+        for (String field : vitals) {
+            blackhole.consume(nurse.validateData(field));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void patientStandardizeFormat(Blackhole blackhole) {
+        for (String record : records) {
+            blackhole.consume(cleaner.standardizeFormat(record));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(EXPORTS)
+    public void patientAnonymizeData(Blackhole blackhole) {
+        for (String export : exports) {
+            blackhole.consume(PatientDataCleaner.anonymizeData(export));
+        }
+    }
+}
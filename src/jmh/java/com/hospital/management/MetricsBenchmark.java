@@ -0,0 +1,71 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CLASS: MetricsBenchmark
+ * Purpose: Cost of leaving metrics on: raw LatencyHistogram recording, alone
+ *          and contended, and a timed hot path with metrics on vs off
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private static final int FIELDS = 60_000;
+    
+    private LatencyHistogram histogram;
+    private String[] vitals;
+    private Nurse nurse;
+    private long value;
+    
+    @Setup
+    public void setUp() {
+        histogram = new LatencyHistogram();
+        vitals = BenchmarkData.generateVitalFields(FIELDS);
+        nurse = new Nurse("metrics nurse", "emp-m", "icu", "rn");
+    }
+    
+    @Benchmark
+    public void histogramRecord() {
+        histogram.record(value++ & 0xFFFFF);
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public void histogramRecordContended() {
+        histogram.record(System.nanoTime() & 0xFFFFF);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public void validateMetricsOn(Blackhole blackhole) {
+        for (String field : vitals) {
+            blackhole.consume(nurse.validateData(field));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    @Fork(value = 2, jvmArgsAppend = "-Dhospital.metrics=off")
+    public void validateMetricsOff(Blackhole blackhole) {
+        for (String field : vitals) {
+            blackhole.consume(nurse.validateData(field));
+        }
+    }
+}
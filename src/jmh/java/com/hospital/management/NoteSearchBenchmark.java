@@ -0,0 +1,169 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CLASS: NoteSearchBenchmark
+ * Purpose: Conjunctive queries over a million cleaned notes, full scan vs
+ *          NoteIndex (in memory and mapped from disk), plus indexing throughput
+ *          and index persistence: a full save, an incremental one-batch save and
+ *          a load
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NoteSearchBenchmark {
+    private static final int NOTES = 1_000_000;
+    private static final int BATCH = 100_000;
+    private static final int SAVE_BATCH = 10_000;
+    
+    private String[] notes;
+    private NoteIndex index;
+    private NoteIndex loaded;
+    private java.nio.file.Path directory;
+    
+    // A fresh directory for each full save
+    @State(Scope.Thread)
+    public static class SaveTarget {
+        java.nio.file.Path directory;
+        
+        @Setup(Level.Invocation)
+        public void setUp() throws java.io.IOException {
+            directory = java.nio.file.Files.createTempDirectory("hospital-notes-full");
+        }
+        
+        @TearDown(Level.Invocation)
+        public void tearDown() throws java.io.IOException {
+            BenchmarkData.deleteRecursively(directory);
+        }
+    }
+    
+    // An index that grows by one batch of notes per save, restarted every iteration
+    @State(Scope.Thread)
+    public static class Growing {
+        NoteIndex index;
+        java.nio.file.Path directory;
+        int next;
+        
+        @Setup(Level.Iteration)
+        public void setUp() throws java.io.IOException {
+            directory = java.nio.file.Files.createTempDirectory("hospital-notes-growing");
+            index = new NoteIndex();
+            next = 0;
+        }
+        
+        @TearDown(Level.Iteration)
+        public void tearDown() throws java.io.IOException {
+            BenchmarkData.deleteRecursively(directory);
+        }
+    }
+    
+    @Setup
+    public void setUp() throws java.io.IOException {
+        notes = BenchmarkData.generateClinicalNotes(NOTES, 100);
+        Doctor doctor = new Doctor("search doctor", "emp-s", "er", "cardiology", "md123456");
+        index = new NoteIndex();
+        for (int i = 0; i < notes.length; i++) {
+            // One note in a thousand mentions a rare condition
+            notes[i] = doctor.cleanAndFormat(i % 1_000 == 0 ? notes[i] + " sarcoidosis" : notes[i]);
+            index.add(notes[i]);
+        }
+        directory = java.nio.file.Files.createTempDirectory("hospital-notes");
+        index.save(directory);
+        loaded = NoteIndex.load(directory);
+    }
+    
+    @TearDown
+    public void tearDown() throws java.io.IOException {
+        loaded = null;   // unmapped once collected
+        BenchmarkData.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public NoteIndex add() {
+        NoteIndex fresh = new NoteIndex();
+        for (int i = 0; i < BATCH; i++) {
+            fresh.add(notes[i]);
+        }
+        return fresh;
+    }
+    
+    @Benchmark
+    public int commonTermsScan() {
+        return LegacyImplementations.scanNotes(notes, "mri", "covid");
+    }
+    
+    @Benchmark
+    public int commonTermsIndexCount() {
+        return index.count("MRI AND COVID");
+    }
+    
+    @Benchmark
+    public int[] commonTermsIndexFirst100() {
+        return index.search("MRI AND COVID", 100);
+    }
+    
+    @Benchmark
+    public int rareTermScan() {
+        return LegacyImplementations.scanNotes(notes, "mri", "sarcoidosis");
+    }
+    
+    @Benchmark
+    public int[] rareTermIndex() {
+        return index.search("MRI AND sarcoidosis");
+    }
+    
+    @Benchmark
+    public int commonTermsLoadedIndexCount() {
+        return loaded.count("MRI AND COVID");
+    }
+    
+    @Benchmark
+    public int[] rareTermLoadedIndex() {
+        return loaded.search("MRI AND sarcoidosis");
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public java.nio.file.Path saveFull(SaveTarget target) throws java.io.IOException {
+        index.save(target.directory);
+        return target.directory;
+    }
+    
+    // Indexes SAVE_BATCH notes and appends them as one segment
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public NoteIndex addAndSaveIncrement(Growing growing) throws java.io.IOException {
+        for (int i = 0; i < SAVE_BATCH; i++) {
+            growing.index.add(notes[growing.next++ % NOTES]);
+        }
+        growing.index.save(growing.directory);
+        return growing.index;
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public NoteIndex load() throws java.io.IOException {
+        return NoteIndex.load(directory);
+    }
+}
@@ -0,0 +1,114 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CLASS: PatientRecordBenchmark
+ * Purpose: Patient export validation (readString + split vs memory-mapped
+ *          scan) and deduplication (all pairs vs blocking keys)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PatientRecordBenchmark {
+    private static final int EXPORT_RECORDS = 100_000;
+    private static final int SMALL = 5_000;
+    
+    @State(Scope.Benchmark)
+    public static class Export {
+        java.nio.file.Path file;
+        PatientDataCleaner cleaner;
+        
+        @Setup
+        public void setUp() throws java.io.IOException {
+            file = BenchmarkData.writeTempFile("patients", ".txt", BenchmarkData.generatePatientExport(EXPORT_RECORDS));
+            cleaner = PatientDataCleaner.getInstance();
+        }
+        
+        @TearDown
+        public void tearDown() throws java.io.IOException {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+    }
+    
+    @State(Scope.Benchmark)
+    public static class SmallPopulation {
+        java.util.List<PatientRecord> records;
+        
+        @Setup
+        public void setUp() {
+            records = BenchmarkData.generatePatientRecords(SMALL);
+        }
+    }
+    
+    // 10M records: -p records=10000000 -jvmArgsAppend -Xmx4g
+    @State(Scope.Benchmark)
+    public static class LargePopulation {
+        @Param({"1000000"})
+        int records;
+        
+        java.util.List<PatientRecord> population;
+        
+        @Setup
+        public void setUp() {
+            population = BenchmarkData.generatePatientRecords(records);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(EXPORT_RECORDS)
+    public int validateReadStringSplit(Export export) throws java.io.IOException {
+        int valid = 0;
+        for (String record : java.nio.file.Files.readString(export.file).split("\n\n")) {
+            if (export.cleaner.validateData(record)) valid++;
+        }
+        return valid;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(EXPORT_RECORDS)
+    public int validateMappedScan(Export export) throws java.io.IOException {
+        int[] valid = new int[1];
+        export.cleaner.scanMappedFile(export.file, record -> {
+            if (record.isValid()) valid[0]++;
+        });
+        return valid[0];
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(SMALL)
+    public int deduplicateAllPairs(SmallPopulation population) {
+        return LegacyImplementations.allPairsDuplicates(population.records);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(SMALL)
+    public DuplicateReport deduplicateBlocking(SmallPopulation population) {
+        return PatientDeduplicator.defaults().deduplicate(population.records);
+    }
+    
+    // Seconds per run over the whole population
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 3)
+    public DuplicateReport deduplicateBlockingLarge(LargePopulation population) {
+        return PatientDeduplicator.defaults().deduplicate(population.population);
+    }
+}
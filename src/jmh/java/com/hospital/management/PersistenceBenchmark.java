@@ -0,0 +1,152 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CLASS: PersistenceBenchmark
+ * Purpose: Restart cost (cleaning constructors vs StaffSnapshot.load),
+ *          durable admissions from 16 desks (fsync per change vs StaffJournal
+ *          group commit) and journal replay
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PersistenceBenchmark {
+    private static final int STAFF = 100_000;
+    private static final int REPLAYED = 20_000;
+    
+    @State(Scope.Benchmark)
+    public static class Snapshot {
+        String[][] rows;
+        java.nio.file.Path file;
+        
+        @Setup
+        public void setUp() throws java.io.IOException {
+            rows = BenchmarkData.generateStaffRows(STAFF);
+            java.util.List<HospitalPersonnel> staff = new java.util.ArrayList<>();
+            for (String[] row : rows) {
+                staff.add(new Doctor(row[0], row[1], row[2], " cardiology ", "md123456"));
+            }
+            file = java.nio.file.Files.createTempFile("staff", ".snapshot");
+            StaffSnapshot.save(staff, java.util.List.of(), file);
+        }
+        
+        @TearDown
+        public void tearDown() throws java.io.IOException {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+    }
+    
+    @State(Scope.Benchmark)
+    public static class Journals {
+        java.nio.file.Path directory;
+        LegacyImplementations.SyncPerWriteJournal legacy;
+        StaffJournal journal;
+        
+        @Setup(Level.Trial)
+        public void setUp() throws java.io.IOException {
+            directory = java.nio.file.Files.createTempDirectory("hospital-journal");
+            legacy = new LegacyImplementations.SyncPerWriteJournal(directory.resolve("legacy.log"));
+            journal = StaffJournal.open(directory.resolve("group"));
+            HospitalPersonnel.useJournal(journal);
+        }
+        
+        @TearDown(Level.Trial)
+        public void tearDown() throws java.io.IOException {
+            HospitalPersonnel.useJournal(null);
+            journal.close();
+            legacy.close();
+            BenchmarkData.deleteRecursively(directory);
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class Desk {
+        Doctor doctor;
+        
+        @Setup(Level.Trial)
+        public void setUp() {
+            doctor = new Doctor("journal doctor", "emp-j" + Thread.currentThread().getId(), "er", "cardiology",
+                                "md123456");
+        }
+    }
+    
+    @State(Scope.Benchmark)
+    public static class History {
+        java.nio.file.Path directory;
+        
+        @Setup(Level.Trial)
+        public void setUp() throws java.io.IOException {
+            directory = java.nio.file.Files.createTempDirectory("hospital-replay");
+            try (StaffJournal journal = StaffJournal.open(directory)) {
+                for (int i = 0; i < REPLAYED; i += 2) {
+                    journal.append(StaffJournal.PATIENT_ADDED, "emp-r" + (i % 100), null);
+                    journal.append(StaffJournal.PATIENT_DISCHARGED, "emp-r" + (i % 100), null);
+                }
+            }
+        }
+        
+        @TearDown(Level.Trial)
+        public void tearDown() throws java.io.IOException {
+            BenchmarkData.deleteRecursively(directory);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STAFF)
+    public java.util.List<Doctor> restartWithConstructors(Snapshot snapshot) {
+        java.util.List<Doctor> rebuilt = new java.util.ArrayList<>(STAFF);
+        for (String[] row : snapshot.rows) {
+            rebuilt.add(new Doctor(row[0], row[1], row[2], " cardiology ", "md123456"));
+        }
+        return rebuilt;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STAFF)
+    public java.util.List<HospitalPersonnel> restartFromSnapshot(Snapshot snapshot) throws java.io.IOException {
+        return StaffSnapshot.load(snapshot.file).getStaff();   // load() alone builds nothing
+    }
+    
+    // Two changes per invocation: an admission and a discharge
+    @Benchmark
+    @Threads(16)
+    @OperationsPerInvocation(2)
+    public void fsyncPerChange(Journals journals) {
+        journals.legacy.write("PATIENT_ADDED emp-j");
+        journals.legacy.write("PATIENT_DISCHARGED emp-j");
+    }
+    
+    @Benchmark
+    @Threads(16)
+    @OperationsPerInvocation(2)
+    public boolean groupCommit(Journals journals, Desk desk) {
+        boolean added = desk.doctor.tryAddPatient();
+        if (added) desk.doctor.dischargePatient();
+        return added;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(REPLAYED)
+    public long replay(History history) throws java.io.IOException {
+        long[] last = new long[1];
+        StaffJournal.replay(history.directory, 0, entry -> last[0] = entry.getSequence());
+        return last[0];
+    }
+}
@@ -0,0 +1,110 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CLASS: PersonnelCleaningBenchmark
+ * Purpose: Name/ID/department normalization, specialization lookup and
+ *          canonical strings, regex/HashMap baseline vs current code
+ * Note: run with -prof gc to see the per-person String allocation that
+ *       the SymbolTable-backed canonical methods avoid
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PersonnelCleaningBenchmark {
+    private static final int ROWS = 50_000;
+    private static final String[] SPECIALIZATIONS = {
+        " cardiology ", "heart", "Brain", "bone", "general   surgery", "NEUROLOGY", "pediatrics"
+    };
+    private static final String[] DEPARTMENTS = {
+        "pediatrics", " general   medicine", "Cardiology Ward", "oncology", "maternity", "er"
+    };
+    
+    private String[][] rows;
+    private SpecializationIndex index;
+    
+    @Setup
+    public void setUp() {
+        rows = BenchmarkData.generateStaffRows(ROWS);
+        index = SpecializationIndex.defaults();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void normalizeLegacy(Blackhole blackhole) {
+        for (String[] row : rows) {
+            blackhole.consume(LegacyImplementations.cleanName(row[0]));
+            blackhole.consume(LegacyImplementations.formatId(row[1]));
+            blackhole.consume(LegacyImplementations.standardizeDept(row[2]));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void normalizeTextNormalizer(Blackhole blackhole) {
+        for (String[] row : rows) {
+            blackhole.consume(TextNormalizer.titleCaseWords(row[0]));
+            blackhole.consume(TextNormalizer.upperAlphanumericDash(row[1]));
+            blackhole.consume(TextNormalizer.collapseWhitespace(row[2].trim().toUpperCase(), '_'));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void constructNurse(Blackhole blackhole) {
+        for (String[] row : rows) {
+            blackhole.consume(new Nurse(row[0], row[1], row[2], "RN"));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(7)
+    public void specializationLegacy(Blackhole blackhole) {
+        for (String input : SPECIALIZATIONS) {
+            blackhole.consume(LegacyImplementations.cleanSpecialization(input));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(7)
+    public void specializationIndex(Blackhole blackhole) {
+        for (String input : SPECIALIZATIONS) {
+            String canonical = index.resolve(input);
+            blackhole.consume(canonical != null ? canonical : SpecializationIndex.normalize(input));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void departmentStringsLegacy(Blackhole blackhole) {
+        for (int i = 0; i < DEPARTMENTS.length; i++) {
+            blackhole.consume(LegacyImplementations.standardizeDept(DEPARTMENTS[i]));
+            blackhole.consume(LegacyImplementations.cleanSpecialization(SPECIALIZATIONS[i]));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void departmentStringsCanonical(Blackhole blackhole) {
+        for (int i = 0; i < DEPARTMENTS.length; i++) {
+            blackhole.consume(HospitalPersonnel.canonicalDepartment(DEPARTMENTS[i]));
+            blackhole.consume(Doctor.canonicalSpecialization(SPECIALIZATIONS[i]));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CLASS: StaffOperationsBenchmark
+ * Purpose: Ward lookups (scan every nurse vs WardRoster), dashboard report
+ *          polling (generateReport vs CachedReport) and weekly shift rosters
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StaffOperationsBenchmark {
+    private static final int WARDS = 200;
+    private static final int DOCTORS = 1_000;
+    
+    @State(Scope.Benchmark)
+    public static class Wards {
+        Nurse[] nurses;
+        WardRoster roster;
+        String[] wardNames;
+        
+        @Setup
+        public void setUp() {
+            nurses = new Nurse[2_000];
+            roster = new WardRoster();
+            java.util.Random random = new java.util.Random(17);
+            for (int i = 0; i < nurses.length; i++) {
+                nurses[i] = new Nurse("nurse " + i, "emp-" + i, "general medicine", "rn");
+                nurses[i].setShiftHours(0);   // start of shift, so all three 4-hour wards fit
+                for (int w = 0; w < 3; w++) {
+                    roster.assign(nurses[i], "Ward " + random.nextInt(WARDS), 4);
+                }
+            }
+            wardNames = new String[WARDS];
+            for (int w = 0; w < WARDS; w++) wardNames[w] = "Ward " + w;
+        }
+    }
+    
+    @State(Scope.Benchmark)
+    public static class Dashboard {
+        Doctor[] doctors;
+        CachedReport[] reports;
+        
+        @Setup
+        public void setUp() {
+            doctors = new Doctor[DOCTORS];
+            reports = new CachedReport[DOCTORS];
+            for (int i = 0; i < DOCTORS; i++) {
+                doctors[i] = new Doctor("poll doctor", "emp-" + i, "er", "cardiology", "md123456");
+                reports[i] = doctors[i].cached(java.time.Duration.ofSeconds(5));
+            }
+        }
+        
+        // One doctor in a hundred changes between polls
+        void touch(int i) {
+            if (i % 100 == 0 && !doctors[i].tryAddPatient()) doctors[i].dischargePatient();
+        }
+    }
+    
+    @State(Scope.Benchmark)
+    public static class Rostering {
+        java.util.List<HospitalPersonnel> staff;
+        ShiftScheduler scheduler;
+        java.util.concurrent.ForkJoinPool single;
+        
+        @Setup
+        public void setUp() {
+            String[] departments = {"er", "icu", "opd", "pediatrics", "surgery", "oncology", "maternity", "radiology"};
+            String[] specializations = {"cardiology", "neurology", "orthopedics", "general"};
+            staff = new java.util.ArrayList<>();
+            for (int i = 0; i < 800; i++) {
+                staff.add(new Nurse("nurse " + i, "emp-" + i, departments[i % departments.length], "rn"));
+            }
+            for (int i = 0; i < 200; i++) {
+                staff.add(new Doctor("doctor " + i, "doc-" + i, departments[i % departments.length],
+                                     specializations[i / departments.length % specializations.length], "md" + i));
+            }
+            scheduler = ShiftScheduler.create();
+            for (HospitalPersonnel person : staff) {
+                if (person instanceof Nurse) {
+                    scheduler = scheduler.withNurseCoverage(person.getDepartment(), ShiftScheduler.Shift.DAY, 30)
+                                         .withNurseCoverage(person.getDepartment(), ShiftScheduler.Shift.EVENING, 24)
+                                         .withNurseCoverage(person.getDepartment(), ShiftScheduler.Shift.NIGHT, 18);
+                } else {
+                    Doctor doctor = (Doctor) person;
+                    for (ShiftScheduler.Shift shift : ShiftScheduler.Shift.values()) {
+                        scheduler = scheduler.withOnCallCoverage(doctor.getDepartment(), doctor.getSpecialization(), shift, 1);
+                    }
+                }
+            }
+            single = new java.util.concurrent.ForkJoinPool(1);
+        }
+        
+        @TearDown
+        public void tearDown() {
+            single.shutdown();
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(WARDS)
+    public int nursesPerWardScan(Wards data) {
+        int found = 0;
+        for (String ward : data.wardNames) {
+            for (Nurse nurse : data.nurses) {
+                for (String assigned : nurse.getAssignedWards()) {
+                    if (ward.equals(assigned)) {
+                        found++;
+                        break;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(WARDS)
+    public int nursesPerWardRoster(Wards data) {
+        int found = 0;
+        for (String ward : data.wardNames) {
+            found += data.roster.getNurses(ward).size();
+        }
+        return found;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(DOCTORS)
+    public void pollGenerateReport(Dashboard data, Blackhole blackhole) {
+        for (int i = 0; i < DOCTORS; i++) {
+            data.touch(i);
+            blackhole.consume(data.doctors[i].generateReport());
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(DOCTORS)
+    public void pollCachedReport(Dashboard data, Blackhole blackhole) {
+        for (int i = 0; i < DOCTORS; i++) {
+            data.touch(i);
+            blackhole.consume(data.reports[i].get());
+        }
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ShiftRoster rosterSingleThread(Rostering data) {
+        return data.scheduler.solve(data.staff, data.single);
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ShiftRoster rosterCommonPool(Rostering data) {
+        return data.scheduler.solve(data.staff);
+    }
+}
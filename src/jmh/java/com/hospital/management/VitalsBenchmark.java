@@ -0,0 +1,162 @@
+package com.hospital.management;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CLASS: VitalsBenchmark
+ * Purpose: Nurse vitals cleaning and decoding (regexes vs scanners and the
+ *          VitalSigns state machine) and last-hour queries over a day of
+ *          readings per bed (boxed TreeMap vs VitalsStore rings)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VitalsBenchmark {
+    private static final int FIELDS = 60_000;
+    private static final int READINGS = FIELDS / 3;
+    private static final int BEDS = 500;
+    private static final int READINGS_PER_BED = 24 * 60;    // one reading a minute for a day
+    private static final long START = 1_700_000_000_000L, MINUTE = 60_000L;
+    private static final long LAST_HOUR = START + (READINGS_PER_BED - 60) * MINUTE;
+    
+    @State(Scope.Benchmark)
+    public static class Fields {
+        String[] fields;
+        String[] readings;
+        Nurse nurse;
+        
+        @Setup
+        public void setUp() {
+            fields = BenchmarkData.generateVitalFields(FIELDS);
+            readings = new String[READINGS];
+            for (int i = 0; i < readings.length; i++) {
+                readings[i] = fields[3 * i] + ", " + fields[3 * i + 1] + "F, " + fields[3 * i + 2] + "bpm";
+            }
+            nurse = new Nurse("bench nurse", "emp-2", "icu", "rn");
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class Reading {
+        final VitalSigns vitals = new VitalSigns();
+    }
+    
+    @State(Scope.Benchmark)
+    public static class Series {
+        VitalsStore store;
+        String[] bedIds;
+        java.util.List<java.util.TreeMap<Long, Float>> boxed;
+        
+        @Setup
+        public void setUp() {
+            store = new VitalsStore(READINGS_PER_BED);
+            bedIds = new String[BEDS];
+            boxed = new java.util.ArrayList<>();
+            VitalSigns vitals = new VitalSigns();
+            java.util.Random random = new java.util.Random(9);
+            for (int bed = 0; bed < BEDS; bed++) {
+                bedIds[bed] = "bed-" + bed;
+                java.util.TreeMap<Long, Float> series = new java.util.TreeMap<>();
+                for (int i = 0; i < READINGS_PER_BED; i++) {
+                    VitalSigns.parse((100 + random.nextInt(40)) + "/" + (60 + random.nextInt(20)) + ", "
+                                     + (60 + random.nextInt(40)) + "bpm", vitals);
+                    store.record(bedIds[bed], START + i * MINUTE, vitals);
+                    series.put(START + i * MINUTE, (float) vitals.getPulse());
+                }
+                boxed.add(series);
+            }
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class Buckets {
+        final VitalWindow window = new VitalWindow();
+        final float[] averages = new float[12], min = new float[12], max = new float[12];
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public void cleanAndValidateLegacy(Fields data, Blackhole blackhole) {
+        for (String field : data.fields) {
+            blackhole.consume(LegacyImplementations.nurseValidateData(LegacyImplementations.nurseCleanAndFormat(field)));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public void cleanAndValidateScanner(Fields data, Blackhole blackhole) {
+        for (String field : data.fields) {
+            blackhole.consume(data.nurse.validateData(data.nurse.cleanAndFormat(field)));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(READINGS)
+    public void decodeLegacy(Fields data, Blackhole blackhole) {
+        for (String reading : data.readings) {
+            blackhole.consume(LegacyImplementations.parseVitals(reading));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(READINGS)
+    public void decodeStateMachine(Fields data, Reading reading, Blackhole blackhole) {
+        for (String text : data.readings) {
+            blackhole.consume(data.nurse.parseVitals(text, reading.vitals));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BEDS)
+    public double lastHourBoxedTreeMap(Series data) {
+        double total = 0;
+        for (java.util.TreeMap<Long, Float> series : data.boxed) {
+            float lo = Float.MAX_VALUE, hi = -Float.MAX_VALUE, sum = 0;
+            java.util.Collection<Float> values = series.subMap(LAST_HOUR, true, Long.MAX_VALUE, true).values();
+            for (Float value : values) {
+                lo = Math.min(lo, value);
+                hi = Math.max(hi, value);
+                sum += value;
+            }
+            total += lo + hi + sum / values.size();
+        }
+        return total;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BEDS)
+    public double lastHourRing(Series data, Buckets buckets) {
+        double total = 0;
+        VitalWindow window = buckets.window;
+        for (String bedId : data.bedIds) {
+            data.store.summarize(bedId, VitalsStore.Vital.PULSE, LAST_HOUR, Long.MAX_VALUE, window);
+            total += window.getMin() + window.getMax() + window.getAverage();
+        }
+        return total;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BEDS)
+    public int lastHourFiveMinuteBuckets(Series data, Buckets buckets) {
+        int filled = 0;
+        for (String bedId : data.bedIds) {
+            filled += data.store.downsample(bedId, VitalsStore.Vital.PULSE, LAST_HOUR, 5 * MINUTE,
+                                            buckets.averages, buckets.min, buckets.max);
+        }
+        return filled;
+    }
+}
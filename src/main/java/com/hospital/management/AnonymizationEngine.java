@@ -0,0 +1,209 @@
+package com.hospital.management;
+
+/**
+ * CLASS: AnonymizationEngine
+ * Purpose: Rewrites sensitive data in one pass over the text, trying every
+ *          rule at each position (first rule in order wins)
+ * Demonstrates: Immutable engine, static factories, hand-written matchers,
+ *               String and streaming (Reader/Writer) entry points
+ * 
+ * The default rules give exactly the result of the former chain of four
+ * replaceAll calls: their matches are bounded by word boundaries and can
+ * never overlap each other, so applying them together or one after another
+ * is the same.
+ * 
+ * The streaming entry point holds at most MAX_LOOKAHEAD_CHARS (plus one read)
+ * of undecided text. A match that would need more lookahead than that (a
+ * 64K-letter capitalized word, say) is treated as no match there, where the
+ * String entry point would still find it.
+ */
+final class AnonymizationEngine {
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final int CONTEXT_CHARS = 2;   // kept before the scan point for \b checks
+    static final int MAX_LOOKAHEAD_CHARS = 64 * 1024;
+    
+    // BUILT-IN RULES (match \b[A-Z][a-z]+\s+[A-Z][a-z]+\b, \b\d{3}-\d{2}-\d{4}\b, ...)
+    static final AnonymizationRule FULL_NAME = new AnonymizationRule() {
+        public int matchAt(CharSequence text, int at, boolean endOfInput) {
+            if (!isBoundaryBefore(text, at)) return NO_MATCH;
+            int end = matchCapitalizedWord(text, at, endOfInput);
+            if (end < 0) return end;
+            int next = end;
+            while (next < text.length() && TextNormalizer.isWhitespace(text.charAt(next))) next++;
+            if (next == end) return NO_MATCH;
+            if (next == text.length()) return endOfInput ? NO_MATCH : NEEDS_MORE_INPUT;
+            end = matchCapitalizedWord(text, next, endOfInput);
+            if (end < 0) return end;
+            return boundaryAfter(text, end, endOfInput);
+        }
+        public String replacement() { return "*** ***"; }
+        public boolean mayStartWith(char c) { return c >= 'A' && c <= 'Z'; }
+        public String toString() { return "FULL_NAME"; }
+    };
+    
+    static final AnonymizationRule SSN = new AnonymizationRule() {
+        public int matchAt(CharSequence text, int at, boolean endOfInput) {
+            if (!isBoundaryBefore(text, at)) return NO_MATCH;
+            String shape = "ddd-dd-dddd";
+            for (int i = 0; i < shape.length(); i++) {
+                if (at + i == text.length()) return endOfInput ? NO_MATCH : NEEDS_MORE_INPUT;
+                char c = text.charAt(at + i);
+                boolean ok = shape.charAt(i) == 'd' ? (c >= '0' && c <= '9') : c == '-';
+                if (!ok) return NO_MATCH;
+            }
+            return boundaryAfter(text, at + shape.length(), endOfInput);
+        }
+        public String replacement() { return "***-**-****"; }
+        public boolean mayStartWith(char c) { return c >= '0' && c <= '9'; }
+        public String toString() { return "SSN"; }
+    };
+    
+    static final AnonymizationRule CARD_NUMBER = digitRun(16, "****************", "CARD_NUMBER");
+    static final AnonymizationRule PHONE_NUMBER = digitRun(10, "**********", "PHONE_NUMBER");
+    
+    private static final AnonymizationEngine DEFAULTS =
+        new AnonymizationEngine(java.util.List.of(FULL_NAME, SSN, CARD_NUMBER, PHONE_NUMBER));
+    
+    private final AnonymizationRule[] rules;
+    private final boolean[] asciiStartsRule = new boolean[128];   // can any rule start with c?
+    
+    private AnonymizationEngine(java.util.List<AnonymizationRule> rules) {
+        this.rules = rules.toArray(new AnonymizationRule[0]);
+        for (char c = 0; c < 128; c++) {
+            for (AnonymizationRule rule : this.rules) {
+                asciiStartsRule[c] |= rule.mayStartWith(c);
+            }
+        }
+    }
+    
+    // STATIC FACTORY METHODS
+    public static AnonymizationEngine defaults() {
+        return DEFAULTS;
+    }
+    
+    public static AnonymizationEngine of(java.util.List<AnonymizationRule> rules) {
+        return new AnonymizationEngine(rules);
+    }
+    
+    // Returns a new engine with the rule tried after the existing ones
+    public AnonymizationEngine withRule(AnonymizationRule rule) {
+        java.util.List<AnonymizationRule> all = new java.util.ArrayList<>(java.util.Arrays.asList(rules));
+        all.add(rule);
+        return new AnonymizationEngine(all);
+    }
+    
+    // PUBLIC METHODS
+    public String anonymize(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        scan(text, 0, true, false, out);
+        return out.toString();
+    }
+    
+    // Streams text through the engine; only a short carry-over stays in memory
+    public void anonymize(java.io.Reader in, java.io.Writer out) throws java.io.IOException {
+        StringBuilder window = new StringBuilder(STREAM_BUFFER_SIZE * 2);
+        StringBuilder output = new StringBuilder(STREAM_BUFFER_SIZE * 2);
+        char[] buffer = new char[STREAM_BUFFER_SIZE];
+        int pos = 0;
+        
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            window.append(buffer, 0, read);
+            pos = scan(window, pos, false, false, output);
+            // A rule that keeps asking for more input must not pull the whole stream into memory
+            while (window.length() - pos > MAX_LOOKAHEAD_CHARS) {
+                pos = scan(window, pos, false, true, output);
+            }
+            out.append(output);
+            output.setLength(0);
+            
+            // Drop what is done, keeping a little context for boundary checks
+            int keepFrom = Math.max(0, pos - CONTEXT_CHARS);
+            window.delete(0, keepFrom);
+            pos -= keepFrom;
+        }
+        scan(window, pos, true, false, output);
+        out.append(output);
+        out.flush();
+    }
+    
+    // Appends the rewritten text[from..] to out; returns where scanning stopped.
+    // With giveUpAtStart, a rule needing more input at 'from' counts as no match there.
+    private int scan(CharSequence text, int from, boolean endOfInput, boolean giveUpAtStart, StringBuilder out) {
+        int i = from;
+        int copyFrom = from;   // unchanged text is copied in runs, not char by char
+        scanning:
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c < 128 && !asciiStartsRule[c]) {
+                i++;
+                continue;
+            }
+            for (AnonymizationRule rule : rules) {
+                if (!rule.mayStartWith(c)) continue;
+                int end = rule.matchAt(text, i, endOfInput);
+                if (end == AnonymizationRule.NEEDS_MORE_INPUT) {
+                    if (giveUpAtStart && i == from) continue;
+                    break scanning;
+                }
+                if (end > i) {
+                    out.append(text, copyFrom, i).append(rule.replacement());
+                    i = end;
+                    copyFrom = end;
+                    continue scanning;
+                }
+            }
+            i++;
+        }
+        out.append(text, copyFrom, i);
+        return i;
+    }
+    
+    // PRIVATE HELPERS - shared by the built-in rules (word characters as in java.util.regex \b)
+    private static AnonymizationRule digitRun(int length, String replacement, String name) {
+        return new AnonymizationRule() {
+            public int matchAt(CharSequence text, int at, boolean endOfInput) {
+                if (!isBoundaryBefore(text, at)) return NO_MATCH;
+                int end = at;
+                while (end < text.length() && end - at <= length && isDigit(text.charAt(end))) end++;
+                if (end - at != length) {
+                    return (end == text.length() && end - at < length && !endOfInput) ? NEEDS_MORE_INPUT : NO_MATCH;
+                }
+                return boundaryAfter(text, end, endOfInput);
+            }
+            public String replacement() { return replacement; }
+            public boolean mayStartWith(char c) { return isDigit(c); }
+            public String toString() { return name; }
+        };
+    }
+    
+    // [A-Z][a-z]+ that must end at a non-lower-case character
+    private static int matchCapitalizedWord(CharSequence text, int at, boolean endOfInput) {
+        char first = text.charAt(at);
+        if (first < 'A' || first > 'Z') return AnonymizationRule.NO_MATCH;
+        int end = at + 1;
+        while (end < text.length() && text.charAt(end) >= 'a' && text.charAt(end) <= 'z') end++;
+        if (end == text.length() && !endOfInput) return AnonymizationRule.NEEDS_MORE_INPUT;
+        return end > at + 1 ? end : AnonymizationRule.NO_MATCH;
+    }
+    
+    private static int boundaryAfter(CharSequence text, int end, boolean endOfInput) {
+        if (end == text.length() || (end + 1 == text.length() && Character.isHighSurrogate(text.charAt(end)))) {
+            if (!endOfInput) return AnonymizationRule.NEEDS_MORE_INPUT;
+            if (end == text.length()) return end;
+        }
+        return isWord(Character.codePointAt(text, end)) ? AnonymizationRule.NO_MATCH : end;
+    }
+    
+    private static boolean isBoundaryBefore(CharSequence text, int at) {
+        return at == 0 || !isWord(Character.codePointBefore(text, at));
+    }
+    
+    private static boolean isWord(int codePoint) {
+        return codePoint == '_' || Character.isLetterOrDigit(codePoint);
+    }
+    
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
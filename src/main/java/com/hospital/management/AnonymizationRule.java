@@ -0,0 +1,25 @@
+package com.hospital.management;
+
+/**
+ * INTERFACE: AnonymizationRule
+ * Purpose: One kind of sensitive text (names, SSNs, ...) and its literal replacement
+ * Demonstrates: Interface constants, static factory method in an interface
+ */
+interface AnonymizationRule {
+    int NO_MATCH = -1;
+    int NEEDS_MORE_INPUT = -2;   // match could continue past the text seen so far
+    
+    // Returns the end index of a match starting exactly at 'at', NO_MATCH or NEEDS_MORE_INPUT
+    int matchAt(CharSequence text, int at, boolean endOfInput);
+    
+    String replacement();
+    
+    // Cheap pre-filter so most positions are skipped without calling matchAt
+    default boolean mayStartWith(char c) {
+        return true;
+    }
+    
+    static AnonymizationRule regex(String regex, String replacement) {
+        return new RegexAnonymizationRule(java.util.regex.Pattern.compile(regex), replacement);
+    }
+}
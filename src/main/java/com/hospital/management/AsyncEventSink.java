@@ -0,0 +1,251 @@
+package com.hospital.management;
+
+/**
+ * CLASS: AsyncEventSink
+ * Purpose: Buffers events in a lock-free ring and writes them from one background
+ *          thread as structured (logfmt) lines, flushing once per batch
+ * Demonstrates: Multi-producer ring buffer with per-slot publication sequences
+ *               (CAS to claim, release-store to publish), preallocated slots
+ *               (no allocation per event), overflow policy
+ * 
+ * Output line:  ts=<epoch ms> event=<TYPE> id=<id> role=<role> name="<name>" value=<n> detail="<text>" msg="<message>"
+ * When the ring is full, DROP discards the event (counted by getDropped()) and
+ * BLOCK parks the caller until the writer frees a slot. Events emitted after
+ * close() are not written; they are counted by getRejected().
+ * 
+ * The writer formats a whole drained run into one buffer, hands it to the Writer
+ * in a single append and flushes only once the ring has stayed empty for a short
+ * spin, so a steady stream costs one flush per burst rather than one per line.
+ */
+final class AsyncEventSink implements EventSink, java.io.Closeable {
+    enum Overflow { DROP, BLOCK }
+    
+    static final int DEFAULT_CAPACITY = 8_192;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final int IDLE_SPINS = 256;          // empty polls before flushing and parking
+    private static final int CHUNK_CHARS = 16 * 1_024;  // hand the Writer at most this much at once
+    private static final int BLOCK_YIELDS = 16;         // yields before a full-ring producer parks
+    
+    private final java.io.Writer out;
+    private final Overflow overflow;
+    private final int mask;
+    private final Thread writer;
+    
+    // Slot columns, indexed by sequence & mask
+    private final Type[] types;
+    private final String[] ids;
+    private final String[] names;
+    private final String[] roles;
+    private final int[] values;
+    private final String[] details;
+    private final long[] timestamps;
+    private final java.util.concurrent.atomic.AtomicLongArray published;   // sequence stored in each slot, -1 before first use
+    
+    private final java.util.concurrent.atomic.AtomicLong claimed = new java.util.concurrent.atomic.AtomicLong();
+    private final java.util.concurrent.atomic.LongAdder dropped = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder rejected = new java.util.concurrent.atomic.LongAdder();
+    private volatile long consumed;
+    private volatile long flushed;       // events handed to out and flushed
+    private volatile boolean flushRequested;
+    private volatile boolean running = true;
+    private volatile boolean stopped;    // set by the writer before its final drain
+    private volatile java.io.IOException failure;
+    
+    AsyncEventSink(java.io.Writer out, int capacity, Overflow overflow) {
+        if (Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("capacity must be a power of two");
+        this.out = out;
+        this.overflow = overflow;
+        this.mask = capacity - 1;
+        this.types = new Type[capacity];
+        this.ids = new String[capacity];
+        this.names = new String[capacity];
+        this.roles = new String[capacity];
+        this.values = new int[capacity];
+        this.details = new String[capacity];
+        this.timestamps = new long[capacity];
+        this.published = new java.util.concurrent.atomic.AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) published.set(i, -1);
+        this.writer = new Thread(this::writeLoop, "event-sink-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+    
+    // STATIC FACTORY METHODS
+    public static AsyncEventSink toStdout() {
+        return new AsyncEventSink(new java.io.OutputStreamWriter(System.out, java.nio.charset.StandardCharsets.UTF_8),
+                                  DEFAULT_CAPACITY, Overflow.BLOCK);
+    }
+    
+    // PUBLIC METHODS
+    public void emit(Type type, String staffId, String staffName, String role, int value, String detail) {
+        long sequence;
+        int waits = 0;
+        while (true) {
+            if (!running) {                            // closed: never claim a slot nobody will write
+                rejected.increment();
+                return;
+            }
+            sequence = claimed.get();
+            if (sequence - consumed > mask) {          // ring full: wake the writer
+                java.util.concurrent.locks.LockSupport.unpark(writer);
+                if (overflow == Overflow.DROP) {
+                    dropped.increment();
+                    return;
+                }
+                if (++waits <= BLOCK_YIELDS) {
+                    Thread.yield();
+                } else {
+                    java.util.concurrent.locks.LockSupport.parkNanos(10_000);
+                }
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) break;
+        }
+        int slot = (int) sequence & mask;
+        types[slot] = type;
+        ids[slot] = staffId;
+        names[slot] = staffName;
+        roles[slot] = role;
+        values[slot] = value;
+        details[slot] = detail;
+        timestamps[slot] = System.currentTimeMillis();
+        published.lazySet(slot, sequence);   // release: the fields above are visible first
+        if (stopped) confirmLate(sequence);
+    }
+    
+    public void flush() {
+        long target = claimed.get();
+        while (flushed < target && writer.isAlive()) {
+            flushRequested = true;
+            java.util.concurrent.locks.LockSupport.unpark(writer);
+            java.util.concurrent.locks.LockSupport.parkNanos(50_000);
+        }
+    }
+    
+    public long getDropped() {
+        return dropped.sum();
+    }
+    
+    // Events emitted after close() (or after the writer failed) that were not written
+    public long getRejected() {
+        return rejected.sum();
+    }
+    
+    // Writes what is buffered, then stops the writer (the underlying Writer stays open)
+    public void close() throws java.io.IOException {
+        running = false;
+        java.util.concurrent.locks.LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new java.io.InterruptedIOException("Interrupted while closing event sink");
+        }
+        if (failure != null) throw failure;
+    }
+    
+    // PRIVATE HELPER METHODS
+    
+    private void writeLoop() {
+        StringBuilder chunk = new StringBuilder(CHUNK_CHARS + 1_024);
+        long next = 0;
+        int idle = 0;
+        boolean unflushed = false;
+        try {
+            while (true) {
+                int slot = (int) next & mask;
+                while (published.get(slot) == next && chunk.length() < CHUNK_CHARS) {
+                    format(slot, chunk);
+                    // Drop references so the ring does not keep strings alive
+                    ids[slot] = names[slot] = roles[slot] = details[slot] = null;
+                    next++;
+                    slot = (int) next & mask;
+                }
+                if (chunk.length() > 0) {
+                    out.append(chunk);
+                    chunk.setLength(0);
+                    consumed = next;                   // free space for blocked producers
+                    unflushed = true;
+                    idle = 0;
+                    if (flushRequested) {
+                        flushThrough(next);
+                        unflushed = false;
+                    }
+                    continue;
+                }
+                if (next < claimed.get()) {            // claimed but not yet published
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (!running) {
+                    if (stopped) break;                // nothing arrived after the final check
+                    // Producers that claimed before seeing stopped are drained on the next pass;
+                    // later ones see stopped and settle via confirmLate()
+                    stopped = true;
+                    continue;
+                }
+                if (unflushed && (flushRequested || idle >= IDLE_SPINS)) {
+                    flushThrough(next);
+                    unflushed = false;
+                } else if (++idle < IDLE_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    java.util.concurrent.locks.LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            flushThrough(next);
+        } catch (java.io.IOException e) {
+            failure = e;
+            running = false;
+            stopped = true;
+        }
+    }
+    
+    private void flushThrough(long next) throws java.io.IOException {
+        flushRequested = false;
+        out.flush();
+        flushed = next;
+    }
+    
+    // A producer that published after the writer began stopping: wait for the writer
+    // to finish, then count the event if it was not written
+    private void confirmLate(long sequence) {
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        if (sequence >= consumed) rejected.increment();
+    }
+    
+    private void format(int slot, StringBuilder line) {
+        line.append("ts=").append(timestamps[slot])
+            .append(" event=").append(types[slot].name())
+            .append(" id=").append(ids[slot])
+            .append(" role=").append(roles[slot])
+            .append(" name=");
+        appendQuoted(line, names[slot]);
+        if (types[slot] == Type.PATIENT_ADDED) line.append(" value=").append(values[slot]);
+        if (details[slot] != null) {
+            line.append(" detail=");
+            appendQuoted(line, details[slot]);
+        }
+        line.append(" msg=");
+        appendQuoted(line, EventSink.message(types[slot], names[slot], roles[slot], values[slot], details[slot]));
+        line.append('\n');
+    }
+    
+    private static void appendQuoted(StringBuilder line, String text) {
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') line.append('\\');
+            line.append(c == '\n' ? ' ' : c);
+        }
+        line.append('"');
+    }
+}
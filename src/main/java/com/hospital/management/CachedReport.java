@@ -0,0 +1,49 @@
+package com.hospital.management;
+
+/**
+ * CLASS: CachedReport
+ * Purpose: Caches a Reportable's text for dashboards that poll it repeatedly
+ * Demonstrates: Version (dirty-flag) checks, immutable snapshot in a volatile field
+ * 
+ * The report is rendered again only when getReportVersion() has changed or the
+ * cached text is older than maxAge (which keeps the "Generated:" line fresh).
+ */
+final class CachedReport {
+    private final Reportable source;
+    private final long maxAgeNanos;
+    private volatile Snapshot snapshot;
+    
+    CachedReport(Reportable source, java.time.Duration maxAge) {
+        this.source = source;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+    
+    public String get() {
+        long version = source.getReportVersion();   // read before rendering, so a change
+        long now = System.nanoTime();               // made during rendering is seen next time
+        Snapshot current = snapshot;
+        if (current != null && version != Reportable.UNVERSIONED && current.version == version
+                && now - current.renderedAtNanos < maxAgeNanos) {
+            return current.text;
+        }
+        String text = source.generateReport();
+        snapshot = new Snapshot(version, now, text);
+        return text;
+    }
+    
+    public void invalidate() {
+        snapshot = null;
+    }
+    
+    private static final class Snapshot {
+        final long version;
+        final long renderedAtNanos;
+        final String text;
+        
+        Snapshot(long version, long renderedAtNanos, String text) {
+            this.version = version;
+            this.renderedAtNanos = renderedAtNanos;
+            this.text = text;
+        }
+    }
+}
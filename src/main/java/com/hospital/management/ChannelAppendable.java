@@ -0,0 +1,141 @@
+package com.hospital.management;
+
+/**
+ * CLASS: ChannelAppendable
+ * Purpose: Appendable that encodes straight into a byte channel, so reports can be
+ *          streamed to files or sockets without building Strings first
+ * Demonstrates: Per-thread buffer pooling, CharsetEncoder, static helpers
+ */
+final class ChannelAppendable implements Appendable, java.io.Flushable {
+    private static final int CHAR_BUFFER_SIZE = 4096;
+    private static final ThreadLocal<ChannelAppendable> POOL = ThreadLocal.withInitial(ChannelAppendable::new);
+    
+    private final java.nio.CharBuffer chars = java.nio.CharBuffer.allocate(CHAR_BUFFER_SIZE);
+    private final java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocate(CHAR_BUFFER_SIZE * 3);
+    private final java.nio.charset.CharsetEncoder encoder = java.nio.charset.StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(java.nio.charset.CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(java.nio.charset.CodingErrorAction.REPLACE);
+    private java.nio.channels.WritableByteChannel channel;   // non-null while in use
+    
+    private ChannelAppendable() {}
+    
+    // Reuses this thread's buffers; a nested call on the same thread gets fresh ones
+    static ChannelAppendable acquire(java.nio.channels.WritableByteChannel channel) {
+        ChannelAppendable out = POOL.get();
+        if (out.channel != null) {
+            out = new ChannelAppendable();
+        }
+        out.channel = channel;
+        return out;
+    }
+    
+    void release() {
+        channel = null;
+        chars.clear();
+        bytes.clear();
+        encoder.reset();
+    }
+    
+    // Writes several reports, one blank line apart (e.g. every doctor in the hospital)
+    static void writeAll(Iterable<? extends Reportable> reports, java.nio.channels.WritableByteChannel channel)
+            throws java.io.IOException {
+        ChannelAppendable out = acquire(channel);
+        try {
+            for (Reportable report : reports) {
+                report.writeReport(out);
+                out.append("\n\n");
+            }
+            out.flush();
+        } finally {
+            out.release();
+        }
+    }
+    
+    // INTERFACE METHOD IMPLEMENTATION (Appendable)
+    public Appendable append(CharSequence text) throws java.io.IOException {
+        return append(text == null ? "null" : text, 0, text == null ? 4 : text.length());
+    }
+    
+    public Appendable append(CharSequence text, int start, int end) throws java.io.IOException {
+        if (text == null) return append("null");
+        for (int i = start; i < end; i++) {
+            if (!chars.hasRemaining()) drain(false);
+            chars.put(text.charAt(i));
+        }
+        return this;
+    }
+    
+    public Appendable append(char c) throws java.io.IOException {
+        if (!chars.hasRemaining()) drain(false);
+        chars.put(c);
+        return this;
+    }
+    
+    // INTERFACE METHOD IMPLEMENTATION (Flushable)
+    public void flush() throws java.io.IOException {
+        drain(true);
+    }
+    
+    // STATIC HELPERS - numbers and dates without Integer.toString / LocalDate.toString
+    static void appendInt(Appendable out, int value) throws java.io.IOException {
+        if (value < 0) {
+            if (value == Integer.MIN_VALUE) {
+                out.append("-2147483648");
+                return;
+            }
+            out.append('-');
+            value = -value;
+        }
+        int divisor = 1;
+        while (value / divisor >= 10) divisor *= 10;
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + (value / divisor) % 10));
+        }
+    }
+    
+    // Same text as LocalDate.toString() for years 0-9999 (yyyy-MM-dd)
+    static void appendDate(Appendable out, java.time.LocalDate date) throws java.io.IOException {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            out.append(date.toString());
+            return;
+        }
+        appendPadded(out, date.getYear(), 4);
+        out.append('-');
+        appendPadded(out, date.getMonthValue(), 2);
+        out.append('-');
+        appendPadded(out, date.getDayOfMonth(), 2);
+    }
+    
+    // PRIVATE HELPER METHODS
+    private static void appendPadded(Appendable out, int value, int width) throws java.io.IOException {
+        for (int divisor = (int) Math.pow(10, width - 1); divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + (value / divisor) % 10));
+        }
+    }
+    
+    private void drain(boolean endOfInput) throws java.io.IOException {
+        chars.flip();
+        while (true) {
+            java.nio.charset.CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            if (result.isOverflow()) {
+                writeBytes();
+                continue;
+            }
+            if (endOfInput) {
+                while (encoder.flush(bytes).isOverflow()) writeBytes();
+                encoder.reset();
+            }
+            break;
+        }
+        chars.compact();   // keeps a dangling high surrogate for the next round
+        writeBytes();
+    }
+    
+    private void writeBytes() throws java.io.IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,67 @@
+package com.hospital.management;
+
+/**
+ * CLASS: CleaningBatchResult
+ * Purpose: Result of a parallel batch run over any DataCleanable - outputs in
+ *          input order plus the indices of records that failed validation
+ * Demonstrates: Immutable result object, ForkJoin parallelism via parallel streams
+ */
+final class CleaningBatchResult {
+    private final java.util.List<String> outputs;
+    private final java.util.List<Integer> invalidIndices;
+    
+    private CleaningBatchResult(java.util.List<String> outputs, java.util.List<Integer> invalidIndices) {
+        this.outputs = outputs;
+        this.invalidIndices = invalidIndices;
+    }
+    
+    // Each index is processed independently and written to its own slot, so order
+    // is preserved without any locking. Implementations must be thread-safe
+    // (Doctor, Nurse and PatientDataCleaner only read their fields).
+    static CleaningBatchResult process(DataCleanable cleaner, java.util.List<String> records,
+                                       java.util.function.UnaryOperator<String> operation,
+                                       java.util.concurrent.ForkJoinPool pool) {
+        String[] inputs = records.toArray(new String[0]);
+        String[] outputs = new String[inputs.length];
+        boolean[] valid = new boolean[inputs.length];
+        
+        Runnable work = () -> java.util.stream.IntStream.range(0, inputs.length).parallel().forEach(i -> {
+            valid[i] = cleaner.validateData(inputs[i]);
+            outputs[i] = operation.apply(inputs[i]);
+        });
+        // Running the parallel stream from inside the pool makes it use that pool
+        pool.submit(work).join();
+        
+        java.util.List<Integer> invalid = new java.util.ArrayList<>();
+        for (int i = 0; i < valid.length; i++) {
+            if (!valid[i]) invalid.add(i);
+        }
+        return new CleaningBatchResult(java.util.Arrays.asList(outputs),
+                                       java.util.Collections.unmodifiableList(invalid));
+    }
+    
+    // PUBLIC METHODS
+    public int size() {
+        return outputs.size();
+    }
+    
+    public String get(int index) {
+        return outputs.get(index);
+    }
+    
+    public java.util.List<String> getOutputs() {
+        return java.util.Collections.unmodifiableList(outputs);
+    }
+    
+    public boolean isValid(int index) {
+        return java.util.Collections.binarySearch(invalidIndices, index) < 0;
+    }
+    
+    public java.util.List<Integer> getInvalidIndices() {
+        return invalidIndices;
+    }
+    
+    public int getInvalidCount() {
+        return invalidIndices.size();
+    }
+}
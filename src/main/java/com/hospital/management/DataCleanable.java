@@ -0,0 +1,29 @@
+package com.hospital.management;
+
+/**
+ * INTERFACE: DataCleanable
+ * Purpose: Defines contract for cleaning and formatting data
+ * Demonstrates: Interface for data processing functionality
+ */
+interface DataCleanable {
+    String cleanAndFormat(String rawData);
+    boolean validateData(String data);
+    String standardizeFormat(String input);
+    
+    // DEFAULT METHODS - batch processing across all cores, output kept in input order
+    default CleaningBatchResult cleanBatch(java.util.List<String> records) {
+        return CleaningBatchResult.process(this, records, this::cleanAndFormat, java.util.concurrent.ForkJoinPool.commonPool());
+    }
+    
+    default CleaningBatchResult cleanBatch(java.util.stream.Stream<String> records) {
+        return cleanBatch(records.collect(java.util.stream.Collectors.toList()));
+    }
+    
+    default CleaningBatchResult standardizeBatch(java.util.List<String> records) {
+        return CleaningBatchResult.process(this, records, this::standardizeFormat, java.util.concurrent.ForkJoinPool.commonPool());
+    }
+    
+    default CleaningBatchResult standardizeBatch(java.util.List<String> records, java.util.concurrent.ForkJoinPool pool) {
+        return CleaningBatchResult.process(this, records, this::standardizeFormat, pool);
+    }
+}
@@ -0,0 +1,457 @@
+package com.hospital.management;
+
+/**
+ * CLASS: Doctor
+ * Purpose: Represents a doctor with medical specialization
+ * Demonstrates: Multiple interface implementation, final methods, 
+ *               data cleaning inheritance
+ * public
+ */
+class Doctor extends HospitalPersonnel implements MedicalProfessional, DataCleanable, Reportable {
+    // PRIVATE VARIABLES - encapsulated medical data
+    private String specialization;
+    private String medicalLicense;
+    private volatile boolean isOnCall;
+    private volatile int patientCount;   // only changed through PATIENT_COUNT (CAS)
+    private final Object onCallChange = new Object();   // held by updateOnCall through its commit
+    
+    // STATIC VARIABLES - shared across all Doctor instances
+    private static final java.util.concurrent.atomic.LongAdder totalDoctors =
+        new java.util.concurrent.atomic.LongAdder();
+    private static final int MAX_PATIENTS_PER_DOCTOR = 50;
+    private static final java.util.concurrent.atomic.AtomicIntegerFieldUpdater<Doctor> PATIENT_COUNT =
+        java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater(Doctor.class, "patientCount");
+    
+    // Tokens rewritten by cleanAndFormat ("n/a" cannot survive character filtering)
+    private static final String[] NULL_TOKENS = {"null", "nil", "na"};
+    
+    // Medical terms and blocklist shared by all doctors (replaceable at startup)
+    private static volatile MedicalTermDictionary termDictionary = MedicalTermDictionary.defaults();
+    private static volatile SpecializationIndex specializationIndex = SpecializationIndex.defaults();
+    
+    // Latency of the public cleaning/reporting API (see Metrics)
+    private static final Metrics.Timer CONSTRUCT_TIMER = Metrics.timer("Doctor", "construct");
+    private static final Metrics.Timer CLEAN_TIMER = Metrics.timer("Doctor", "cleanAndFormat");
+    private static final Metrics.Timer VALIDATE_TIMER = Metrics.timer("Doctor", "validateData");
+    private static final Metrics.Timer STANDARDIZE_TIMER = Metrics.timer("Doctor", "standardizeFormat");
+    private static final Metrics.Timer REPORT_TIMER = Metrics.timer("Doctor", "generateReport");
+    private static final Metrics.Counter REJECTED = Metrics.counter("Doctor", "validateData.rejected");
+    
+    // FINAL VARIABLE - constant specific to Doctor
+    public final String DEGREE = "MD";
+    
+    // CONSTRUCTOR
+    public Doctor(String name, String id, String department, String specialization, String license) {
+        this(CONSTRUCT_TIMER.start(), name, id, department, specialization, license);
+    }
+    
+    // Takes the start time first so the parent constructor's cleaning is timed too
+    private Doctor(long started, String name, String id, String department, String specialization, String license) {
+        super(name, id, department);  // Call parent constructor
+        this.specialization = canonicalSpecialization(specialization);
+        this.medicalLicense = formatLicense(license);
+        this.isOnCall = false;
+        this.patientCount = 0;
+        totalDoctors.increment();
+        CONSTRUCT_TIMER.recordSince(started);
+    }
+    
+    // PACKAGE-PRIVATE CONSTRUCTOR - restores a doctor without re-running the cleaning code
+    // (not counted in getTotalDoctors(); see StaffSnapshot.restoreInto())
+    Doctor(String name, String id, String department, long internalCode, String contactNumber,
+           String specialization, String license, int patientCount, boolean onCall) {
+        this(CONSTRUCT_TIMER.start(), name, id, department, internalCode, contactNumber,
+             specialization, license, patientCount, onCall);
+    }
+    
+    private Doctor(long started, String name, String id, String department, long internalCode,
+                   String contactNumber, String specialization, String license, int patientCount, boolean onCall) {
+        super(name, id, department, internalCode, contactNumber);
+        this.specialization = SymbolTable.SPECIALIZATIONS.canonical(specialization);
+        this.medicalLicense = license;
+        this.isOnCall = onCall;
+        this.patientCount = patientCount;
+        CONSTRUCT_TIMER.recordSince(started);
+    }
+    
+    // INTERFACE METHOD IMPLEMENTATION (MedicalProfessional)
+    public String getMedicalLicense() {
+        return medicalLicense;
+    }
+    
+    public void performDuty() {
+        emitEvent(EventSink.Type.ON_DUTY, 0, department);
+    }
+    
+    public boolean isAvailable() {
+        return !isOnCall && patientCount < MAX_PATIENTS_PER_DOCTOR;
+    }
+    
+    // INTERFACE METHOD IMPLEMENTATION (DataCleanable) - timed wrappers around the private bodies
+    public String cleanAndFormat(String rawData) {
+        long started = CLEAN_TIMER.start();
+        String cleaned = cleanNote(rawData);
+        CLEAN_TIMER.recordSince(started);
+        return cleaned;
+    }
+    
+    public boolean validateData(String data) {
+        long started = VALIDATE_TIMER.start();
+        boolean valid = isValidNote(data);
+        VALIDATE_TIMER.recordSince(started);
+        if (!valid) REJECTED.increment();
+        return valid;
+    }
+    
+    public String standardizeFormat(String input) {
+        long started = STANDARDIZE_TIMER.start();
+        String record = standardizeNote(input);
+        STANDARDIZE_TIMER.recordSince(started);
+        return record;
+    }
+    
+    private String cleanNote(String rawData) {
+        if (rawData == null || TextNormalizer.isBlank(rawData)) {
+            return "INVALID_DATA";
+        }
+        
+        int start = 0;
+        int end = rawData.length();
+        while (start < end && rawData.charAt(start) <= ' ') start++;
+        while (end > start && rawData.charAt(end - 1) <= ' ') end--;
+        
+        // Single pass: collapse whitespace, drop disallowed characters, and fix up
+        // each word as soon as it is complete (null tokens, medical terms)
+        StringBuilder result = new StringBuilder(end - start);
+        int wordStart = -1;
+        int i = start;
+        while (i < end) {
+            char c = rawData.charAt(i++);
+            if (isAsciiLetterOrDigit(c)) {
+                if (wordStart < 0) wordStart = result.length();
+                result.append(c);
+            } else if (TextNormalizer.isWhitespace(c)) {
+                finishWord(result, wordStart);
+                wordStart = -1;
+                result.append(' ');
+                while (i < end && TextNormalizer.isWhitespace(rawData.charAt(i))) i++;
+            } else if (c == '.' || c == ',' || c == '-') {
+                finishWord(result, wordStart);
+                wordStart = -1;
+                result.append(c);
+            }
+            // Any other character is dropped and does not end the current word
+        }
+        finishWord(result, wordStart);
+        
+        return result.toString();
+    }
+    
+    private boolean isValidNote(String data) {
+        if (data == null || data.trim().isEmpty()) {
+            return false;
+        }
+        
+        // Check for suspicious patterns (one scan, whatever the blocklist size)
+        if (termDictionary.containsBlockedPattern(data)) {
+            return false;
+        }
+        
+        // Valid data should have meaningful length
+        return data.trim().length() > 2 && data.trim().length() < 1000;
+    }
+    
+    private String standardizeNote(String input) {
+        // Untimed bodies: one standardizeFormat call is one sample, not three
+        if (!isValidNote(input)) {
+            return cleanNote("Invalid input detected");
+        }
+        
+        // Medical record standardization
+        String standardized = cleanNote(input);
+        
+        // Add timestamp and doctor info
+        String timestamp = java.time.LocalDateTime.now().toString();
+        return "MEDICAL_RECORD | Doctor: " + name + 
+               " | License: " + medicalLicense.substring(0, Math.min(8, medicalLicense.length())) + 
+               " | Time: " + timestamp + " | Data: " + standardized;
+    }
+    
+    // Cleans the note and adds it to the index; returns its id, or -1 if the note is invalid
+    public int indexNote(NoteIndex index, String rawNote) {
+        if (!validateData(rawNote)) return -1;
+        return index.add(cleanAndFormat(rawNote));
+    }
+    
+    // INTERFACE METHOD IMPLEMENTATION (Reportable)
+    public String generateReport() {
+        long started = REPORT_TIMER.start();
+        StringBuilder report = new StringBuilder(256);
+        try {
+            writeReport(report);
+        } catch (java.io.IOException e) {
+            throw new java.io.UncheckedIOException(e);   // StringBuilder never throws
+        }
+        String text = report.toString();
+        REPORT_TIMER.recordSince(started);
+        return text;
+    }
+    
+    // Appends the report piece by piece - no intermediate Strings
+    public void writeReport(Appendable out) throws java.io.IOException {
+        out.append(getReportHeader()).append('\n')   // Using default method
+           .append("Doctor Report\n")
+           .append("-------------\n")
+           .append("Name: ").append(name).append('\n')
+           .append("ID: ").append(id).append('\n')
+           .append("Department: ").append(department).append('\n')
+           .append("Specialization: ").append(specialization).append('\n')
+           .append("License: ").append(medicalLicense).append('\n')
+           .append("Patients: ");
+        ChannelAppendable.appendInt(out, patientCount);
+        out.append('/');
+        ChannelAppendable.appendInt(out, MAX_PATIENTS_PER_DOCTOR);
+        out.append('\n')
+           .append("Available: ").append(isAvailable() ? "Yes" : "No").append('\n')
+           .append("Generated: ");
+        ChannelAppendable.appendDate(out, java.time.LocalDate.now());
+    }
+    
+    public long getReportVersion() {
+        return getStateVersion();
+    }
+    
+    // ABSTRACT METHOD IMPLEMENTATION (from HospitalPersonnel)
+    public String getRole() {
+        return "Doctor";
+    }
+    
+    // PUBLIC METHODS
+    public void addPatient() {
+        int total = reservePatientSlot();
+        if (total > 0) {
+            emitEvent(EventSink.Type.PATIENT_ADDED, total, null);
+        } else {
+            emitEvent(EventSink.Type.PATIENT_REJECTED, 0, null);
+        }
+    }
+    
+    // Thread-safe, silent variant for concurrent admission desks
+    public boolean tryAddPatient() {
+        return reservePatientSlot() > 0;
+    }
+    
+    public boolean dischargePatient() {
+        if (!isJournaling()) return decrementPatientCount();
+        long sequence;
+        java.util.concurrent.locks.Lock gate = changeGate();
+        gate.lock();
+        try {
+            synchronized (this) {
+                if (!decrementPatientCount()) return false;
+                sequence = appendChange(StaffJournal.PATIENT_DISCHARGED, null, this::undoDischarge);
+            }
+        } finally {
+            gate.unlock();
+        }
+        commitChange(sequence, this::undoDischarge);
+        return true;
+    }
+    
+    public void setOnCall(boolean onCall) {
+        updateOnCall(onCall);
+        if (onCall) {
+            emitEvent(EventSink.Type.ON_CALL, 0, null);
+        }
+    }
+    
+    // PACKAGE-PRIVATE - the silent part of setOnCall, also used by journal replay.
+    // One on-call change at a time runs through its commit, so if the commit fails
+    // the undo restores the value this change replaced, not one a racing change set.
+    void updateOnCall(boolean onCall) {
+        synchronized (onCallChange) {
+            Runnable undo;
+            long sequence;
+            java.util.concurrent.locks.Lock gate = changeGate();
+            gate.lock();
+            try {
+                synchronized (this) {
+                    boolean previous = this.isOnCall;
+                    this.isOnCall = onCall;
+                    notifyAvailabilityChanged();
+                    undo = () -> {
+                        this.isOnCall = previous;
+                        notifyAvailabilityChanged();
+                    };
+                    sequence = appendChange(onCall ? StaffJournal.ON_CALL : StaffJournal.OFF_CALL, null, undo);
+                }
+            } finally {
+                gate.unlock();
+            }
+            commitChange(sequence, undo);
+        }
+    }
+    
+    // STATIC METHODS
+    public static int getTotalDoctors() {
+        return totalDoctors.intValue();
+    }
+    
+    // PACKAGE-PRIVATE - restored doctors are counted from the snapshot, not by their constructor
+    static void addRestoredDoctors(int count) {
+        totalDoctors.add(count);
+    }
+    
+    public static void useTermDictionary(MedicalTermDictionary dictionary) {
+        termDictionary = (dictionary == null) ? MedicalTermDictionary.defaults() : dictionary;
+    }
+    
+    public static void useSpecializationIndex(SpecializationIndex index) {
+        specializationIndex = (index == null) ? SpecializationIndex.defaults() : index;
+    }
+    
+    public static void displayDoctorStats() {
+        System.out.println("=== DOCTOR STATISTICS ===");
+        System.out.println("Total Doctors: " + totalDoctors.sum());
+        System.out.println("Max Patients per Doctor: " + MAX_PATIENTS_PER_DOCTOR);
+    }
+    
+    public int getPatientCount() {
+        return patientCount;
+    }
+    
+    public boolean isOnCall() {
+        return isOnCall;
+    }
+    
+    // FINAL METHOD - cannot be overridden
+    public final String getSpecialization() {
+        return specialization;
+    }
+    
+    // PACKAGE-PRIVATE STATIC - data cleaning for specialization, e.g. "heart" -> "CARDIOLOGY"
+    // Returns the shared instance for the cleaned value
+    static String canonicalSpecialization(String spec) {
+        if (spec == null || TextNormalizer.isBlank(spec)) {
+            return "GENERAL_PRACTICE";
+        }
+        
+        // Map common variations, prefixes and typos to standard terms (shared index, no per-call map)
+        String canonical = specializationIndex.resolve(spec);
+        return SymbolTable.SPECIALIZATIONS.canonical(canonical != null ? canonical : SpecializationIndex.normalize(spec));
+    }
+    
+    // PRIVATE HELPER METHOD - lock-free capacity reservation.
+    // Returns the new patient count, or -1 if the doctor is full.
+    // With a journal in use, the change and its journal entry are made under this
+    // doctor's lock so replay sees admissions and discharges in the same order.
+    private int reservePatientSlot() {
+        if (!isJournaling()) return incrementPatientCount();
+        int total;
+        long sequence;
+        java.util.concurrent.locks.Lock gate = changeGate();
+        gate.lock();
+        try {
+            synchronized (this) {
+                total = incrementPatientCount();
+                if (total < 0) return -1;
+                sequence = appendChange(StaffJournal.PATIENT_ADDED, null, this::undoAdmission);
+            }
+        } finally {
+            gate.unlock();
+        }
+        commitChange(sequence, this::undoAdmission);
+        return total;
+    }
+    
+    private int incrementPatientCount() {
+        int current;
+        do {
+            current = patientCount;
+            if (current >= MAX_PATIENTS_PER_DOCTOR) {
+                return -1;
+            }
+        } while (!PATIENT_COUNT.compareAndSet(this, current, current + 1));
+        notifyCountChanged(current + 1 == MAX_PATIENTS_PER_DOCTOR);
+        return current + 1;
+    }
+    
+    private boolean decrementPatientCount() {
+        int current;
+        do {
+            current = patientCount;
+            if (current == 0) {
+                return false;
+            }
+        } while (!PATIENT_COUNT.compareAndSet(this, current, current - 1));
+        notifyCountChanged(current == MAX_PATIENTS_PER_DOCTOR);
+        return true;
+    }
+    
+    // Undo steps for changes the journal could not record
+    private void undoAdmission() {
+        notifyCountChanged(PATIENT_COUNT.decrementAndGet(this) == MAX_PATIENTS_PER_DOCTOR - 1);
+    }
+    
+    private void undoDischarge() {
+        notifyCountChanged(PATIENT_COUNT.incrementAndGet(this) == MAX_PATIENTS_PER_DOCTOR);
+    }
+    
+    // Only filling up or leaving full changes availability, so only then is the registry
+    // (and its lock) involved; every other admission stays lock-free. The registry reads
+    // the current count, so racing flips leave it matching the last one.
+    private void notifyCountChanged(boolean crossedCapacity) {
+        if (crossedCapacity) {
+            notifyAvailabilityChanged();
+        } else {
+            notifyStateChanged();
+        }
+    }
+    
+    // PRIVATE HELPER METHODS - word fix-ups for cleanAndFormat
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+    
+    // Rewrites the word result[wordStart..] in place if it is a null token or a medical term
+    private static void finishWord(StringBuilder result, int wordStart) {
+        if (wordStart < 0) return;
+        int length = result.length() - wordStart;
+        
+        for (String token : NULL_TOKENS) {
+            if (wordEquals(result, wordStart, length, token)) {
+                result.replace(wordStart, result.length(), "UNKNOWN");
+                return;
+            }
+        }
+        if (termDictionary.isMedicalTerm(result, wordStart, result.length())) {
+            for (int i = wordStart; i < result.length(); i++) {
+                result.setCharAt(i, Character.toUpperCase(result.charAt(i)));
+            }
+        }
+    }
+    
+    private static boolean wordEquals(StringBuilder sb, int from, int length, String word) {
+        if (length != word.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (sb.charAt(from + i) != word.charAt(i)) return false;
+        }
+        return true;
+    }
+    
+    // PRIVATE HELPER METHOD - license formatting
+    private String formatLicense(String license) {
+        if (license == null || license.trim().isEmpty()) {
+            return "LICENSE_PENDING";
+        }
+        
+        String cleaned = license.trim().toUpperCase().replaceAll("[^A-Z0-9]", "");
+        
+        if (cleaned.length() < 6) {
+            return "INVALID_" + cleaned;
+        }
+        
+        // Format: MD-XXX-XXXX
+        return "MD-" + cleaned.substring(0, 3) + "-" + cleaned.substring(3);
+    }
+}
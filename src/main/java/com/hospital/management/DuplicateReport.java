@@ -0,0 +1,59 @@
+package com.hospital.management;
+
+/**
+ * CLASS: DuplicateReport
+ * Purpose: Result of PatientDeduplicator - which input record each record duplicates
+ * Demonstrates: Immutable result object over a primitive array
+ */
+final class DuplicateReport {
+    private final int[] representative;   // index of the first record of each record's group
+    private final long comparisons;
+    
+    DuplicateReport(int[] representative, long comparisons) {
+        this.representative = representative;
+        this.comparisons = comparisons;
+    }
+    
+    public int size() {
+        return representative.length;
+    }
+    
+    // Index of the earliest record this one duplicates (itself if it is unique or first)
+    public int getRepresentative(int index) {
+        return representative[index];
+    }
+    
+    public boolean isDuplicate(int index) {
+        return representative[index] != index;
+    }
+    
+    // Records that can be dropped, keeping the first of each group
+    public int getDuplicateCount() {
+        int count = 0;
+        for (int i = 0; i < representative.length; i++) {
+            if (representative[i] != i) count++;
+        }
+        return count;
+    }
+    
+    // Groups of two or more record indices, each in input order, ordered by first record
+    public java.util.List<int[]> getGroups() {
+        // A representative is always smaller than its members, so it is added first
+        java.util.Map<Integer, java.util.List<Integer>> groups = new java.util.TreeMap<>();
+        for (int i = 0; i < representative.length; i++) {
+            if (representative[i] != i) {
+                groups.computeIfAbsent(representative[i], r -> new java.util.ArrayList<>(java.util.List.of(r))).add(i);
+            }
+        }
+        java.util.List<int[]> result = new java.util.ArrayList<>(groups.size());
+        for (java.util.List<Integer> group : groups.values()) {
+            result.add(group.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return result;
+    }
+    
+    // Pairs actually scored - compare with n * (n - 1) / 2 for all pairs
+    public long getComparisonCount() {
+        return comparisons;
+    }
+}
@@ -0,0 +1,42 @@
+package com.hospital.management;
+
+/**
+ * INTERFACE: EventSink
+ * Purpose: Receives the structured events staff emit (admissions, duty, on-call,
+ *          ward assignments) instead of each method printing to stdout itself
+ * 
+ * The default console() sink prints each event's message synchronously, exactly as
+ * the methods used to. AsyncEventSink moves formatting and I/O to a background
+ * writer so concurrent callers do not queue on the stdout lock.
+ */
+interface EventSink {
+    enum Type { PATIENT_ADDED, PATIENT_REJECTED, ON_CALL, ON_DUTY, WARD_ASSIGNED, WARD_REJECTED }
+    
+    // value: patient total for PATIENT_ADDED (0 otherwise); detail: ward or department, may be null
+    void emit(Type type, String staffId, String staffName, String role, int value, String detail);
+    
+    // Blocks until every event emitted so far has been written
+    default void flush() {}
+    
+    // STATIC FACTORY METHOD
+    static EventSink console() {
+        return (type, staffId, staffName, role, value, detail) ->
+            System.out.println(message(type, staffName, role, value, detail));
+    }
+    
+    // The human-readable text for an event (what the console sink prints)
+    static String message(Type type, String staffName, String role, int value, String detail) {
+        switch (type) {
+            case PATIENT_ADDED: return "Patient added. Total: " + value;
+            case PATIENT_REJECTED: return "Cannot add more patients. Maximum reached.";
+            case ON_CALL: return "Dr. " + staffName + " is now on call duty";
+            case ON_DUTY:
+                return "Doctor".equals(role)
+                    ? "Dr. " + staffName + " is performing medical duties in " + detail
+                    : "Nurse " + staffName + " is providing patient care";
+            case WARD_ASSIGNED: return staffName + " assigned to " + detail;
+            case WARD_REJECTED: return "Cannot assign to more wards";
+            default: throw new IllegalArgumentException("Unknown event type " + type);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * HOSPITAL MANAGEMENT SYSTEM
+ * Demonstrates: Packages, Interfaces, Modifiers, and Data Cleaning/Formatting
+ * 
+ * Key Features:
+ * 1. Data validation and cleaning for medical records
+ * 2. Proper use of access modifiers (public, private, protected, package)
+ * 3. Interface-based design for extensibility
+ * 4. Static and final variables for constants
+ * 5. Abstract classes for common hospital personnel
+ */
+
+// PACKAGE DECLARATION - organizes hospital-related classes
+package com.hospital.management;
+
+/**
+ * CLASS: HospitalManagementApp
+ * Purpose: Demonstrates hospital management with data cleaning
+ * Demonstrates: All concepts from notes in practical application
+ */
+public class HospitalManagementApp {
+    public static void main(String[] args) {
+        System.out.println("=== HOSPITAL MANAGEMENT SYSTEM ===\n");
+        
+        // Display hospital info using static method
+        System.out.println(HospitalPersonnel.getHospitalInfo());
+        System.out.println();
+        
+        // Create doctors with messy input data
+        System.out.println("=== CREATING DOCTORS WITH DATA CLEANING ===");
+        Doctor doctor1 = new Doctor(
+            "  john   doe  ",      // Messy name
+            "emp-123a",           // Inconsistent ID
+            "emergency room",     // Department
+            " cardiology ",       // Specialization
+            "md123456"           // License
+        );
+        
+        Doctor doctor2 = new Doctor(
+            "mary-smith",         // Name with hyphen
+            "xyz789",             // ID without prefix
+            "ICU",               // Department abbreviation
+            "neurology",         // Specialization
+            "neuro7890"          // License
+        );
+        
+        // Create nurse (same package, can access package-private class)
+        Nurse nurse1 = new Nurse(
+            "sarah jones  ",
+            "nur-456",
+            "Pediatrics",
+            "RN"
+        );
+        
+        // Demonstrate cleaned data
+        System.out.println("\n=== CLEANED DATA DEMONSTRATION ===");
+        System.out.println("Doctor 1 Name (cleaned): " + doctor1.getName());
+        System.out.println("Doctor 1 ID (formatted): " + doctor1.getId());
+        System.out.println("Doctor 1 License: " + doctor1.getMedicalLicense());
+        System.out.println("Doctor 2 Specialization: " + doctor2.getSpecialization());
+        
+        // Demonstrate data cleaning interface
+        System.out.println("\n=== DATA CLEANING DEMONSTRATION ===");
+        
+        // Raw, messy patient data
+        String messyPatientData = """
+            name: john   doe
+            age: 35
+            condition:   high blood pressure
+            notes: patient has covid symptoms, needs mri
+            vitals: 120/80,  98.6f,  60bpm
+            """;
+        
+        System.out.println("Raw Data:\n" + messyPatientData);
+        System.out.println("\nCleaned by Doctor:");
+        String cleanedByDoctor = doctor1.cleanAndFormat(messyPatientData);
+        System.out.println(cleanedByDoctor);
+        
+        System.out.println("\nStandardized Format:");
+        String standardized = doctor1.standardizeFormat(messyPatientData);
+        System.out.println(standardized);
+        
+        // Demonstrate PatientDataCleaner utility
+        System.out.println("\n=== PATIENT DATA CLEANER UTILITY ===");
+        PatientDataCleaner cleaner = PatientDataCleaner.getInstance();
+        
+        String messyRecord = """
+            PATIENT RECORD
+            Name: Alice Johnson
+            Age: 45
+            Condition: Fractured arm
+            SSN: 123-45-6789
+            Phone: 5551234567
+            Notes: Needs surgery ASAP!!!
+            """;
+        
+        System.out.println("Original Record:\n" + messyRecord);
+        System.out.println("\nAnonymized:\n" + PatientDataCleaner.anonymizeData(messyRecord));
+        System.out.println("\nCleaned and Formatted:\n" + cleaner.standardizeFormat(messyRecord));
+        
+        // Demonstrate interface references and polymorphism
+        System.out.println("\n=== INTERFACE POLYMORPHISM ===");
+        MedicalProfessional[] staff = {doctor1, doctor2, nurse1};
+        
+        for (MedicalProfessional professional : staff) {
+            System.out.println("\n" + professional.getClass().getSimpleName() + ":");
+            System.out.println("License: " + professional.getMedicalLicense());
+            professional.performDuty();
+            System.out.println("Available: " + professional.isAvailable());
+        }
+        
+        // Demonstrate Reportable interface
+        System.out.println("\n=== GENERATING REPORTS ===");
+        Reportable reportableDoctor = doctor1;
+        System.out.println(reportableDoctor.generateReport());
+        
+        // Demonstrate static methods and variables
+        System.out.println("\n=== STATIC DATA ===");
+        Doctor.displayDoctorStats();
+        System.out.println("Total Doctors: " + Doctor.getTotalDoctors());
+        System.out.println("Max Work Hours: " + HospitalPersonnel.MAX_WORK_HOURS);
+        
+        // Demonstrate access control
+        System.out.println("\n=== ACCESS CONTROL DEMONSTRATION ===");
+        
+        // Public access - works
+        System.out.println("Public access - Doctor name: " + doctor1.getName());
+        
+        // Protected access via public method - works
+        System.out.println("Doctor department: " + doctor1.getDepartment());
+        
+        // Package-private access (Nurse in same package) - works
+        nurse1.assignToWard("Ward A");
+        
+        // Private access - compilation error if attempted directly
+        // doctor1.internalCode; // Would not compile!
+        
+        // Demonstrate final variables and methods
+        System.out.println("\n=== FINAL ELEMENTS ===");
+        System.out.println("Doctor degree (final): " + doctor1.DEGREE);
+        System.out.println("Doctor specialization (final method): " + doctor1.getSpecialization());
+        System.out.println("Hospital name (static final): " + HospitalPersonnel.HOSPITAL_NAME);
+        
+        // Demonstrate data validation
+        System.out.println("\n=== DATA VALIDATION ===");
+        System.out.println("Valid '120/80': " + nurse1.validateData("120/80"));
+        System.out.println("Invalid 'test': " + nurse1.validateData("test"));
+        System.out.println("Valid patient data: " + cleaner.validateData("name: test\nage: 30\ncondition: fever"));
+        
+        // Add patients to demonstrate instance methods
+        System.out.println("\n=== PATIENT MANAGEMENT ===");
+        doctor1.addPatient();
+        doctor1.addPatient();
+        doctor1.setOnCall(true);
+        
+        // Show updated availability
+        System.out.println("Doctor 1 available: " + doctor1.isAvailable());
+    }
+}
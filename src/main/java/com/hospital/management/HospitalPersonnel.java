@@ -0,0 +1,247 @@
+package com.hospital.management;
+
+/**
+ * ABSTRACT CLASS: HospitalPersonnel
+ * Purpose: Base class for all hospital staff with common attributes
+ * Demonstrates: Abstract class, protected fields, package-private access
+ */
+abstract class HospitalPersonnel {
+    // PROTECTED: Accessible in this class and subclasses
+    protected String name;
+    protected String id;
+    protected String department;
+    
+    // PACKAGE-PRIVATE: Accessible only within same package
+    String hireDate;
+    
+    // PRIVATE: Only accessible within this class
+    private final long internalCode;          // rendered to text only when asked for
+    private String renderedInternalCode;
+    private String contactNumber;
+    private volatile StaffRegistry registry;   // registry to notify when availability changes
+    private static volatile StaffJournal journal;   // null = state changes are not journaled
+    private static volatile EventSink eventSink = EventSink.console();
+    private final java.util.concurrent.atomic.AtomicLong stateVersion = new java.util.concurrent.atomic.AtomicLong();
+    
+    // Journaled changes hold the read side from the in-memory change until their
+    // journal append; StaffSnapshot holds the write side while it captures state,
+    // so the journal sequence it records matches exactly what it captured
+    private static final java.util.concurrent.locks.ReentrantReadWriteLock CHANGE_GATE =
+        new java.util.concurrent.locks.ReentrantReadWriteLock();
+    
+    // STATIC FINAL: Class constants
+    public static final String HOSPITAL_NAME = "City General Hospital";
+    protected static final int MAX_WORK_HOURS = 48;
+    private static final String HOSPITAL_CODE = "CGH-2024";
+    
+    // CONSTRUCTOR - protected so only subclasses can use directly
+    protected HospitalPersonnel(String name, String id, String department) {
+        this.name = cleanName(name);          // Data cleaning on input
+        this.id = formatId(id);               // Data formatting
+        this.department = canonicalDepartment(department);
+        this.internalCode = generateInternalCode();
+    }
+    
+    // PACKAGE-PRIVATE CONSTRUCTOR - restores already-cleaned data (e.g. from a snapshot)
+    HospitalPersonnel(String name, String id, String department, long internalCode, String contactNumber) {
+        this.name = name;
+        this.id = id;
+        this.department = SymbolTable.DEPARTMENTS.canonical(department);
+        this.internalCode = internalCode;
+        this.contactNumber = contactNumber;
+    }
+    
+    // ABSTRACT METHOD - must be implemented by subclasses
+    public abstract String getRole();
+    
+    // PUBLIC METHODS - accessible from anywhere
+    public String getName() {
+        return name;
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public String getDepartment() {
+        return department;
+    }
+    
+    // PROTECTED METHODS - accessible in subclasses
+    protected void setContactNumber(String number) {
+        this.contactNumber = formatPhoneNumber(number);
+    }
+    
+    protected String getContactNumber() {
+        return contactNumber;
+    }
+    
+    // Format: CGH-2024-<id>-<code>, built on first use
+    protected String getInternalCode() {
+        String rendered = renderedInternalCode;
+        if (rendered == null) {
+            rendered = HOSPITAL_CODE + "-" + id + "-" + internalCode;
+            renderedInternalCode = rendered;
+        }
+        return rendered;
+    }
+    
+    protected long getInternalCodeValue() {
+        return internalCode;
+    }
+    
+    // Subclasses call this after changing anything their report depends on (lock-free)
+    protected void notifyStateChanged() {
+        stateVersion.incrementAndGet();
+    }
+    
+    // ... or this instead when isAvailable() may have changed too; it takes the registry's lock
+    protected void notifyAvailabilityChanged() {
+        notifyStateChanged();
+        StaffRegistry current = registry;
+        if (current != null) {
+            current.availabilityChanged(this);
+        }
+    }
+    
+    public long getStateVersion() {
+        return stateVersion.get();
+    }
+    
+    // Journal that admissions, on-call changes and ward assignments are written to (null to stop)
+    public static void useJournal(StaffJournal target) {
+        journal = target;
+    }
+    
+    static StaffJournal getJournal() {
+        return journal;
+    }
+    
+    static java.util.concurrent.locks.Lock changeGate() {
+        return CHANGE_GATE.readLock();
+    }
+    
+    static java.util.concurrent.locks.Lock snapshotGate() {
+        return CHANGE_GATE.writeLock();
+    }
+    
+    // Where admission, duty and ward events go (null restores the synchronous console sink)
+    public static void useEventSink(EventSink sink) {
+        eventSink = (sink == null) ? EventSink.console() : sink;
+    }
+    
+    protected void emitEvent(EventSink.Type type, int value, String detail) {
+        eventSink.emit(type, id, name, getRole(), value, detail);
+    }
+    
+    protected static boolean isJournaling() {
+        return journal != null;
+    }
+    
+    /**
+     * Journaled changes are made in two steps so the journal order matches the
+     * order the changes were applied in, without holding a lock during the fsync:
+     *   changeGate() held: synchronized (this) { change; sequence = appendChange(...); }
+     *   commitChange(sequence, undo);
+     * If either step fails the change is undone and the exception rethrown, except
+     * when the journal cannot tell whether the change reached disk (see StaffJournal).
+     */
+    protected long appendChange(byte type, String detail, Runnable undo) {
+        StaffJournal current = journal;
+        if (current == null) return -1;
+        try {
+            return current.append(type, id, detail);
+        } catch (java.io.UncheckedIOException | IllegalStateException e) {
+            undo.run();
+            throw e;
+        }
+    }
+    
+    protected void commitChange(long sequence, Runnable undo) {
+        StaffJournal current = journal;
+        if (sequence < 0 || current == null) return;
+        try {
+            current.commit(sequence);
+        } catch (java.io.UncheckedIOException e) {
+            synchronized (this) {
+                undo.run();
+            }
+            throw e;
+        }
+    }
+    
+    // PACKAGE-PRIVATE - managed by StaffRegistry
+    void attachRegistry(StaffRegistry registry) {
+        this.registry = registry;
+    }
+    
+    StaffRegistry getRegistry() {
+        return registry;
+    }
+    
+    // PRIVATE METHODS - data cleaning/formatting helpers (encapsulated)
+    private String cleanName(String rawName) {
+        if (rawName == null || TextNormalizer.isBlank(rawName)) {
+            return "UNKNOWN";
+        }
+        // Remove extra spaces, capitalize first letters (single pass)
+        return TextNormalizer.titleCaseWords(rawName);
+    }
+    
+    private String formatId(String rawId) {
+        if (rawId == null || TextNormalizer.isBlank(rawId)) {
+            return "ID-UNASSIGNED";
+        }
+        // Format: Remove non-alphanumeric, ensure uppercase
+        String cleaned = TextNormalizer.upperAlphanumericDash(rawId);
+        if (!cleaned.startsWith("EMP-")) {
+            cleaned = "EMP-" + cleaned;
+        }
+        return cleaned;
+    }
+    
+    // PACKAGE-PRIVATE STATIC - also used to build lookup keys, e.g. "er" -> "EMERGENCY_ROOM"
+    // Returns the shared instance, so every person in a department holds the same String
+    static String canonicalDepartment(String dept) {
+        // Standardize department names
+        if (dept == null) return SymbolTable.DEPARTMENTS.canonical("GENERAL");
+        
+        // Aliases go through the table too, so "er" and "emergency room" share one instance
+        String upperDept = dept.trim().toUpperCase();
+        String standardized;
+        switch (upperDept) {
+            case "ER": case "EMERGENCY": standardized = "EMERGENCY_ROOM"; break;
+            case "ICU": case "INTENSIVE": standardized = "INTENSIVE_CARE"; break;
+            case "OPD": case "OUTPATIENT": standardized = "OUTPATIENT_DEPT"; break;
+            case "RAD": case "RADIOLOGY": standardized = "RADIOLOGY"; break;
+            case "SURG": case "SURGERY": standardized = "SURGERY"; break;
+            default: standardized = TextNormalizer.collapseWhitespace(upperDept, '_');
+        }
+        return SymbolTable.DEPARTMENTS.canonical(standardized);
+    }
+    
+    private String formatPhoneNumber(String phone) {
+        if (phone == null) return "N/A";
+        
+        // Remove all non-digits
+        String digits = TextNormalizer.digitsOnly(phone);
+        
+        if (digits.length() == 10) {
+            return "+1 (" + digits.substring(0, 3) + ") " + 
+                   digits.substring(3, 6) + "-" + digits.substring(6);
+        } else if (digits.length() == 11 && digits.startsWith("1")) {
+            return "+1 (" + digits.substring(1, 4) + ") " + 
+                   digits.substring(4, 7) + "-" + digits.substring(7);
+        }
+        return phone; // Return original if format not recognized
+    }
+    
+    private long generateInternalCode() {
+        return InternalCodeGenerator.shared().nextCode();
+    }
+    
+    // STATIC METHOD - utility method for all hospital personnel
+    public static String getHospitalInfo() {
+        return HOSPITAL_NAME + " | Code: " + HOSPITAL_CODE;
+    }
+}
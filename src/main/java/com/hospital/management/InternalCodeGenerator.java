@@ -0,0 +1,63 @@
+package com.hospital.management;
+
+/**
+ * CLASS: InternalCodeGenerator
+ * Purpose: Snowflake-style 64-bit internal codes, unique even when thousands of
+ *          staff are created in the same millisecond on many threads
+ * Demonstrates: Bit packing, lock-free AtomicLong state, static shared instance
+ * 
+ * Layout: [41 bits ms since 2024-01-01][10 bits node][12 bits sequence]
+ */
+final class InternalCodeGenerator {
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;   // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    
+    private static final InternalCodeGenerator SHARED =
+        new InternalCodeGenerator(Integer.getInteger("hospital.node.id", 0));
+    
+    private final long nodeBits;
+    // Last issued (timestamp << SEQUENCE_BITS | sequence); node bits are added on return
+    private final java.util.concurrent.atomic.AtomicLong lastIssued = new java.util.concurrent.atomic.AtomicLong();
+    
+    InternalCodeGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+    
+    public static InternalCodeGenerator shared() {
+        return SHARED;
+    }
+    
+    // Never repeats: if the sequence runs out (or the clock steps back) the timestamp
+    // part simply moves ahead of the wall clock instead of waiting
+    public long nextCode() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long last;
+        long next;
+        do {
+            last = lastIssued.get();
+            next = Math.max(now, last + 1);
+        } while (!lastIssued.compareAndSet(last, next));
+        
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+    }
+    
+    // DECODING HELPERS
+    public static long timestampMillis(long code) {
+        return (code >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+    
+    public static int nodeId(long code) {
+        return (int) ((code >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+    
+    public static int sequence(long code) {
+        return (int) (code & ((1L << SEQUENCE_BITS) - 1));
+    }
+}
@@ -0,0 +1,104 @@
+package com.hospital.management;
+
+/**
+ * CLASS: LatencyHistogram
+ * Purpose: Log-linear (HDR-style) histogram of latencies in nanoseconds
+ * Demonstrates: Lock-free recording into an AtomicLongArray, snapshot-on-read
+ * 
+ * Values below 32ns get one bucket each; above that every power of two is split
+ * into 32 sub-buckets, so any recorded value is reported within ~3% of the truth.
+ * record() does one array increment and two LongAdder adds - no locks, no allocation.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;   // values are < 2^63
+    
+    private final java.util.concurrent.atomic.AtomicLongArray counts =
+        new java.util.concurrent.atomic.AtomicLongArray(BUCKETS);
+    private final java.util.concurrent.atomic.LongAdder count = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder sum = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.AtomicLong max = new java.util.concurrent.atomic.AtomicLong();
+    
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;   // nanoTime is monotonic, but be safe with callers' arithmetic
+        counts.incrementAndGet(bucketOf(nanos));
+        count.increment();
+        sum.add(nanos);
+        long seen = max.get();
+        while (nanos > seen && !max.compareAndSet(seen, nanos)) {
+            seen = max.get();
+        }
+    }
+    
+    public long getCount() {
+        return count.sum();
+    }
+    
+    // Copies the buckets; concurrent records may or may not be included
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, sum.sum(), max.get());
+    }
+    
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+    
+    // Largest value that lands in the bucket, so percentiles never under-report
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+    
+    /**
+     * Immutable copy of a histogram at one point in time
+     */
+    static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+        
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public long getMax() {
+            return max;
+        }
+        
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+        
+        // percentile in [0, 100]; 0 when nothing has been recorded
+        public long getPercentile(double percentile) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(highestValueIn(i), max);
+            }
+            return max;
+        }
+    }
+}
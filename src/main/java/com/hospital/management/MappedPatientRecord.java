@@ -0,0 +1,201 @@
+package com.hospital.management;
+
+/**
+ * CLASS: MappedPatientRecord
+ * Purpose: Zero-copy view of one patient record inside a memory-mapped file
+ * Demonstrates: Flyweight object reused for every record, byte-level validation,
+ *               values decoded to Strings only on demand
+ * 
+ * Field values go through PatientDataCleaner.readField, so PatientRecord.from(record)
+ * equals extractRecord(record.getText()).
+ */
+final class MappedPatientRecord {
+    private static final int NAME = 0;
+    private static final int AGE = 1;
+    private static final int CONDITION = 2;
+    
+    private final byte[][] keys;           // lower-case ASCII keys, e.g. "name:"
+    private final byte[] header;           // record header line, e.g. "PATIENT RECORD"
+    private final boolean[] seen;
+    private final String[] values;         // cleaned field values of the current record
+    private boolean extracted;
+    
+    private java.nio.ByteBuffer buffer;
+    private long windowOffset;
+    private int start;
+    private int end;
+    private long recordCount;
+    
+    MappedPatientRecord(String[] requiredFields, String recordHeader) {
+        keys = new byte[requiredFields.length][];
+        for (int i = 0; i < requiredFields.length; i++) {
+            keys[i] = requiredFields[i].getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        }
+        header = recordHeader.getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        seen = new boolean[keys.length];
+        values = new String[keys.length];
+    }
+    
+    // PUBLIC METHODS - only valid inside the visitor callback
+    public boolean isValid() {
+        for (boolean field : seen) {
+            if (!field) return false;
+        }
+        return true;
+    }
+    
+    public String getName() {
+        return fieldValue(NAME);
+    }
+    
+    public String getCondition() {
+        return fieldValue(CONDITION);
+    }
+    
+    // Same parser as extractRecord: leading digits, -1 if missing or not a number
+    public int getAge() {
+        return PatientDataCleaner.parseAge(fieldValue(AGE));
+    }
+    
+    public long getFileOffset() {
+        return windowOffset + start;
+    }
+    
+    public int getLength() {
+        return end - start;
+    }
+    
+    // Full record text, e.g. to pass on to standardizeFormat
+    public String getText() {
+        return decode(start, end);
+    }
+    
+    // PACKAGE-PRIVATE - driven by PatientDataCleaner.scanMappedFile.
+    // Returns how many bytes of the window were fully consumed (complete records only).
+    int scanWindow(java.nio.ByteBuffer window, long offset, boolean lastWindow,
+                   java.util.function.Consumer<MappedPatientRecord> visitor) {
+        buffer = window;
+        windowOffset = offset;
+        int limit = window.limit();
+        int recordStart = -1;
+        int pos = 0;
+        
+        while (pos < limit) {
+            int eol = pos;
+            while (eol < limit && window.get(eol) != '\n') eol++;
+            if (eol == limit && !lastWindow) {
+                break;  // partial line, finish it in the next window
+            }
+            int next = Math.min(eol + 1, limit);
+            
+            if (isBlankLine(pos, eol)) {
+                if (recordStart >= 0) emit(recordStart, pos, visitor);
+                recordStart = -1;
+            } else {
+                if (recordStart >= 0 && isHeaderLine(pos, eol)) {
+                    emit(recordStart, pos, visitor);
+                    recordStart = -1;
+                }
+                if (recordStart < 0) {
+                    recordStart = pos;
+                    java.util.Arrays.fill(seen, false);
+                }
+                scanLine(pos, eol);
+            }
+            pos = next;
+        }
+        
+        if (lastWindow) {
+            if (recordStart >= 0) emit(recordStart, limit, visitor);
+            return limit;
+        }
+        return recordStart >= 0 ? recordStart : pos;
+    }
+    
+    long takeRecordCount() {
+        long count = recordCount;
+        recordCount = 0;
+        return count;
+    }
+    
+    // PRIVATE HELPER METHODS
+    private void emit(int recordStart, int recordEnd, java.util.function.Consumer<MappedPatientRecord> visitor) {
+        start = recordStart;
+        end = recordEnd;
+        extracted = false;
+        recordCount++;
+        visitor.accept(this);
+    }
+    
+    // Validation only needs to know that each key occurs somewhere in the record
+    private void scanLine(int from, int to) {
+        for (int k = 0; k < keys.length; k++) {
+            if (seen[k]) continue;
+            for (int i = from; i + keys[k].length <= to; i++) {
+                if (matchesKey(i, keys[k])) {
+                    seen[k] = true;
+                    break;
+                }
+            }
+        }
+    }
+    
+    // Decodes only lines with a colon, the only ones readField can take a value from
+    private String fieldValue(int field) {
+        if (!extracted) {
+            java.util.Arrays.fill(values, null);
+            int pos = start;
+            while (pos < end) {
+                int eol = pos;
+                boolean colon = false;
+                while (eol < end && buffer.get(eol) != '\n') {
+                    if (buffer.get(eol) == ':') colon = true;
+                    eol++;
+                }
+                if (colon) PatientDataCleaner.readField(decode(pos, eol), values);
+                pos = eol + 1;
+            }
+            extracted = true;
+        }
+        return values[field];
+    }
+    
+    private boolean matchesKey(int at, byte[] key) {
+        for (int j = 0; j < key.length; j++) {
+            byte b = buffer.get(at + j);
+            if (b >= 'A' && b <= 'Z') b += 32;
+            if (b != key[j]) return false;
+        }
+        return true;
+    }
+    
+    private boolean isBlankLine(int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b < 0 || b > ' ') return false;   // bytes >= 0x80 are non-ASCII
+        }
+        return true;
+    }
+    
+    private boolean isHeaderLine(int from, int to) {
+        while (from < to && isSpace(buffer.get(from))) from++;
+        while (to > from && isSpace(buffer.get(to - 1))) to--;
+        if (to - from != header.length) return false;
+        for (int i = 0; i < header.length; i++) {
+            byte b = buffer.get(from + i);
+            if (b >= 'a' && b <= 'z') b -= 32;
+            if (b != header[i]) return false;
+        }
+        return true;
+    }
+    
+    private static boolean isSpace(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+    
+    private String decode(int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,13 @@
+package com.hospital.management;
+
+/**
+ * INTERFACE: MedicalProfessional
+ * Purpose: Defines contract for all medical personnel
+ * Demonstrates: Interface with multiple abstract methods
+ */
+interface MedicalProfessional {
+    // All interface methods are implicitly public and abstract
+    String getMedicalLicense();
+    void performDuty();
+    boolean isAvailable();
+}
@@ -0,0 +1,107 @@
+package com.hospital.management;
+
+/**
+ * CLASS: MedicalTermDictionary
+ * Purpose: Loadable dictionary of medical terms (capitalized in notes) and
+ *          blocklist patterns (reject suspicious data)
+ * Demonstrates: Static factory methods, immutable shared instance, file loading
+ * 
+ * File format, one entry per line:
+ *   term: mri
+ *   block: asdf
+ *   # comments and blank lines are ignored
+ * 
+ * Terms are matched against whole words of a cleaned note, and those words are
+ * runs of ASCII letters and digits, so a term must be one such run: "x-ray",
+ * "heart attack" or "i/o" could never match and are rejected.
+ */
+final class MedicalTermDictionary {
+    private static final String[] DEFAULT_TERMS = {"covid", "hiv", "aids", "ct", "mri", "xray"};
+    private static final String[] DEFAULT_BLOCKLIST = {
+        "test", "demo", "sample", "dummy", "fake",
+        "1234", "abcd", "xxxx", "asdf"
+    };
+    private static final MedicalTermDictionary DEFAULTS = new MedicalTermDictionary(
+        java.util.Arrays.asList(DEFAULT_TERMS), java.util.Arrays.asList(DEFAULT_BLOCKLIST));
+    
+    private final TermAutomaton terms;
+    private final TermAutomaton blocklist;
+    
+    private MedicalTermDictionary(java.util.Collection<String> terms, java.util.Collection<String> blocklist) {
+        for (String term : terms) {
+            if (!isSingleWord(term)) {
+                throw new IllegalArgumentException("Medical term must be one word of ASCII letters and digits: '"
+                                                   + term + "'");
+            }
+        }
+        this.terms = new TermAutomaton(terms);
+        this.blocklist = new TermAutomaton(blocklist);
+    }
+    
+    // STATIC FACTORY METHODS
+    public static MedicalTermDictionary defaults() {
+        return DEFAULTS;
+    }
+    
+    public static MedicalTermDictionary of(java.util.Collection<String> terms, java.util.Collection<String> blocklist) {
+        return new MedicalTermDictionary(terms, blocklist);
+    }
+    
+    public static MedicalTermDictionary load(java.nio.file.Path file) throws java.io.IOException {
+        java.util.List<String> terms = new java.util.ArrayList<>();
+        java.util.List<String> blocklist = new java.util.ArrayList<>();
+        int lineNumber = 0;
+        for (String line : java.nio.file.Files.readAllLines(file)) {
+            lineNumber++;
+            String entry = line.trim();
+            if (entry.isEmpty() || entry.startsWith("#")) continue;
+            
+            int colon = entry.indexOf(':');
+            String kind = colon < 0 ? "" : entry.substring(0, colon).trim().toLowerCase();
+            String value = colon < 0 ? "" : entry.substring(colon + 1).trim();
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException(file + ":" + lineNumber + ": expected 'term: x' or 'block: x'");
+            }
+            switch (kind) {
+                case "term":
+                    if (!isSingleWord(value)) {
+                        throw new IllegalArgumentException(file + ":" + lineNumber
+                                                           + ": a term must be one word of ASCII letters and digits");
+                    }
+                    terms.add(value);
+                    break;
+                case "block": blocklist.add(value); break;
+                default:
+                    throw new IllegalArgumentException(file + ":" + lineNumber + ": unknown entry kind '" + kind + "'");
+            }
+        }
+        return new MedicalTermDictionary(terms, blocklist);
+    }
+    
+    // PUBLIC METHODS
+    public boolean isMedicalTerm(CharSequence text, int from, int to) {
+        return terms.matchesExactly(text, from, to);
+    }
+    
+    public boolean containsBlockedPattern(CharSequence text) {
+        return blocklist.containsAny(text);
+    }
+    
+    public int termCount() {
+        return terms.size();
+    }
+    
+    public int blocklistSize() {
+        return blocklist.size();
+    }
+    
+    // PRIVATE HELPER METHODS
+    private static boolean isSingleWord(String term) {
+        if (term.isEmpty()) return false;
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,184 @@
+package com.hospital.management;
+
+/**
+ * CLASS: Metrics
+ * Purpose: Process-wide registry of operation timers and counters, named
+ *          "<Implementation>.<operation>" (e.g. "Nurse.validateData")
+ * Demonstrates: Static handles resolved once, ConcurrentHashMap registry,
+ *               text/JSON dump and a local HTTP endpoint
+ * 
+ * Classes look their Timer/Counter up once into a static final field, so the hot
+ * path never looks anything up or allocates. Every call is counted, but only one
+ * call in SAMPLE_INTERVAL (per thread, at random) reads the clock and lands in the
+ * latency histogram; at sub-microsecond operations the nanoTime pair would
+ * otherwise cost more than the work. Start the JVM with -Dhospital.metrics.sample=1
+ * to time every call, or -Dhospital.metrics=off to skip recording altogether.
+ */
+final class Metrics {
+    static final boolean ENABLED = !"off".equalsIgnoreCase(System.getProperty("hospital.metrics"));
+    static final int SAMPLE_INTERVAL = sampleInterval(Integer.getInteger("hospital.metrics.sample", 32));
+    
+    private static final java.util.concurrent.ConcurrentHashMap<String, Timer> timers =
+        new java.util.concurrent.ConcurrentHashMap<>();
+    private static final java.util.concurrent.ConcurrentHashMap<String, Counter> counters =
+        new java.util.concurrent.ConcurrentHashMap<>();
+    
+    private Metrics() {}
+    
+    public static Timer timer(String implementation, String operation) {
+        return timers.computeIfAbsent(implementation + "." + operation, Timer::new);
+    }
+    
+    public static Counter counter(String implementation, String name) {
+        return counters.computeIfAbsent(implementation + "." + name, Counter::new);
+    }
+    
+    // One line per metric, sorted by name; latencies in microseconds
+    public static String dumpText() {
+        StringBuilder out = new StringBuilder(1024);
+        for (Timer timer : new java.util.TreeMap<>(timers).values()) {
+            LatencyHistogram.Snapshot s = timer.histogram.snapshot();
+            out.append(timer.name)
+               .append(" count=").append(timer.getCount())
+               .append(" sampled=").append(s.getCount())
+               .append(" mean=").append(micros(Math.round(s.getMean())))
+               .append(" p50=").append(micros(s.getPercentile(50)))
+               .append(" p90=").append(micros(s.getPercentile(90)))
+               .append(" p99=").append(micros(s.getPercentile(99)))
+               .append(" p999=").append(micros(s.getPercentile(99.9)))
+               .append(" max=").append(micros(s.getMax()))
+               .append(" us\n");
+        }
+        for (Counter counter : new java.util.TreeMap<>(counters).values()) {
+            out.append(counter.name).append(" count=").append(counter.get()).append('\n');
+        }
+        return out.toString();
+    }
+    
+    // {"timers":{name:{count, sampled, meanNanos, p50..p999, maxNanos}}, "counters":{name:count}}
+    public static String dumpJson() {
+        StringBuilder out = new StringBuilder(1024).append("{\"timers\":{");
+        String separator = "";
+        for (Timer timer : new java.util.TreeMap<>(timers).values()) {
+            LatencyHistogram.Snapshot s = timer.histogram.snapshot();
+            out.append(separator).append('"').append(timer.name).append("\":{")
+               .append("\"count\":").append(timer.getCount())
+               .append(",\"sampled\":").append(s.getCount())
+               .append(",\"meanNanos\":").append(Math.round(s.getMean()))
+               .append(",\"p50Nanos\":").append(s.getPercentile(50))
+               .append(",\"p90Nanos\":").append(s.getPercentile(90))
+               .append(",\"p99Nanos\":").append(s.getPercentile(99))
+               .append(",\"p999Nanos\":").append(s.getPercentile(99.9))
+               .append(",\"maxNanos\":").append(s.getMax())
+               .append('}');
+            separator = ",";
+        }
+        out.append("},\"counters\":{");
+        separator = "";
+        for (Counter counter : new java.util.TreeMap<>(counters).values()) {
+            out.append(separator).append('"').append(counter.name).append("\":").append(counter.get());
+            separator = ",";
+        }
+        return out.append("}}").toString();
+    }
+    
+    // Serves GET /metrics (text) and /metrics.json on the given address; stop() the
+    // returned server to shut it down. Bind to loopback - there is no authentication.
+    public static com.sun.net.httpserver.HttpServer serve(java.net.InetSocketAddress address)
+            throws java.io.IOException {
+        com.sun.net.httpserver.HttpServer server = com.sun.net.httpserver.HttpServer.create(address, 0);
+        server.createContext("/metrics", exchange -> respond(exchange, "text/plain", dumpText()));
+        server.createContext("/metrics.json", exchange -> respond(exchange, "application/json", dumpJson()));
+        server.start();
+        return server;
+    }
+    
+    // PRIVATE HELPER METHODS
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, String contentType, String body)
+            throws java.io.IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] bytes = body.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+    
+    private static String micros(long nanos) {
+        return String.format("%.1f", nanos / 1000.0);
+    }
+    
+    // Rounded up to a power of two so the sampling test is a mask
+    private static int sampleInterval(int requested) {
+        return requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+    }
+    
+    /**
+     * Latency histogram for one operation of one implementation
+     */
+    static final class Timer {
+        private static final int SAMPLE_MASK = SAMPLE_INTERVAL - 1;
+        
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final java.util.concurrent.atomic.LongAdder calls = new java.util.concurrent.atomic.LongAdder();
+        
+        private Timer(String name) {
+            this.name = name;
+        }
+        
+        // Counts one call; returns its start time if the call is sampled, else 0
+        public long start() {
+            if (!ENABLED) return 0;
+            calls.increment();
+            if ((java.util.concurrent.ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) != 0) return 0;
+            return System.nanoTime();
+        }
+        
+        // started comes from start(); unsampled calls (0) are already counted
+        public void recordSince(long started) {
+            if (started != 0) histogram.record(System.nanoTime() - started);
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        // Every call, sampled or not
+        public long getCount() {
+            return calls.sum();
+        }
+        
+        public LatencyHistogram.Snapshot snapshot() {
+            return histogram.snapshot();
+        }
+    }
+    
+    /**
+     * Monotonic event count (e.g. rejected inputs)
+     */
+    static final class Counter {
+        private final String name;
+        private final java.util.concurrent.atomic.LongAdder count = new java.util.concurrent.atomic.LongAdder();
+        
+        private Counter(String name) {
+            this.name = name;
+        }
+        
+        public void increment() {
+            if (ENABLED) count.increment();
+        }
+        
+        public long get() {
+            return count.sum();
+        }
+        
+        public String getName() {
+            return name;
+        }
+    }
+}
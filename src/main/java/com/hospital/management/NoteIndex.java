@@ -0,0 +1,449 @@
+package com.hospital.management;
+
+/**
+ * CLASS: NoteIndex
+ * Purpose: Embedded full-text index over cleaned clinical notes ("MRI AND COVID")
+ * Demonstrates: Inverted index (term dictionary -> postings), delta + varint
+ *               compressed postings with skip entries, leapfrog AND intersection,
+ *               append-only segments read straight from memory-mapped files
+ * 
+ * Notes get sequential ids (0, 1, 2, ...) in the order they are added, so a caller
+ * keeping its records in a list can use the id as the index. Terms are runs of ASCII
+ * letters and digits, lower-cased; a run longer than MAX_TERM_LENGTH is cut to its
+ * first MAX_TERM_LENGTH characters, in notes and queries alike, so a long token still
+ * finds itself (and anything sharing that prefix). A term's postings are the gaps
+ * between the ids of the notes containing it, written as varints (one byte for gaps
+ * below 128). Every SKIP_INTERVAL postings a skip entry records where the next block
+ * starts, so a query walking a long list can jump past ids the other terms have
+ * already ruled out.
+ * 
+ * An index is saved into a directory of segment files, one per save, each holding
+ * the notes added since the previous save. load() maps the segments and reads only
+ * their term dictionaries; postings are decoded from the mapped files as queries
+ * walk them. A query term's list is the concatenation of its lists in every segment.
+ */
+final class NoteIndex {
+    static final int SKIP_INTERVAL = 128;
+    static final int MAX_TERM_LENGTH = 64;
+    
+    private static final int MAGIC = 0x484D4932;         // "HMI2"
+    private static final String SEGMENT_PREFIX = "notes-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int NO_MORE = Integer.MAX_VALUE;
+    
+    // Saved segments, oldest first, then the notes added since the last save
+    private final java.util.List<java.util.Map<String, Postings>> segments = new java.util.ArrayList<>();
+    private java.util.Map<String, Postings> live = new java.util.HashMap<>();
+    private int documentCount;
+    private int savedCount;
+    private java.nio.file.Path directory;                // where save() appends; null until saved or loaded
+    
+    NoteIndex() {}
+    
+    // Indexes the note and returns its id
+    public synchronized int add(CharSequence note) {
+        int id = documentCount++;
+        tokenize(note, term -> live.computeIfAbsent(term, t -> new Postings()).add(id));
+        return id;
+    }
+    
+    // Ids of the notes containing every term, ascending. "MRI AND COVID" and
+    // "mri covid" are the same query; OR and NOT are not supported. Operators are
+    // recognised in any case, so and/or/not cannot be searched for as terms.
+    public int[] search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+    
+    // The first `limit` matching ids (the oldest notes)
+    public synchronized int[] search(String query, int limit) {
+        Cursor[] cursors = cursors(query);
+        if (cursors == null || limit <= 0) return new int[0];
+        int[] hits = new int[Math.min(limit, cursors[0].count)];
+        return java.util.Arrays.copyOf(hits, intersect(cursors, hits, hits.length));
+    }
+    
+    public synchronized int count(String query) {
+        Cursor[] cursors = cursors(query);
+        return cursors == null ? 0 : intersect(cursors, null, Integer.MAX_VALUE);
+    }
+    
+    public synchronized int getDocumentCount() {
+        return documentCount;
+    }
+    
+    public synchronized int getTermCount() {
+        java.util.Set<String> distinct = new java.util.HashSet<>(live.keySet());
+        for (java.util.Map<String, Postings> segment : segments) {
+            distinct.addAll(segment.keySet());
+        }
+        return distinct.size();
+    }
+    
+    // Number of notes containing the term (0 if it was never indexed)
+    public synchronized int getDocumentFrequency(String term) {
+        int count = 0;
+        for (Postings postings : postingsOf(term.toLowerCase())) {
+            count += postings.count;
+        }
+        return count;
+    }
+    
+    // Compressed size of all postings lists
+    public synchronized long getPostingsBytes() {
+        long total = 0;
+        for (java.util.Map<String, Postings> segment : segments) {
+            for (Postings postings : segment.values()) total += postings.length;
+        }
+        for (Postings postings : live.values()) total += postings.length;
+        return total;
+    }
+    
+    // Number of segment files behind this index (0 before the first save or load)
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+    
+    // Saves into the directory. Saving again to the same directory appends one segment
+    // with the notes added since the last save (nothing if there are none); saving to
+    // a new directory writes the whole index there as a single segment. Each segment
+    // is written to a temporary file, forced and moved into place, so a crash mid-save
+    // leaves the segments already there intact.
+    public synchronized void save(java.nio.file.Path directory) throws java.io.IOException {
+        java.nio.file.Path target = directory.toAbsolutePath().normalize();
+        if (target.equals(this.directory)) {
+            if (documentCount == savedCount) return;
+            writeSegment(target, savedCount, java.util.List.of(live));
+        } else {
+            java.nio.file.Files.createDirectories(target);
+            if (listSegments(target).length > 0) {
+                throw new IllegalArgumentException("Directory already holds a note index: " + target);
+            }
+            java.util.List<java.util.Map<String, Postings>> all = new java.util.ArrayList<>(segments);
+            all.add(live);
+            writeSegment(target, 0, all);
+            this.directory = target;
+        }
+        if (!live.isEmpty()) {
+            segments.add(live);
+            live = new java.util.HashMap<>();
+        }
+        savedCount = documentCount;
+    }
+    
+    // Maps the segments saved in the directory; more notes can be added and saved
+    // (as a new segment) afterwards
+    public static NoteIndex load(java.nio.file.Path directory) throws java.io.IOException {
+        NoteIndex index = new NoteIndex();
+        index.directory = directory.toAbsolutePath().normalize();
+        for (java.nio.file.Path file : listSegments(index.directory)) {
+            java.nio.ByteBuffer buffer;
+            try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(file)) {
+                buffer = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (buffer.remaining() < 16 || buffer.getInt() != MAGIC) {
+                throw new java.io.IOException("Not a note index segment: " + file);
+            }
+            if (buffer.getInt() != index.documentCount) {
+                throw new java.io.IOException("Segment does not follow the previous one: " + file);
+            }
+            index.documentCount += buffer.getInt();
+            int termCount = buffer.getInt();
+            java.util.Map<String, Postings> segment = new java.util.HashMap<>(termCount * 4 / 3 + 1);
+            byte[] term = new byte[MAX_TERM_LENGTH];
+            for (int i = 0; i < termCount; i++) {
+                int termLength = buffer.get() & 0xFF;
+                buffer.get(term, 0, termLength);
+                Postings postings = Postings.mapped(buffer);   // leaves the buffer after the postings
+                segment.put(new String(term, 0, termLength, java.nio.charset.StandardCharsets.US_ASCII), postings);
+            }
+            index.segments.add(segment);
+        }
+        index.savedCount = index.documentCount;
+        return index;
+    }
+    
+    // PRIVATE HELPER METHODS
+    private static void tokenize(CharSequence text, java.util.function.Consumer<String> term) {
+        StringBuilder token = new StringBuilder(16);
+        boolean inToken = false;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (c >= 'A' && c <= 'Z') c += 32;
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (token.length() < MAX_TERM_LENGTH) token.append(c);   // the rest of a long run is cut
+                inToken = true;
+            } else if (inToken) {
+                term.accept(token.toString());
+                token.setLength(0);
+                inToken = false;
+            }
+        }
+    }
+    
+    // One cursor per query term, shortest list first; null if nothing can match
+    private Cursor[] cursors(String query) {
+        java.util.List<String> queryTerms = new java.util.ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (word.equalsIgnoreCase("OR") || word.equalsIgnoreCase("NOT")) {
+                throw new IllegalArgumentException("Only AND queries are supported: " + query);
+            }
+            if (!word.equalsIgnoreCase("AND")) tokenize(word, queryTerms::add);
+        }
+        if (queryTerms.isEmpty()) return null;
+        
+        Cursor[] cursors = new Cursor[queryTerms.size()];
+        for (int i = 0; i < cursors.length; i++) {
+            Postings[] parts = postingsOf(queryTerms.get(i));
+            if (parts.length == 0) return null;
+            cursors[i] = new Cursor(parts);
+        }
+        java.util.Arrays.sort(cursors, java.util.Comparator.comparingInt(cursor -> cursor.count));
+        return cursors;
+    }
+    
+    // The term's postings in every segment that has it, oldest first
+    private Postings[] postingsOf(String term) {
+        java.util.List<Postings> parts = new java.util.ArrayList<>(segments.size() + 1);
+        for (java.util.Map<String, Postings> segment : segments) {
+            Postings postings = segment.get(term);
+            if (postings != null) parts.add(postings);
+        }
+        Postings postings = live.get(term);
+        if (postings != null) parts.add(postings);
+        return parts.toArray(new Postings[0]);
+    }
+    
+    // Writes the notes from firstDoc on, whose terms are spread over `sources`, as one segment
+    private void writeSegment(java.nio.file.Path directory, int firstDoc,
+                              java.util.List<java.util.Map<String, Postings>> sources) throws java.io.IOException {
+        java.util.TreeMap<String, java.util.List<Postings>> sorted = new java.util.TreeMap<>();
+        for (java.util.Map<String, Postings> source : sources) {
+            for (java.util.Map.Entry<String, Postings> entry : source.entrySet()) {
+                sorted.computeIfAbsent(entry.getKey(), t -> new java.util.ArrayList<>(1)).add(entry.getValue());
+            }
+        }
+        java.nio.file.Path file = directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, firstDoc, SEGMENT_SUFFIX));
+        java.nio.file.Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(temp,
+                java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.WRITE,
+                java.nio.file.StandardOpenOption.TRUNCATE_EXISTING)) {
+            java.io.DataOutputStream out = new java.io.DataOutputStream(new java.io.BufferedOutputStream(
+                java.nio.channels.Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(firstDoc);
+            out.writeInt(documentCount - firstDoc);
+            out.writeInt(sorted.size());
+            for (java.util.Map.Entry<String, java.util.List<Postings>> entry : sorted.entrySet()) {
+                java.util.List<Postings> parts = entry.getValue();
+                Postings postings = parts.size() == 1 && parts.get(0).bytes != null
+                    ? parts.get(0)
+                    : Postings.merge(parts.toArray(new Postings[0]));
+                out.writeByte(entry.getKey().length());
+                out.writeBytes(entry.getKey());               // terms are ASCII
+                postings.writeTo(out);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        java.nio.file.Files.move(temp, file, java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    // Segment files in id order (leftover .tmp files from an interrupted save are ignored)
+    private static java.nio.file.Path[] listSegments(java.nio.file.Path directory) throws java.io.IOException {
+        try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.list(directory)) {
+            return files.filter(file -> {
+                            String name = file.getFileName().toString();
+                            return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                        })
+                        .sorted()
+                        .toArray(java.nio.file.Path[]::new);
+        }
+    }
+    
+    // Leapfrog intersection: the shortest list proposes ids, the others advance to them.
+    // Stores up to `limit` hits in `hits` (if not null) and returns how many were found.
+    private static int intersect(Cursor[] cursors, int[] hits, int limit) {
+        int found = 0;
+        int candidate = cursors[0].next();
+        while (candidate != NO_MORE && found < limit) {
+            int agreed = candidate;
+            for (int i = 1; i < cursors.length && agreed == candidate; i++) {
+                agreed = cursors[i].advance(candidate);
+            }
+            if (agreed == candidate) {
+                if (hits != null) hits[found] = candidate;
+                found++;
+                candidate = cursors[0].next();
+            } else {
+                candidate = agreed == NO_MORE ? NO_MORE : cursors[0].advance(agreed);
+            }
+        }
+        return found;
+    }
+    
+    /**
+     * Compressed postings of one term: varint gaps plus a skip entry per block. Either
+     * growing on the heap (notes added since the last save) or a read-only view of a
+     * mapped segment, decoded in place
+     */
+    private static final class Postings {
+        private byte[] bytes;                        // null when mapped
+        private int length;
+        private int count;
+        private int lastDoc = -1;
+        // Block k starts at posting k * SKIP_INTERVAL, byte skipOffset(k), after id skipDoc(k)
+        private int[] skipDocs;
+        private int[] skipOffsets;
+        private int skipCount;
+        // Mapped layout: skipCount (doc, offset) int pairs at skipStart, then the gaps at dataStart
+        private java.nio.ByteBuffer mapped;
+        private int skipStart;
+        private int dataStart;
+        
+        Postings() {
+            bytes = new byte[8];
+            skipDocs = new int[1];
+            skipOffsets = new int[1];
+        }
+        
+        private Postings(java.nio.ByteBuffer buffer) {
+            mapped = buffer;
+        }
+        
+        // Reads the header at the buffer's position and moves it past the postings
+        static Postings mapped(java.nio.ByteBuffer buffer) {
+            Postings postings = new Postings(buffer);
+            postings.count = buffer.getInt();
+            postings.lastDoc = buffer.getInt();
+            postings.length = buffer.getInt();
+            postings.skipCount = (postings.count + SKIP_INTERVAL - 1) / SKIP_INTERVAL;
+            postings.skipStart = buffer.position();
+            postings.dataStart = postings.skipStart + postings.skipCount * 8;
+            buffer.position(postings.dataStart + postings.length);
+            return postings;
+        }
+        
+        // One heap list holding the ids of all the parts (which cover ascending id ranges)
+        static Postings merge(Postings[] parts) {
+            Postings merged = new Postings();
+            Cursor cursor = new Cursor(parts);
+            for (int doc = cursor.next(); doc != NO_MORE; doc = cursor.next()) merged.add(doc);
+            return merged;
+        }
+        
+        void add(int doc) {
+            if (doc == lastDoc) return;   // term repeated within the same note
+            if (count % SKIP_INTERVAL == 0) {
+                if (skipCount == skipDocs.length) {
+                    skipDocs = java.util.Arrays.copyOf(skipDocs, skipCount * 2);
+                    skipOffsets = java.util.Arrays.copyOf(skipOffsets, skipCount * 2);
+                }
+                skipDocs[skipCount] = lastDoc;
+                skipOffsets[skipCount++] = length;
+            }
+            if (length + 5 > bytes.length) {
+                bytes = java.util.Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+            }
+            int gap = doc - lastDoc;
+            while (gap >= 0x80) {
+                bytes[length++] = (byte) (gap | 0x80);
+                gap >>>= 7;
+            }
+            bytes[length++] = (byte) gap;
+            lastDoc = doc;
+            count++;
+        }
+        
+        int skipDoc(int k) {
+            return mapped == null ? skipDocs[k] : mapped.getInt(skipStart + k * 8);
+        }
+        
+        int skipOffset(int k) {
+            return mapped == null ? skipOffsets[k] : mapped.getInt(skipStart + k * 8 + 4);
+        }
+        
+        // The gaps as a buffer, with the first at index dataStart
+        java.nio.ByteBuffer data() {
+            return mapped == null ? java.nio.ByteBuffer.wrap(bytes, 0, length) : mapped;
+        }
+        
+        // Heap postings only; the layout mapped() reads back
+        void writeTo(java.io.DataOutputStream out) throws java.io.IOException {
+            out.writeInt(count);
+            out.writeInt(lastDoc);
+            out.writeInt(length);
+            for (int k = 0; k < skipCount; k++) {
+                out.writeInt(skipDocs[k]);
+                out.writeInt(skipOffsets[k]);
+            }
+            out.write(bytes, 0, length);
+        }
+    }
+    
+    /**
+     * Forward-only reader over one term's postings, walking its parts (one per
+     * segment, in id order) as a single list
+     */
+    private static final class Cursor {
+        private final Postings[] parts;
+        private final int count;   // postings in all parts
+        private int part = -1;
+        private Postings postings;
+        private java.nio.ByteBuffer data;
+        private int position;      // buffer index of the next gap
+        private int read;          // postings of the current part decoded so far
+        private int doc = -1;
+        
+        Cursor(Postings[] parts) {
+            this.parts = parts;
+            int total = 0;
+            for (Postings p : parts) total += p.count;
+            this.count = total;
+            open(0);
+        }
+        
+        int next() {
+            while (read == postings.count) {
+                if (part + 1 == parts.length) return doc = NO_MORE;
+                open(part + 1);
+            }
+            read++;
+            byte b = data.get(position++);
+            if (b >= 0) return doc += b;   // gaps below 128, the common case
+            int gap = b & 0x7F;
+            int shift = 7;
+            do {
+                b = data.get(position++);
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return doc += gap;
+        }
+        
+        // First id >= target, jumping over whole parts and blocks whose ids are all smaller
+        int advance(int target) {
+            if (doc >= target) return doc;
+            while (postings.lastDoc < target && part + 1 < parts.length) open(part + 1);
+            int block = read / SKIP_INTERVAL;
+            int skip = block;
+            while (skip + 1 < postings.skipCount && postings.skipDoc(skip + 1) < target) skip++;
+            if (skip > block) {
+                position = postings.dataStart + postings.skipOffset(skip);
+                read = skip * SKIP_INTERVAL;
+                doc = postings.skipDoc(skip);
+            }
+            while (doc < target) next();
+            return doc;
+        }
+        
+        // Each part's gaps start from -1, like a list of its own
+        private void open(int index) {
+            part = index;
+            postings = parts[index];
+            data = postings.data();
+            position = postings.dataStart;
+            read = 0;
+            doc = -1;
+        }
+    }
+}
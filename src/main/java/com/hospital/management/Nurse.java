@@ -0,0 +1,254 @@
+package com.hospital.management;
+
+/**
+ * CLASS: Nurse (package-private class)
+ * Demonstrates: Package access, different interface implementations
+ */
+class Nurse extends HospitalPersonnel implements MedicalProfessional, DataCleanable {
+    // PRIVATE VARIABLES
+    private String nurseLevel;
+    private String[] assignedWards;
+    private int wardCount;     // assignedWards[0..wardCount) are filled, the rest null
+    private volatile int shiftHours;
+    
+    // STATIC FINAL - class constants
+    private static final String[] VALID_LEVELS = {"RN", "LPN", "CNA", "NP"};
+    static final int MAX_SHIFT_HOURS = 12;
+    static final int MAX_WARDS = 5;
+    
+    // Latency of the public cleaning API (see Metrics)
+    private static final Metrics.Timer CONSTRUCT_TIMER = Metrics.timer("Nurse", "construct");
+    private static final Metrics.Timer CLEAN_TIMER = Metrics.timer("Nurse", "cleanAndFormat");
+    private static final Metrics.Timer VALIDATE_TIMER = Metrics.timer("Nurse", "validateData");
+    private static final Metrics.Timer STANDARDIZE_TIMER = Metrics.timer("Nurse", "standardizeFormat");
+    private static final Metrics.Counter REJECTED = Metrics.counter("Nurse", "validateData.rejected");
+    
+    public Nurse(String name, String id, String department, String level) {
+        this(CONSTRUCT_TIMER.start(), name, id, department, level);
+    }
+    
+    private Nurse(long started, String name, String id, String department, String level) {
+        super(name, id, department);
+        this.nurseLevel = validateLevel(level);
+        this.assignedWards = new String[MAX_WARDS];
+        this.shiftHours = 8;
+        CONSTRUCT_TIMER.recordSince(started);
+    }
+    
+    // PACKAGE-PRIVATE CONSTRUCTOR - restores a nurse without re-running the cleaning code
+    Nurse(String name, String id, String department, long internalCode, String contactNumber,
+          String level, int shiftHours, String[] wards) {
+        this(CONSTRUCT_TIMER.start(), name, id, department, internalCode, contactNumber, level, shiftHours, wards);
+    }
+    
+    private Nurse(long started, String name, String id, String department, long internalCode, String contactNumber,
+                  String level, int shiftHours, String[] wards) {
+        super(name, id, department, internalCode, contactNumber);
+        this.nurseLevel = level;
+        this.assignedWards = java.util.Arrays.copyOf(wards, MAX_WARDS);
+        while (wardCount < MAX_WARDS && assignedWards[wardCount] != null) wardCount++;
+        this.shiftHours = shiftHours;
+        CONSTRUCT_TIMER.recordSince(started);
+    }
+    
+    // PACKAGE-PRIVATE GETTERS - used by snapshots and rostering
+    String getNurseLevel() {
+        return nurseLevel;
+    }
+    
+    int getShiftHours() {
+        return shiftHours;
+    }
+    
+    // PACKAGE-PRIVATE - WardRoster keeps this equal to the nurse's rostered hours
+    synchronized void setShiftHours(int hours) {
+        if (hours == shiftHours) return;
+        shiftHours = hours;
+        notifyAvailabilityChanged();
+    }
+    
+    synchronized String[] getAssignedWards() {
+        return assignedWards.clone();
+    }
+    
+    // INTERFACE METHOD IMPLEMENTATION (MedicalProfessional)
+    public String getMedicalLicense() {
+        return "NURSE-" + id;
+    }
+    
+    public void performDuty() {
+        emitEvent(EventSink.Type.ON_DUTY, 0, department);
+    }
+    
+    public boolean isAvailable() {
+        return shiftHours < MAX_SHIFT_HOURS;
+    }
+    
+    // INTERFACE METHOD IMPLEMENTATION (DataCleanable) - timed wrappers around the private bodies
+    public String cleanAndFormat(String rawData) {
+        long started = CLEAN_TIMER.start();
+        String cleaned = cleanVitals(rawData);
+        CLEAN_TIMER.recordSince(started);
+        return cleaned;
+    }
+    
+    public boolean validateData(String data) {
+        long started = VALIDATE_TIMER.start();
+        boolean valid = isValidVitals(data);
+        VALIDATE_TIMER.recordSince(started);
+        if (!valid) REJECTED.increment();
+        return valid;
+    }
+    
+    public String standardizeFormat(String input) {
+        long started = STANDARDIZE_TIMER.start();
+        String record = standardizeVitals(input);
+        STANDARDIZE_TIMER.recordSince(started);
+        return record;
+    }
+    
+    private String cleanVitals(String rawData) {
+        // Nurse-specific cleaning for patient vitals
+        if (rawData == null) return "NO_DATA";
+        
+        // Clean vital signs data in one pass: keep digits, '.' and '/', collapse "//"
+        StringBuilder cleaned = new StringBuilder(rawData.length());
+        for (int i = 0; i < rawData.length(); i++) {
+            char c = rawData.charAt(i);
+            if (c == '/') {
+                int last = cleaned.length() - 1;
+                if (last < 0 || cleaned.charAt(last) != '/') cleaned.append(c);
+            } else if ((c >= '0' && c <= '9') || c == '.') {
+                cleaned.append(c);
+            }
+        }
+        return cleaned.toString();
+    }
+    
+    private boolean isValidVitals(String data) {
+        if (data == null || TextNormalizer.isBlank(data)) return false;
+        
+        // Validate vital signs format (e.g., 120/80, 98.6, 60) without a regex:
+        // same as ^[0-9]{1,3}(\.[0-9])?(/[0-9]{1,3})?$
+        int i = skipDigits(data, 0, 3);
+        if (i == 0) return false;
+        if (i < data.length() && data.charAt(i) == '.') {
+            int end = skipDigits(data, i + 1, 1);
+            if (end == i + 1) return false;
+            i = end;
+        }
+        if (i < data.length() && data.charAt(i) == '/') {
+            int end = skipDigits(data, i + 1, 3);
+            if (end == i + 1) return false;
+            i = end;
+        }
+        return i == data.length();
+    }
+    
+    // Parses readings such as "120/80, 98.6F, 60bpm" into a reusable VitalSigns
+    public boolean parseVitals(CharSequence reading, VitalSigns into) {
+        return VitalSigns.parse(reading, into);
+    }
+    
+    // Parses a reading and appends it to the patient's series in the store
+    public boolean recordVitals(VitalsStore store, String patientId, CharSequence reading) {
+        return store.record(patientId, System.currentTimeMillis(), reading);
+    }
+    
+    private String standardizeVitals(String input) {
+        String cleaned = cleanVitals(input);
+        return "VITAL_SIGNS | Nurse: " + name + 
+               " | Level: " + nurseLevel + " | Data: " + cleaned;
+    }
+    
+    // ABSTRACT METHOD IMPLEMENTATION
+    public String getRole() {
+        return "Nurse";
+    }
+    
+    // PACKAGE-PRIVATE METHOD - only accessible within same package
+    // Rostered assignments (with hours and a ward -> nurses index) go through WardRoster
+    void assignToWard(String ward) {
+        if (addWard(ward)) {
+            emitEvent(EventSink.Type.WARD_ASSIGNED, 0, ward);
+        } else {
+            emitEvent(EventSink.Type.WARD_REJECTED, 0, ward);
+        }
+    }
+    
+    // PACKAGE-PRIVATE - keeps the nurse's own ward list in step with WardRoster
+    // (journaled when a StaffJournal is in use; the fsync wait happens outside the lock).
+    // Returns false if the nurse already covers the ward or MAX_WARDS wards.
+    boolean addWard(String ward) {
+        Runnable undo = () -> deleteWard(ward);
+        long sequence;
+        java.util.concurrent.locks.Lock gate = changeGate();
+        gate.lock();
+        try {
+            synchronized (this) {
+                if (wardCount == MAX_WARDS || indexOfWard(ward) >= 0) return false;
+                assignedWards[wardCount++] = ward;
+                sequence = appendChange(StaffJournal.WARD_ASSIGNED, ward, undo);
+            }
+        } finally {
+            gate.unlock();
+        }
+        commitChange(sequence, undo);
+        return true;
+    }
+    
+    boolean removeWard(String ward) {
+        Runnable undo = () -> {
+            if (wardCount < MAX_WARDS) assignedWards[wardCount++] = ward;
+        };
+        long sequence;
+        java.util.concurrent.locks.Lock gate = changeGate();
+        gate.lock();
+        try {
+            synchronized (this) {
+                if (!deleteWard(ward)) return false;
+                sequence = appendChange(StaffJournal.WARD_REMOVED, ward, undo);
+            }
+        } finally {
+            gate.unlock();
+        }
+        commitChange(sequence, undo);
+        return true;
+    }
+    
+    // PRIVATE HELPER METHODS
+    
+    // Caller holds the lock
+    private boolean deleteWard(String ward) {
+        int i = indexOfWard(ward);
+        if (i < 0) return false;
+        System.arraycopy(assignedWards, i + 1, assignedWards, i, wardCount - i - 1);
+        assignedWards[--wardCount] = null;
+        return true;
+    }
+    
+    // Caller holds the lock
+    private int indexOfWard(String ward) {
+        for (int i = 0; i < wardCount; i++) {
+            if (assignedWards[i].equals(ward)) return i;
+        }
+        return -1;
+    }
+    
+    private static int skipDigits(String s, int from, int maxDigits) {
+        int i = from;
+        while (i < s.length() && i - from < maxDigits && s.charAt(i) >= '0' && s.charAt(i) <= '9') i++;
+        return i;
+    }
+    
+    // PRIVATE HELPER METHOD - level validation
+    private String validateLevel(String level) {
+        String upperLevel = level.trim().toUpperCase();
+        for (String valid : VALID_LEVELS) {
+            if (valid.equals(upperLevel)) {
+                return upperLevel;
+            }
+        }
+        return "RN"; // Default to Registered Nurse
+    }
+}
@@ -0,0 +1,345 @@
+package com.hospital.management;
+
+/**
+ * CLASS: PatientDataCleaner
+ * Purpose: Specialized class for cleaning and formatting patient data
+ * Demonstrates: Standalone utility class, static methods, final class
+ * public
+ */
+final class PatientDataCleaner implements DataCleanable {
+    // PRIVATE CONSTRUCTOR - cannot be instantiated (utility class pattern)
+    private PatientDataCleaner() {}
+    
+    // STATIC INSTANCE - singleton pattern
+    private static final PatientDataCleaner INSTANCE = new PatientDataCleaner();
+    
+    // STATIC FINAL - record layout constants
+    private static final String[] REQUIRED_FIELDS = {"name:", "age:", "condition:"};
+    private static final int AGE_FIELD = 1;
+    private static final String RECORD_HEADER = "PATIENT RECORD";
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final long MAPPING_WINDOW_SIZE = 256L * 1024 * 1024;
+    
+    // Latency of the public cleaning API (see Metrics)
+    private static final Metrics.Timer CLEAN_TIMER = Metrics.timer("PatientDataCleaner", "cleanAndFormat");
+    private static final Metrics.Timer VALIDATE_TIMER = Metrics.timer("PatientDataCleaner", "validateData");
+    private static final Metrics.Timer STANDARDIZE_TIMER = Metrics.timer("PatientDataCleaner", "standardizeFormat");
+    private static final Metrics.Counter REJECTED = Metrics.counter("PatientDataCleaner", "validateData.rejected");
+    
+    // STATIC METHOD to get instance
+    public static PatientDataCleaner getInstance() {
+        return INSTANCE;
+    }
+    
+    // INTERFACE METHOD IMPLEMENTATION - timed wrappers around the private bodies
+    public String cleanAndFormat(String rawData) {
+        long started = CLEAN_TIMER.start();
+        String cleaned = cleanRecord(rawData);
+        CLEAN_TIMER.recordSince(started);
+        return cleaned;
+    }
+    
+    public boolean validateData(String data) {
+        long started = VALIDATE_TIMER.start();
+        boolean valid = hasRequiredFields(data);
+        VALIDATE_TIMER.recordSince(started);
+        if (!valid) REJECTED.increment();
+        return valid;
+    }
+    
+    public String standardizeFormat(String input) {
+        long started = STANDARDIZE_TIMER.start();
+        String record = standardizeRecord(input);
+        STANDARDIZE_TIMER.recordSince(started);
+        return record;
+    }
+    
+    private String cleanRecord(String rawData) {
+        if (rawData == null) return "NULL_DATA";
+        
+        StringBuilder result = new StringBuilder();
+        String[] lines = rawData.split("\n");
+        
+        for (String line : lines) {
+            String cleanedLine = cleanLine(line);
+            if (!cleanedLine.isEmpty()) {
+                result.append(cleanedLine).append("\n");
+            }
+        }
+        
+        return result.toString().trim();
+    }
+    
+    private boolean hasRequiredFields(String data) {
+        if (data == null) return false;
+        
+        // Check for minimum required patient data (no lower-cased copy of the record)
+        for (String field : REQUIRED_FIELDS) {
+            if (!TextNormalizer.containsIgnoreCaseAscii(data, field)) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private String standardizeRecord(String input) {
+        if (!hasRequiredFields(input)) {
+            return "INVALID_PATIENT_DATA_FORMAT";
+        }
+        
+        return formatRecord(cleanRecord(input));
+    }
+    
+    // STREAMING MODE - reads concatenated records and writes standardized ones,
+    // holding only the current line and the current record in memory.
+    // A record ends at a blank line or where a new "PATIENT RECORD" header starts.
+    public long standardizeStream(java.io.Reader in, java.io.Writer out) throws java.io.IOException {
+        RecordBuffer record = new RecordBuffer();
+        StringBuilder line = new StringBuilder();
+        char[] buffer = new char[STREAM_BUFFER_SIZE];
+        long records = 0;
+        
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                // Split on '\n' only, exactly like split("\n") in the String API
+                if (buffer[i] == '\n') {
+                    records += acceptLine(line.toString(), record, out);
+                    line.setLength(0);
+                } else {
+                    line.append(buffer[i]);
+                }
+            }
+        }
+        if (line.length() > 0) {
+            records += acceptLine(line.toString(), record, out);
+        }
+        records += flushRecord(record, out);
+        out.flush();
+        return records;
+    }
+    
+    public long standardizeStream(java.io.InputStream in, java.io.OutputStream out) throws java.io.IOException {
+        java.io.Reader reader = new java.io.InputStreamReader(in, java.nio.charset.StandardCharsets.UTF_8);
+        java.io.Writer writer = new java.io.BufferedWriter(
+            new java.io.OutputStreamWriter(out, java.nio.charset.StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+        return standardizeStream(reader, writer);
+    }
+    
+    // MEMORY-MAPPED MODE - scans a record file in place. Field keys are matched on the
+    // mapped bytes and values are only decoded when the visitor asks for them.
+    // The record passed to the visitor is reused and only valid during the call.
+    public long scanMappedFile(java.nio.file.Path file, java.util.function.Consumer<MappedPatientRecord> visitor)
+            throws java.io.IOException {
+        return scanMappedFile(file, visitor, MAPPING_WINDOW_SIZE);
+    }
+    
+    // PACKAGE-PRIVATE - the window size is a parameter so tests can make records straddle windows
+    long scanMappedFile(java.nio.file.Path file, java.util.function.Consumer<MappedPatientRecord> visitor,
+                        long windowSize) throws java.io.IOException {
+        try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(file)) {
+            MappedPatientRecord record = new MappedPatientRecord(REQUIRED_FIELDS, RECORD_HEADER);
+            long size = channel.size();
+            long position = 0;
+            long records = 0;
+            
+            while (position < size) {
+                long length = Math.min(windowSize, size - position);
+                boolean lastWindow = position + length == size;
+                java.nio.MappedByteBuffer window =
+                    channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, position, length);
+                
+                int consumed = record.scanWindow(window, position, lastWindow, visitor);
+                if (consumed == 0 && !lastWindow) {
+                    throw new java.io.IOException("Record at offset " + position + " is larger than the "
+                                                  + windowSize + "-byte mapping window");
+                }
+                records += record.takeRecordCount();
+                position += consumed;
+                if (lastWindow) break;
+            }
+            return records;
+        }
+    }
+    
+    // DEDUPLICATION - name/age/condition after cleanLine, as compared by PatientDeduplicator.
+    // Missing fields are null, a missing or non-numeric age is -1.
+    public PatientRecord extractRecord(String rawRecord) {
+        String[] values = new String[REQUIRED_FIELDS.length];
+        if (rawRecord != null) {
+            for (String line : rawRecord.split("\n")) {
+                readField(line, values);
+            }
+        }
+        return new PatientRecord(values[0], parseAge(values[AGE_FIELD]), values[2]);
+    }
+    
+    // Extracts every record in parallel, then groups the ones naming the same patient
+    public DuplicateReport findDuplicates(java.util.List<String> rawRecords) {
+        String[] inputs = rawRecords.toArray(new String[0]);
+        PatientRecord[] records = new PatientRecord[inputs.length];
+        java.util.stream.IntStream.range(0, inputs.length).parallel()
+            .forEach(i -> records[i] = extractRecord(inputs[i]));
+        return PatientDeduplicator.defaults().deduplicate(java.util.Arrays.asList(records));
+    }
+    
+    // PRIVATE HELPER METHODS
+    private String formatRecord(String cleaned) {
+        String[] lines = cleaned.split("\n");
+        
+        StringBuilder standardized = new StringBuilder();
+        standardized.append("=== PATIENT RECORD ===\n");
+        standardized.append("Date: ").append(java.time.LocalDate.now()).append("\n");
+        standardized.append("Time: ").append(java.time.LocalTime.now()).append("\n");
+        standardized.append("----------------------\n");
+        
+        for (String line : lines) {
+            standardized.append(formatPatientField(line)).append("\n");
+        }
+        
+        return standardized.toString();
+    }
+    
+    // Returns the number of records written (0 or 1)
+    private int acceptLine(String rawLine, RecordBuffer record, java.io.Writer out) throws java.io.IOException {
+        if (TextNormalizer.isBlank(rawLine)) {
+            return flushRecord(record, out);
+        }
+        
+        int written = 0;
+        if (rawLine.trim().equalsIgnoreCase(RECORD_HEADER)) {
+            written = flushRecord(record, out);
+        }
+        record.add(rawLine, cleanLine(rawLine));
+        return written;
+    }
+    
+    private int flushRecord(RecordBuffer record, java.io.Writer out) throws java.io.IOException {
+        if (record.isEmpty()) {
+            return 0;
+        }
+        out.write(record.isValid() ? formatRecord(record.cleaned()) : "INVALID_PATIENT_DATA_FORMAT\n");
+        out.write("\n");  // blank line keeps the output re-streamable
+        record.clear();
+        return 1;
+    }
+    
+    /**
+     * NESTED CLASS: RecordBuffer
+     * Purpose: Collects one record's cleaned lines and tracks the required fields
+     *          incrementally, so validation never needs the whole raw record
+     */
+    private static final class RecordBuffer {
+        private final StringBuilder cleaned = new StringBuilder();
+        private final boolean[] seenFields = new boolean[REQUIRED_FIELDS.length];
+        private boolean hasLines;
+        
+        void add(String rawLine, String cleanedLine) {
+            hasLines = true;
+            for (int f = 0; f < REQUIRED_FIELDS.length; f++) {
+                if (!seenFields[f] && TextNormalizer.containsIgnoreCaseAscii(rawLine, REQUIRED_FIELDS[f])) {
+                    seenFields[f] = true;
+                }
+            }
+            if (!cleanedLine.isEmpty()) {
+                cleaned.append(cleanedLine).append("\n");
+            }
+        }
+        
+        boolean isEmpty() {
+            return !hasLines;
+        }
+        
+        boolean isValid() {
+            for (boolean seen : seenFields) {
+                if (!seen) return false;
+            }
+            return true;
+        }
+        
+        // Same text cleanAndFormat would return for this record
+        String cleaned() {
+            return cleaned.toString().trim();
+        }
+        
+        void clear() {
+            cleaned.setLength(0);
+            java.util.Arrays.fill(seenFields, false);
+            hasLines = false;
+        }
+    }
+    
+    // PACKAGE-PRIVATE STATIC - the field parsing MappedPatientRecord shares with extractRecord.
+    // Fills values[f] (cleaned, after the key) from a raw line whose cleaned form starts with
+    // REQUIRED_FIELDS[f], unless an earlier line already did; an age must parse to count.
+    static void readField(String rawLine, String[] values) {
+        String cleaned = cleanLine(rawLine);
+        int colon = cleaned.indexOf(':');
+        if (colon < 0) return;
+        String key = cleaned.substring(0, colon + 1).toLowerCase();
+        for (int f = 0; f < REQUIRED_FIELDS.length; f++) {
+            if (key.equals(REQUIRED_FIELDS[f]) && values[f] == null) {
+                String value = cleaned.substring(colon + 1).trim();
+                if (f != AGE_FIELD || parseAge(value) >= 0) values[f] = value;
+                return;
+            }
+        }
+    }
+    
+    // Leading digits of the value ("45 years" and "45." are 45); -1 if none or more than three
+    static int parseAge(String value) {
+        if (value == null) return -1;
+        int age = 0;
+        int digits = 0;
+        while (digits < value.length() && value.charAt(digits) >= '0' && value.charAt(digits) <= '9') {
+            age = age * 10 + (value.charAt(digits++) - '0');
+            if (digits > 3) return -1;
+        }
+        return digits == 0 ? -1 : age;
+    }
+    
+    private static String cleanLine(String line) {
+        if (line == null || line.trim().isEmpty()) {
+            return "";
+        }
+        
+        String cleaned = line.trim();
+        
+        // Remove invalid characters but keep medical abbreviations
+        cleaned = cleaned.replaceAll("[^a-zA-Z0-9\\s:.,-]", "");
+        
+        // Fix common data entry errors
+        cleaned = cleaned.replaceAll("\\s+", " ")
+                         .replaceAll("\\s*:\\s*", ": ")
+                         .replaceAll("\\s*,\\s*", ", ");
+        
+        return cleaned;
+    }
+    
+    private String formatPatientField(String field) {
+        if (!field.contains(":")) {
+            return "  " + field;
+        }
+        
+        String[] parts = field.split(":", 2);
+        if (parts.length != 2) return field;
+        
+        String key = parts[0].trim();
+        String value = parts[1].trim();
+        
+        // Format key with padding
+        String formattedKey = String.format("%-15s", key + ":");
+        
+        return formattedKey + value;
+    }
+    
+    // STATIC UTILITY METHODS
+    public static String anonymizeData(String data) {
+        if (data == null) return "";
+        
+        // Anonymize sensitive information (names, SSN, credit cards, phone numbers)
+        // in a single pass over the text
+        return AnonymizationEngine.defaults().anonymize(data);
+    }
+}
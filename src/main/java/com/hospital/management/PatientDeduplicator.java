@@ -0,0 +1,321 @@
+package com.hospital.management;
+
+/**
+ * CLASS: PatientDeduplicator
+ * Purpose: Finds patient records that are the same person entered twice
+ *          ("Alice Johnson" vs "alice  johnson" vs "Johnson, Alice")
+ * Demonstrates: Blocking instead of all-pairs comparison, keys packed into a long[]
+ *               and sorted in parallel, Jaro-Winkler on normalized names, union-find
+ * 
+ * Names are folded to lower-case letters with accents removed ("José" -> "jose");
+ * letters outside A-Z (Cyrillic, Greek, CJK...) are kept. Every name token of two
+ * letters or more gives a blocking key: its first four letters plus the age. Only
+ * records sharing a key are compared, so a typo in one token is still caught through
+ * any other. A block larger than the
+ * window is sorted by name and each record compared to its next `window` neighbours,
+ * which bounds the work for common names. Matches are merged transitively.
+ */
+final class PatientDeduplicator {
+    static final double DEFAULT_THRESHOLD = 0.92;
+    static final int DEFAULT_WINDOW = 16;
+    
+    private static final int INDEX_BITS = 34;                  // key (28 bits) | record index
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final int UNKNOWN_AGE = 255;
+    private static final int MAX_COMPARED_CHARS = 64;          // Jaro-Winkler uses long bitmasks
+    
+    private final double threshold;
+    private final int window;
+    
+    private PatientDeduplicator(double threshold, int window) {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Threshold must be in (0, 1]: " + threshold);
+        }
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.threshold = threshold;
+        this.window = window;
+    }
+    
+    public static PatientDeduplicator defaults() {
+        return new PatientDeduplicator(DEFAULT_THRESHOLD, DEFAULT_WINDOW);
+    }
+    
+    // Minimum Jaro-Winkler similarity of the normalized names
+    public PatientDeduplicator withThreshold(double threshold) {
+        return new PatientDeduplicator(threshold, window);
+    }
+    
+    public PatientDeduplicator withWindow(int window) {
+        return new PatientDeduplicator(threshold, window);
+    }
+    
+    public DuplicateReport deduplicate(java.util.List<PatientRecord> records) {
+        return deduplicate(records, java.util.concurrent.ForkJoinPool.commonPool());
+    }
+    
+    public DuplicateReport deduplicate(java.util.List<PatientRecord> records, java.util.concurrent.ForkJoinPool pool) {
+        PatientRecord[] input = records.toArray(new PatientRecord[0]);
+        String[] names = new String[input.length];
+        java.util.concurrent.atomic.LongAdder comparisons = new java.util.concurrent.atomic.LongAdder();
+        java.util.List<long[]> matches = new java.util.ArrayList<>();
+        
+        // Running the parallel streams from inside the pool makes them use that pool
+        pool.submit(() -> {
+            // offsets[i + 1] = keys of record i, then prefix-summed into where each record's keys start
+            int[] offsets = new int[input.length + 1];
+            java.util.stream.IntStream.range(0, input.length).parallel().forEach(i -> {
+                names[i] = normalizeName(input[i].getName());
+                offsets[i + 1] = keyCount(names[i]);
+            });
+            java.util.Arrays.parallelPrefix(offsets, Integer::sum);
+            long[] keys = new long[offsets[input.length]];
+            java.util.stream.IntStream.range(0, input.length).parallel()
+                .forEach(i -> blockingKeys(names[i], input[i].getAge(), i, keys, offsets[i]));
+            java.util.Arrays.parallelSort(keys);
+            
+            int[] blocks = findBlocks(keys);
+            java.util.stream.IntStream.range(0, blocks.length / 2).parallel()
+                .mapToObj(b -> compareBlock(keys, blocks[2 * b], blocks[2 * b + 1], names, comparisons))
+                .filter(java.util.Objects::nonNull)
+                .forEachOrdered(matches::add);
+        }).join();
+        
+        int[] parent = new int[input.length];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+        for (long[] pairs : matches) {
+            for (long pair : pairs) {
+                union(parent, (int) (pair >>> 32), (int) pair);
+            }
+        }
+        for (int i = 0; i < parent.length; i++) parent[i] = find(parent, i);
+        return new DuplicateReport(parent, comparisons.sum());
+    }
+    
+    // Lower-case letter tokens in sorted order, so word order and spacing do not matter.
+    // Accents are folded away (NFD, then combining marks dropped); other letters are kept.
+    public static String normalizeName(CharSequence name) {
+        if (name == null) return "";
+        CharSequence text = name;
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) >= 0x80) {
+                text = java.text.Normalizer.normalize(name, java.text.Normalizer.Form.NFD);
+                break;
+            }
+        }
+        java.util.List<String> tokens = new java.util.ArrayList<>(4);
+        StringBuilder token = new StringBuilder(16);
+        for (int i = 0; i <= text.length(); ) {
+            int c = i < text.length() ? Character.codePointAt(text, i) : ' ';
+            i += i < text.length() ? Character.charCount(c) : 1;
+            if (c >= 'A' && c <= 'Z') c += 32;
+            if ((c >= 'a' && c <= 'z') || (c >= 0x80 && Character.isLetter(c))) {
+                token.appendCodePoint(c < 0x80 ? c : Character.toLowerCase(c));
+            } else if (c >= 0x80 && Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;                                   // accent split off by NFD
+            } else if (c != '\'' && token.length() > 0) {   // "o'neil" stays one token
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        java.util.Collections.sort(tokens);
+        return String.join(" ", tokens);
+    }
+    
+    // Similarity of two normalized names: every token must closely match some token
+    // of the other name, so a shared first name cannot outweigh a different surname
+    public static double nameSimilarity(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) return a.isEmpty() && b.isEmpty() ? 1 : 0;
+        return Math.min(worstTokenMatch(a, b, 0), worstTokenMatch(b, a, 0));
+    }
+    
+    // 1.0 for equal strings, 0.0 for nothing in common; only the first 64 chars count
+    public static double jaroWinkler(CharSequence a, CharSequence b) {
+        return jaroWinkler(a, 0, a.length(), b, 0, b.length());
+    }
+    
+    // PRIVATE HELPER METHODS
+    // Same as nameSimilarity(a, b) >= threshold, but stops at the first token that falls short
+    private static boolean isSimilar(String a, String b, double threshold) {
+        if (a.isEmpty() || b.isEmpty()) return a.isEmpty() && b.isEmpty();
+        return worstTokenMatch(a, b, threshold) >= threshold && worstTokenMatch(b, a, threshold) >= threshold;
+    }
+    
+    // Lowest best-match score over a's tokens; returns early once it is below giveUpBelow
+    private static double worstTokenMatch(String a, String b, double giveUpBelow) {
+        double worst = 1;
+        for (int i = 0; i < a.length() && worst >= giveUpBelow; ) {
+            int end = a.indexOf(' ', i);
+            if (end < 0) end = a.length();
+            double best = 0;
+            for (int j = 0; j < b.length() && best < 1; ) {
+                int bEnd = b.indexOf(' ', j);
+                if (bEnd < 0) bEnd = b.length();
+                best = Math.max(best, jaroWinkler(a, i, end, b, j, bEnd));
+                j = bEnd + 1;
+            }
+            worst = Math.min(worst, best);
+            i = end + 1;
+        }
+        return worst;
+    }
+    
+    // Jaro-Winkler of a[aFrom, aTo) and b[bFrom, bTo), matched characters tracked in bitmasks
+    private static double jaroWinkler(CharSequence a, int aFrom, int aTo, CharSequence b, int bFrom, int bTo) {
+        int la = Math.min(aTo - aFrom, MAX_COMPARED_CHARS);
+        int lb = Math.min(bTo - bFrom, MAX_COMPARED_CHARS);
+        if (la == 0 || lb == 0) return la == lb ? 1 : 0;
+        
+        int range = Math.max(0, Math.max(la, lb) / 2 - 1);
+        long matchedA = 0;
+        long matchedB = 0;
+        int matches = 0;
+        for (int i = 0; i < la; i++) {
+            char c = a.charAt(aFrom + i);
+            int to = Math.min(lb - 1, i + range);
+            for (int j = Math.max(0, i - range); j <= to; j++) {
+                if ((matchedB & (1L << j)) == 0 && b.charAt(bFrom + j) == c) {
+                    matchedA |= 1L << i;
+                    matchedB |= 1L << j;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) return 0;
+        
+        // Matched characters in order; each out-of-place pair is half a transposition
+        int outOfPlace = 0;
+        while (matchedA != 0) {
+            if (a.charAt(aFrom + Long.numberOfTrailingZeros(matchedA))
+                    != b.charAt(bFrom + Long.numberOfTrailingZeros(matchedB))) {
+                outOfPlace++;
+            }
+            matchedA &= matchedA - 1;
+            matchedB &= matchedB - 1;
+        }
+        double m = matches;
+        double jaro = (m / la + m / lb + (m - outOfPlace / 2.0) / m) / 3;
+        if (jaro <= 0.7) return jaro;
+        
+        int prefix = 0;
+        int maxPrefix = Math.min(4, Math.min(la, lb));
+        while (prefix < maxPrefix && a.charAt(aFrom + prefix) == b.charAt(bFrom + prefix)) prefix++;
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+    
+    // Number of entries blockingKeys() writes for the normalized name
+    private static int keyCount(String name) {
+        int count = 0;
+        int start = 0;
+        while (start < name.length()) {
+            int end = name.indexOf(' ', start);
+            if (end < 0) end = name.length();
+            if (isKeyToken(name, start, end, count)) count++;
+            start = end + 1;
+        }
+        return Math.max(count, 1);
+    }
+    
+    // One entry per key token (a name without one is blocked by age alone)
+    private static void blockingKeys(String name, int age, int index, long[] entries, int offset) {
+        long ageBits = age < 0 ? UNKNOWN_AGE : Math.min(age, UNKNOWN_AGE - 1);
+        int written = 0;
+        int start = 0;
+        while (start < name.length()) {
+            int end = name.indexOf(' ', start);
+            if (end < 0) end = name.length();
+            if (isKeyToken(name, start, end, written)) {
+                long prefix = 0;
+                for (int i = 0; i < 4; i++) {
+                    prefix = prefix << 5 | (start + i < end ? letterCode(name.charAt(start + i)) : 0);
+                }
+                entries[offset + written++] = ((prefix << 8 | ageBits) << INDEX_BITS) | index;
+            }
+            start = end + 1;
+        }
+        if (written == 0) {
+            entries[offset] = (ageBits << INDEX_BITS) | index;   // no name: block by age only
+        }
+    }
+    
+    // Tokens of two letters or more; a lone one-letter name still gets its key
+    private static boolean isKeyToken(String name, int start, int end, int keysSoFar) {
+        return end - start >= 2 || (keysSoFar == 0 && end == name.length());
+    }
+    
+    // 1-26 for a-z; other letters share 27-31, which only makes their blocks larger
+    private static int letterCode(char c) {
+        return c >= 'a' && c <= 'z' ? c - 'a' + 1 : 27 + c % 5;
+    }
+    
+    // [start, end) pairs of every run of two or more entries with the same key
+    private static int[] findBlocks(long[] entries) {
+        int[] blocks = new int[16];
+        int count = 0;
+        int start = 0;
+        for (int i = 1; i <= entries.length; i++) {
+            if (i == entries.length || (entries[i] >>> INDEX_BITS) != (entries[start] >>> INDEX_BITS)) {
+                if (i - start > 1) {
+                    if (count + 2 > blocks.length) blocks = java.util.Arrays.copyOf(blocks, blocks.length * 2);
+                    blocks[count++] = start;
+                    blocks[count++] = i;
+                }
+                start = i;
+            }
+        }
+        return java.util.Arrays.copyOf(blocks, count);
+    }
+    
+    // Matching pairs packed as (lower index << 32 | higher index), or null for none
+    private long[] compareBlock(long[] entries, int start, int end, String[] names,
+                                java.util.concurrent.atomic.LongAdder comparisons) {
+        int[] members = new int[end - start];
+        int size = 0;
+        for (int i = start; i < end; i++) {
+            int record = (int) (entries[i] & INDEX_MASK);
+            if (size == 0 || members[size - 1] != record) members[size++] = record;   // tokens sharing a prefix
+        }
+        if (size > window + 1) {
+            members = java.util.stream.IntStream.of(members).limit(size).boxed()
+                .sorted(java.util.Comparator.comparing((Integer r) -> names[r]))
+                .mapToInt(Integer::intValue).toArray();
+        }
+        
+        long[] pairs = null;
+        int found = 0;
+        long compared = 0;
+        for (int i = 0; i < size; i++) {
+            int last = Math.min(size - 1, i + window);
+            for (int j = i + 1; j <= last; j++) {
+                compared++;
+                if (isSimilar(names[members[i]], names[members[j]], threshold)) {
+                    if (pairs == null) pairs = new long[4];
+                    if (found == pairs.length) pairs = java.util.Arrays.copyOf(pairs, found * 2);
+                    int low = Math.min(members[i], members[j]);
+                    int high = Math.max(members[i], members[j]);
+                    pairs[found++] = (long) low << 32 | high;
+                }
+            }
+        }
+        comparisons.add(compared);
+        return pairs == null ? null : java.util.Arrays.copyOf(pairs, found);
+    }
+    
+    // The smaller index becomes the root, so every group is represented by its first record
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA < rootB) parent[rootB] = rootA;
+        else if (rootB < rootA) parent[rootA] = rootB;
+    }
+    
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];   // path halving
+            i = parent[i];
+        }
+        return i;
+    }
+}
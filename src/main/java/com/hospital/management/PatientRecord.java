@@ -0,0 +1,35 @@
+package com.hospital.management;
+
+/**
+ * CLASS: PatientRecord
+ * Purpose: Cleaned core fields of one patient record
+ * Demonstrates: Immutable value class with final fields
+ */
+final class PatientRecord {
+    private final String name;
+    private final int age;          // -1 if unknown
+    private final String condition;
+    
+    PatientRecord(String name, int age, String condition) {
+        this.name = name;
+        this.age = age;
+        this.condition = condition;
+    }
+    
+    // Copies the fields out of a mapped record (only valid during the visitor call)
+    static PatientRecord from(MappedPatientRecord record) {
+        return new PatientRecord(record.getName(), record.getAge(), record.getCondition());
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getAge() {
+        return age;
+    }
+    
+    public String getCondition() {
+        return condition;
+    }
+}
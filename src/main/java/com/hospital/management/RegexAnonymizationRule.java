@@ -0,0 +1,37 @@
+package com.hospital.management;
+
+/**
+ * CLASS: RegexAnonymizationRule
+ * Purpose: Pluggable rule backed by a Pattern compiled once
+ * Demonstrates: Transparent region matching so \b sees the surrounding text
+ */
+final class RegexAnonymizationRule implements AnonymizationRule {
+    private final java.util.regex.Pattern pattern;
+    private final String replacement;
+    private final ThreadLocal<java.util.regex.Matcher> matchers;
+    
+    RegexAnonymizationRule(java.util.regex.Pattern pattern, String replacement) {
+        this.pattern = pattern;
+        this.replacement = replacement;
+        this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+    
+    public int matchAt(CharSequence text, int at, boolean endOfInput) {
+        java.util.regex.Matcher matcher = matchers.get().reset(text);
+        matcher.useTransparentBounds(true).useAnchoringBounds(false).region(at, text.length());
+        boolean found = matcher.lookingAt();
+        if (!endOfInput && matcher.hitEnd()) {
+            return NEEDS_MORE_INPUT;
+        }
+        return found && matcher.end() > at ? matcher.end() : NO_MATCH;
+    }
+    
+    public String replacement() {
+        return replacement;
+    }
+    
+    @Override
+    public String toString() {
+        return "regex(" + pattern.pattern() + ")";
+    }
+}
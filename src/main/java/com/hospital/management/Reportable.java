@@ -0,0 +1,43 @@
+package com.hospital.management;
+
+/**
+ * INTERFACE: Reportable
+ * Purpose: Defines contract for generating reports
+ * Demonstrates: Interface with default method (Java 8+ feature)
+ */
+interface Reportable {
+    long UNVERSIONED = -1;
+    
+    String generateReport();
+    
+    // DEFAULT METHOD - provides implementation in interface (Java 8+)
+    default String getReportHeader() {
+        return "=== HOSPITAL MANAGEMENT REPORT ===";
+    }
+    
+    // Changes whenever the report content would change; UNVERSIONED disables caching
+    default long getReportVersion() {
+        return UNVERSIONED;
+    }
+    
+    // Report that is re-rendered only after a state change or once it is older than maxAge
+    default CachedReport cached(java.time.Duration maxAge) {
+        return new CachedReport(this, maxAge);
+    }
+    
+    // Streams the report instead of returning it; override to avoid building the String
+    default void writeReport(Appendable out) throws java.io.IOException {
+        out.append(generateReport());
+    }
+    
+    // Writes the report as UTF-8 through a pooled per-thread buffer
+    default void writeReport(java.nio.channels.WritableByteChannel channel) throws java.io.IOException {
+        ChannelAppendable out = ChannelAppendable.acquire(channel);
+        try {
+            writeReport(out);
+            out.flush();
+        } finally {
+            out.release();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hospital.management;
+
+/**
+ * CLASS: ShiftRoster
+ * Purpose: A solved week returned by ShiftScheduler
+ * Demonstrates: Immutable result object, applying a plan to live objects
+ */
+final class ShiftRoster {
+    private final java.util.Map<HospitalPersonnel, int[]> schedule;   // person -> shift ordinal per day, -1 = off
+    private final int unfilledPositions;
+    private final int violations;
+    
+    ShiftRoster(java.util.Map<HospitalPersonnel, int[]> schedule, int unfilledPositions, int violations) {
+        this.schedule = schedule;
+        this.unfilledPositions = unfilledPositions;
+        this.violations = violations;
+    }
+    
+    // PUBLIC METHODS
+    
+    // null when the person is off that day or was not scheduled at all
+    public ShiftScheduler.Shift getShift(HospitalPersonnel person, int day) {
+        int[] days = schedule.get(person);
+        return days == null || days[day] < 0 ? null : ShiftScheduler.Shift.values()[days[day]];
+    }
+    
+    public java.util.List<HospitalPersonnel> getScheduled(String department, int day, ShiftScheduler.Shift shift) {
+        java.util.List<HospitalPersonnel> result = new java.util.ArrayList<>();
+        for (java.util.Map.Entry<HospitalPersonnel, int[]> entry : schedule.entrySet()) {
+            if (entry.getValue()[day] == shift.ordinal() && entry.getKey().getDepartment().equals(department)) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+    
+    public int getWeeklyHours(HospitalPersonnel person) {
+        int[] days = schedule.get(person);
+        int hours = 0;
+        if (days != null) {
+            for (int shift : days) if (shift >= 0) hours += ShiftScheduler.Shift.HOURS;
+        }
+        return hours;
+    }
+    
+    // Positions the staff available could not cover, summed over the week
+    public int getUnfilledPositions() {
+        return unfilledPositions;
+    }
+    
+    // True when no hard rule is broken (unfilled positions may remain)
+    public boolean isFeasible() {
+        return violations == 0;
+    }
+    
+    // Puts exactly the doctors scheduled for this slot on call
+    public void applyOnCall(int day, ShiftScheduler.Shift shift) {
+        for (java.util.Map.Entry<HospitalPersonnel, int[]> entry : schedule.entrySet()) {
+            if (entry.getKey() instanceof Doctor) {
+                Doctor doctor = (Doctor) entry.getKey();
+                boolean onCall = entry.getValue()[day] == shift.ordinal();
+                if (doctor.isOnCall() != onCall) doctor.setOnCall(onCall);
+            }
+        }
+    }
+}
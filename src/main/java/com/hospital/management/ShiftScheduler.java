@@ -0,0 +1,289 @@
+package com.hospital.management;
+
+/**
+ * CLASS: ShiftScheduler
+ * Purpose: Builds a one-week roster of nurse shifts and doctor on-call shifts
+ * Demonstrates: Problem decomposition, simulated-annealing local search with
+ *               incremental cost updates, parallel solving on a ForkJoinPool
+ * 
+ * Coverage is requested per department (nurses) and per department and
+ * specialization (on-call doctors), as a head count for each shift of the day.
+ * Staff only cover their own department, and doctors only their specialization,
+ * so every (department[, specialization]) group is an independent subproblem.
+ * The subproblems are solved in parallel.
+ * 
+ * Hard rules, never broken by a returned roster that isFeasible():
+ *   - at most one shift per day (a shift is 8 hours, within MAX_SHIFT_HOURS)
+ *   - at most MAX_WORK_HOURS a week
+ *   - no day shift straight after a night shift
+ * Within those, shortfalls are minimized first, then over-staffing, then uneven load.
+ */
+final class ShiftScheduler {
+    enum Shift {
+        DAY, EVENING, NIGHT;
+        
+        static final int HOURS = 8;
+    }
+    
+    static final int DAYS = 7;
+    static final int MAX_SHIFTS_PER_WEEK = HospitalPersonnel.MAX_WORK_HOURS / Shift.HOURS;
+    
+    // Cost weights: a hard-rule break outweighs any coverage gain, a gap outweighs any load imbalance
+    private static final long HARD = 1_000_000;
+    private static final long UNDERSTAFFED = 1_000;
+    private static final long OVERSTAFFED = 10;
+    private static final int OFF = -1;
+    private static final int ITERATIONS_PER_CELL = 400;
+    
+    private final java.util.Map<String, int[]> nurseCoverage;     // department -> head count per shift
+    private final java.util.Map<String, int[]> onCallCoverage;    // department + '\0' + specialization -> head count
+    private final long seed;
+    
+    private ShiftScheduler(java.util.Map<String, int[]> nurseCoverage, java.util.Map<String, int[]> onCallCoverage, long seed) {
+        this.nurseCoverage = nurseCoverage;
+        this.onCallCoverage = onCallCoverage;
+        this.seed = seed;
+    }
+    
+    // STATIC FACTORY METHODS
+    public static ShiftScheduler create() {
+        return new ShiftScheduler(java.util.Map.of(), java.util.Map.of(), 42);
+    }
+    
+    // Returns a new scheduler that also needs `count` nurses from the department on every such shift
+    public ShiftScheduler withNurseCoverage(String department, Shift shift, int count) {
+        return new ShiftScheduler(withCount(nurseCoverage, department, shift, count), onCallCoverage, seed);
+    }
+    
+    // Returns a new scheduler that also needs `count` on-call doctors of the specialization
+    public ShiftScheduler withOnCallCoverage(String department, String specialization, Shift shift, int count) {
+        return new ShiftScheduler(nurseCoverage, withCount(onCallCoverage, department + '\0' + specialization, shift, count), seed);
+    }
+    
+    // Same inputs and seed always give the same roster
+    public ShiftScheduler withSeed(long seed) {
+        return new ShiftScheduler(nurseCoverage, onCallCoverage, seed);
+    }
+    
+    // PUBLIC METHODS
+    public ShiftRoster solve(java.util.Collection<? extends HospitalPersonnel> staff) {
+        return solve(staff, java.util.concurrent.ForkJoinPool.commonPool());
+    }
+    
+    public ShiftRoster solve(java.util.Collection<? extends HospitalPersonnel> staff, java.util.concurrent.ForkJoinPool pool) {
+        java.util.Map<String, java.util.List<HospitalPersonnel>> groups = new java.util.LinkedHashMap<>();
+        for (HospitalPersonnel person : staff) {
+            String key = groupKey(person);
+            if (key != null) groups.computeIfAbsent(key, k -> new java.util.ArrayList<>()).add(person);
+        }
+        java.util.List<Subproblem> subproblems = new java.util.ArrayList<>();
+        addSubproblems(subproblems, groups, nurseCoverage, "N");
+        addSubproblems(subproblems, groups, onCallCoverage, "D");
+        
+        // Running the parallel stream from inside the pool makes it use that pool
+        pool.submit(() -> subproblems.parallelStream().forEach(Subproblem::solve)).join();
+        
+        java.util.Map<HospitalPersonnel, int[]> schedule = new java.util.LinkedHashMap<>();
+        long shortfall = 0, violations = 0;
+        for (Subproblem subproblem : subproblems) {
+            for (int p = 0; p < subproblem.people.size(); p++) {
+                schedule.put(subproblem.people.get(p), subproblem.best[p]);
+            }
+            shortfall += subproblem.shortfall;
+            violations += subproblem.violations;
+        }
+        return new ShiftRoster(schedule, (int) shortfall, (int) violations);
+    }
+    
+    // PRIVATE HELPER METHODS
+    
+    // "N<dept>" for nurses, "D<dept>\0<spec>" for doctors
+    private static String groupKey(HospitalPersonnel person) {
+        if (person instanceof Nurse) return "N" + person.getDepartment();
+        if (person instanceof Doctor) return "D" + person.getDepartment() + '\0' + ((Doctor) person).getSpecialization();
+        return null;
+    }
+    
+    private void addSubproblems(java.util.List<Subproblem> out, java.util.Map<String, java.util.List<HospitalPersonnel>> groups,
+                                java.util.Map<String, int[]> coverage, String prefix) {
+        for (java.util.Map.Entry<String, int[]> entry : coverage.entrySet()) {
+            java.util.List<HospitalPersonnel> people = groups.getOrDefault(prefix + entry.getKey(), java.util.List.of());
+            out.add(new Subproblem(people, entry.getValue(), seed ^ entry.getKey().hashCode()));
+        }
+    }
+    
+    private static java.util.Map<String, int[]> withCount(java.util.Map<String, int[]> coverage, String key, Shift shift, int count) {
+        if (count < 0) throw new IllegalArgumentException("count must not be negative");
+        java.util.Map<String, int[]> copy = new java.util.LinkedHashMap<>(coverage);
+        int[] counts = copy.containsKey(key) ? copy.get(key).clone() : new int[Shift.values().length];
+        counts[shift.ordinal()] = count;
+        copy.put(key, counts);
+        return java.util.Collections.unmodifiableMap(copy);
+    }
+    
+    /**
+     * One group of interchangeable staff and its per-shift head counts. The state is
+     * assignment[person][day] = shift ordinal or OFF, with coverage and weekly load
+     * kept up to date so each move's cost change is computed in constant time.
+     */
+    private static final class Subproblem {
+        final java.util.List<HospitalPersonnel> people;
+        final int[] required;
+        final long seed;
+        int[][] best;
+        int shortfall;
+        int violations;
+        
+        private int[][] assignment;
+        private int[][] covered;
+        private int[] load;
+        
+        Subproblem(java.util.List<HospitalPersonnel> people, int[] required, long seed) {
+            this.people = people;
+            this.required = required;
+            this.seed = seed;
+        }
+        
+        void solve() {
+            int n = people.size();
+            assignment = new int[n][DAYS];
+            covered = new int[DAYS][required.length];
+            load = new int[n];
+            for (int[] row : assignment) java.util.Arrays.fill(row, OFF);
+            greedyStart();
+            best = copy(assignment);
+            if (n > 0) anneal();
+            measure(best);
+        }
+        
+        // Fill each shift from the least-loaded staff who can legally take it
+        private void greedyStart() {
+            for (int day = 0; day < DAYS; day++) {
+                for (int shift = 0; shift < required.length; shift++) {
+                    while (covered[day][shift] < required[shift]) {
+                        int pick = -1;
+                        for (int p = 0; p < people.size(); p++) {
+                            if (assignment[p][day] == OFF && load[p] < MAX_SHIFTS_PER_WEEK
+                                    && rest(p, day, shift) == 0 && (pick < 0 || load[p] < load[pick])) {
+                                pick = p;
+                            }
+                        }
+                        if (pick < 0) break;
+                        set(pick, day, shift);
+                    }
+                }
+            }
+        }
+        
+        private void anneal() {
+            java.util.SplittableRandom random = new java.util.SplittableRandom(seed);
+            long iterations = (long) people.size() * DAYS * ITERATIONS_PER_CELL;
+            double temperature = 2 * UNDERSTAFFED, cooling = Math.pow(0.01 / temperature, 1.0 / iterations);
+            long cost = totalCost(), bestCost = cost;
+            for (long i = 0; i < iterations; i++, temperature *= cooling) {
+                int p = random.nextInt(people.size());
+                int day = random.nextInt(DAYS);
+                int from = assignment[p][day];
+                int to = random.nextInt(OFF, required.length - 1);
+                if (to >= from) to++;    // any value other than the current one
+                long delta = delta(p, day, from, to);
+                if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                    set(p, day, to);
+                    cost += delta;
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        copyInto(assignment, best);
+                    }
+                }
+            }
+        }
+        
+        private long delta(int p, int day, int from, int to) {
+            long delta = 0;
+            if (from != OFF) delta += slotCost(day, from, -1) - slotCost(day, from, 0);
+            if (to != OFF) delta += slotCost(day, to, +1) - slotCost(day, to, 0);
+            int newLoad = load[p] + (to == OFF ? 0 : 1) - (from == OFF ? 0 : 1);
+            delta += loadCost(newLoad) - loadCost(load[p]);
+            delta += (rest(p, day, to) - rest(p, day, from)) * HARD;
+            return delta;
+        }
+        
+        private long slotCost(int day, int shift, int change) {
+            int gap = required[shift] - covered[day][shift] - change;
+            return gap > 0 ? gap * UNDERSTAFFED : -gap * OVERSTAFFED;
+        }
+        
+        // Squared load spreads shifts evenly; going over the weekly limit is a hard break
+        private static long loadCost(int shifts) {
+            long over = Math.max(0, shifts - MAX_SHIFTS_PER_WEEK);
+            return over * HARD + (long) shifts * shifts;
+        }
+        
+        // Number of night-then-day breaks person p would have with `shift` on `day`
+        private int rest(int p, int day, int shift) {
+            int breaks = 0;
+            int night = Shift.NIGHT.ordinal(), morning = Shift.DAY.ordinal();
+            if (shift == morning && day > 0 && assignment[p][day - 1] == night) breaks++;
+            if (shift == night && day + 1 < DAYS && assignment[p][day + 1] == morning) breaks++;
+            return breaks;
+        }
+        
+        private void set(int p, int day, int shift) {
+            int from = assignment[p][day];
+            if (from != OFF) {
+                covered[day][from]--;
+                load[p]--;
+            }
+            if (shift != OFF) {
+                covered[day][shift]++;
+                load[p]++;
+            }
+            assignment[p][day] = shift;
+        }
+        
+        private long totalCost() {
+            long cost = 0;
+            for (int day = 0; day < DAYS; day++) {
+                for (int shift = 0; shift < required.length; shift++) cost += slotCost(day, shift, 0);
+            }
+            for (int p = 0; p < people.size(); p++) {
+                cost += loadCost(load[p]);
+                for (int day = 1; day < DAYS; day++) {
+                    if (assignment[p][day] == Shift.DAY.ordinal() && assignment[p][day - 1] == Shift.NIGHT.ordinal()) cost += HARD;
+                }
+            }
+            return cost;
+        }
+        
+        // Recount shortfall and hard-rule breaks for the final schedule
+        private void measure(int[][] schedule) {
+            int[][] count = new int[DAYS][required.length];
+            for (int p = 0; p < schedule.length; p++) {
+                int shifts = 0;
+                for (int day = 0; day < DAYS; day++) {
+                    int shift = schedule[p][day];
+                    if (shift == OFF) continue;
+                    count[day][shift]++;
+                    shifts++;
+                    if (shift == Shift.DAY.ordinal() && day > 0 && schedule[p][day - 1] == Shift.NIGHT.ordinal()) violations++;
+                }
+                if (shifts > MAX_SHIFTS_PER_WEEK) violations++;
+            }
+            for (int day = 0; day < DAYS; day++) {
+                for (int shift = 0; shift < required.length; shift++) {
+                    shortfall += Math.max(0, required[shift] - count[day][shift]);
+                }
+            }
+        }
+        
+        private static int[][] copy(int[][] source) {
+            int[][] target = new int[source.length][];
+            for (int i = 0; i < source.length; i++) target[i] = source[i].clone();
+            return target;
+        }
+        
+        private static void copyInto(int[][] source, int[][] target) {
+            for (int i = 0; i < source.length; i++) System.arraycopy(source[i], 0, target[i], 0, source[i].length);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.hospital.management;
+
+/**
+ * CLASS: SpecializationIndex
+ * Purpose: Shared, immutable index of specialization synonyms -> canonical names
+ *          (e.g. "heart" -> "CARDIOLOGY"), built once and looked up without allocation
+ * Demonstrates: Open-addressing hash table, normalization while hashing,
+ *               sorted keys for prefix search, bounded edit distance for fuzzy search
+ * 
+ * File format, one canonical name per line followed by its synonyms:
+ *   CARDIOLOGY: heart, cardiac
+ *   # comments and blank lines are ignored
+ */
+final class SpecializationIndex {
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MIN_FUZZY_LENGTH = 5;   // shorter inputs are one edit from too much
+    private static final int MAX_FUZZY_EDITS = 1;
+    private static final SpecializationIndex DEFAULTS = new SpecializationIndex(defaultSynonyms());
+    
+    // Keys are stored normalized: trimmed, upper-case, whitespace runs as '_'
+    private final String[] slotKeys;
+    private final String[] slotValues;
+    private final int mask;
+    private final String[] sortedKeys;
+    private final java.util.Map<String, String> synonyms;   // normalized key -> canonical
+    
+    private SpecializationIndex(java.util.Map<String, String> rawSynonyms) {
+        java.util.Map<String, String> canonicals = new java.util.HashMap<>();   // one instance per name
+        java.util.Map<String, String> normalized = new java.util.LinkedHashMap<>();
+        for (java.util.Map.Entry<String, String> entry : rawSynonyms.entrySet()) {
+            String canonical = normalize(entry.getValue());
+            canonical = canonicals.computeIfAbsent(canonical, c -> c);
+            normalized.put(canonical, canonical);
+            normalized.put(normalize(entry.getKey()), canonical);
+        }
+        synonyms = java.util.Collections.unmodifiableMap(normalized);
+        
+        int capacity = Integer.highestOneBit(Math.max(4, normalized.size() * 2) - 1) << 1;
+        slotKeys = new String[capacity];
+        slotValues = new String[capacity];
+        mask = capacity - 1;
+        for (java.util.Map.Entry<String, String> entry : normalized.entrySet()) {
+            int slot = entry.getKey().hashCode() & mask;
+            while (slotKeys[slot] != null) slot = (slot + 1) & mask;
+            slotKeys[slot] = entry.getKey();
+            slotValues[slot] = entry.getValue();
+        }
+        
+        sortedKeys = normalized.keySet().toArray(new String[0]);
+        java.util.Arrays.sort(sortedKeys);
+    }
+    
+    // STATIC FACTORY METHODS
+    public static SpecializationIndex defaults() {
+        return DEFAULTS;
+    }
+    
+    public static SpecializationIndex of(java.util.Map<String, String> synonymToCanonical) {
+        return new SpecializationIndex(synonymToCanonical);
+    }
+    
+    public static SpecializationIndex load(java.nio.file.Path file) throws java.io.IOException {
+        java.util.Map<String, String> synonyms = new java.util.LinkedHashMap<>(defaultSynonyms());
+        int lineNumber = 0;
+        for (String line : java.nio.file.Files.readAllLines(file)) {
+            lineNumber++;
+            String entry = line.trim();
+            if (entry.isEmpty() || entry.startsWith("#")) continue;
+            
+            int colon = entry.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException(file + ":" + lineNumber + ": expected 'CANONICAL: synonym, ...'");
+            }
+            String canonical = entry.substring(0, colon);
+            synonyms.put(canonical, canonical);
+            for (String synonym : entry.substring(colon + 1).split(",")) {
+                if (!synonym.trim().isEmpty()) {
+                    synonyms.put(synonym, canonical);
+                }
+            }
+        }
+        return new SpecializationIndex(synonyms);
+    }
+    
+    // Returns a new index that also knows the given synonym
+    public SpecializationIndex withSynonym(String synonym, String canonical) {
+        java.util.Map<String, String> all = new java.util.LinkedHashMap<>(synonyms);
+        all.put(synonym, canonical);
+        return new SpecializationIndex(all);
+    }
+    
+    // PUBLIC METHODS
+    
+    // Exact lookup of raw input; returns the shared canonical instance or null
+    public String lookup(String raw) {
+        for (int i = 0; i < raw.length(); i++) {
+            if (raw.charAt(i) >= 0x80) {
+                return lookupNormalized(normalize(raw));   // Unicode upper-casing: use the JDK
+            }
+        }
+        int start = 0;
+        int end = raw.length();
+        while (start < end && raw.charAt(start) <= ' ') start++;
+        while (end > start && raw.charAt(end - 1) <= ' ') end--;
+        
+        int slot = normalizedHash(raw, start, end) & mask;
+        while (slotKeys[slot] != null) {
+            if (normalizedEquals(raw, start, end, slotKeys[slot])) {
+                return slotValues[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+    
+    // What Doctor uses: exact match, else a unique prefix ("cardio"), else a unique synonym
+    // one typo away ("cardiolgy"); null if none. Only the exact path is allocation-free.
+    public String resolve(String raw) {
+        String canonical = lookup(raw);
+        if (canonical != null) return canonical;
+        canonical = lookupPrefix(raw);
+        if (canonical != null) return canonical;
+        return normalize(raw).length() >= MIN_FUZZY_LENGTH ? lookupFuzzy(raw, MAX_FUZZY_EDITS) : null;
+    }
+    
+    // Unique canonical name among all synonyms starting with the input ("CARDIO" -> CARDIOLOGY)
+    public String lookupPrefix(String raw) {
+        String prefix = normalize(raw);
+        if (prefix.length() < MIN_PREFIX_LENGTH) return null;
+        
+        int i = java.util.Arrays.binarySearch(sortedKeys, prefix);
+        if (i < 0) i = -i - 1;
+        String found = null;
+        for (; i < sortedKeys.length && sortedKeys[i].startsWith(prefix); i++) {
+            String canonical = synonyms.get(sortedKeys[i]);
+            if (found != null && found != canonical) return null;   // ambiguous
+            found = canonical;
+        }
+        return found;
+    }
+    
+    // Closest synonym within maxEdits (Levenshtein); null if none or if the best is ambiguous
+    public String lookupFuzzy(String raw, int maxEdits) {
+        String target = normalize(raw);
+        String best = null;
+        int bestDistance = maxEdits + 1;
+        boolean ambiguous = false;
+        for (String key : sortedKeys) {
+            int allowed = Math.min(bestDistance, maxEdits);   // ties with the best still count
+            if (Math.abs(key.length() - target.length()) > allowed) continue;
+            int distance = boundedEditDistance(key, target, allowed + 1);
+            if (distance > allowed) continue;
+            String canonical = synonyms.get(key);
+            if (distance < bestDistance) {
+                best = canonical;
+                bestDistance = distance;
+                ambiguous = false;
+            } else if (distance == bestDistance && best != canonical) {
+                ambiguous = true;
+            }
+        }
+        return ambiguous ? null : best;
+    }
+    
+    public int size() {
+        return synonyms.size();
+    }
+    
+    // PRIVATE HELPER METHODS
+    private static java.util.Map<String, String> defaultSynonyms() {
+        java.util.Map<String, String> synonyms = new java.util.LinkedHashMap<>();
+        synonyms.put("CARDIOLOGY", "CARDIOLOGY");
+        synonyms.put("HEART", "CARDIOLOGY");
+        synonyms.put("NEUROLOGY", "NEUROLOGY");
+        synonyms.put("BRAIN", "NEUROLOGY");
+        synonyms.put("ORTHOPEDICS", "ORTHOPEDICS");
+        synonyms.put("BONE", "ORTHOPEDICS");
+        return synonyms;
+    }
+    
+    // Same normalization Doctor has always applied to specializations
+    static String normalize(String raw) {
+        return TextNormalizer.collapseWhitespace(raw.trim().toUpperCase(), '_');
+    }
+    
+    private String lookupNormalized(String key) {
+        int slot = key.hashCode() & mask;
+        while (slotKeys[slot] != null) {
+            if (slotKeys[slot].equals(key)) return slotValues[slot];
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+    
+    // String.hashCode() of the normalized form of raw[start..end), for ASCII input
+    private static int normalizedHash(String raw, int start, int end) {
+        int hash = 0;
+        int i = start;
+        while (i < end) {
+            char c = raw.charAt(i++);
+            if (TextNormalizer.isWhitespace(c)) {
+                c = '_';
+                while (i < end && TextNormalizer.isWhitespace(raw.charAt(i))) i++;
+            } else if (c >= 'a' && c <= 'z') {
+                c = (char) (c - 32);
+            }
+            hash = 31 * hash + c;
+        }
+        return hash;
+    }
+    
+    private static boolean normalizedEquals(String raw, int start, int end, String key) {
+        int i = start;
+        int k = 0;
+        while (i < end) {
+            char c = raw.charAt(i++);
+            if (TextNormalizer.isWhitespace(c)) {
+                c = '_';
+                while (i < end && TextNormalizer.isWhitespace(raw.charAt(i))) i++;
+            } else if (c >= 'a' && c <= 'z') {
+                c = (char) (c - 32);
+            }
+            if (k == key.length() || key.charAt(k++) != c) return false;
+        }
+        return k == key.length();
+    }
+    
+    // Levenshtein distance, or 'limit' as soon as it is known to be at least that
+    private static int boundedEditDistance(String a, String b, int limit) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+        
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin >= limit) return limit;
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit);
+    }
+}
@@ -0,0 +1,507 @@
+package com.hospital.management;
+
+/**
+ * CLASS: StaffJournal
+ * Purpose: Append-only write-ahead journal of staff state changes (admissions,
+ *          discharges, on-call changes, ward assignments) so they survive a crash
+ * Demonstrates: Group commit, double-buffered background writer, CRC-checked
+ *               records, segment files, memory-mapped replay
+ * 
+ * Changes are recorded through HospitalPersonnel.useJournal(journal). In GROUP
+ * mode record() returns once the change is on disk, but one fsync covers every
+ * change that arrived while the previous one was running, so concurrent callers
+ * share syncs. ASYNC mode returns at once; the last batch may be lost on a crash.
+ * 
+ * Segment files are named journal-<first sequence>.log:
+ *   magic "HMJ1", first sequence (long)
+ *   records: payload length (int), CRC32 of payload (int), payload =
+ *     sequence (long), type (byte), timestamp millis (long),
+ *     staff ID and detail as (short length, UTF-8 bytes), length -1 for null
+ * A torn or corrupt record at the end of the newest segment (a crash mid-write)
+ * is cut off when the journal is reopened and ignored by replay; a newest segment
+ * whose header was torn (a crash while rolling over) counts as empty. A batch
+ * whose write fails while running is cut off again before callers undo it.
+ */
+final class StaffJournal implements java.io.Closeable {
+    enum CommitMode { GROUP, ASYNC }
+    
+    // Entry types
+    static final byte PATIENT_ADDED = 1;
+    static final byte PATIENT_DISCHARGED = 2;
+    static final byte ON_CALL = 3;
+    static final byte OFF_CALL = 4;
+    static final byte WARD_ASSIGNED = 5;
+    static final byte WARD_REMOVED = 6;
+    
+    static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+    
+    private static final int SEGMENT_MAGIC = 0x484D4A31;   // "HMJ1"
+    private static final int SEGMENT_HEADER_BYTES = 12;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int MIN_PAYLOAD_BYTES = 8 + 1 + 8 + 2 + 2;
+    private static final int MAX_PAYLOAD_BYTES = MIN_PAYLOAD_BYTES + 2 * Short.MAX_VALUE;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    
+    private final java.nio.file.Path directory;
+    private final long segmentBytes;
+    private final CommitMode mode;
+    private final Thread committer;
+    private final java.util.zip.CRC32 crc = new java.util.zip.CRC32();
+    
+    // Guarded by this: records are encoded into `pending` while the committer writes `writing`
+    private java.nio.ByteBuffer pending = java.nio.ByteBuffer.allocate(64 * 1024);
+    private java.nio.ByteBuffer writing = java.nio.ByteBuffer.allocate(64 * 1024);
+    private long pendingFirstSequence;
+    private long nextSequence;
+    private long durableSequence;
+    private java.io.IOException failure;
+    private boolean batchInDoubt;   // a failed batch could not be cut off the segment
+    private boolean closed;
+    
+    // Owned by the committer thread after open()
+    private java.nio.channels.FileChannel segment;
+    private long segmentSize;
+    
+    private StaffJournal(java.nio.file.Path directory, long segmentBytes, CommitMode mode,
+                         java.nio.channels.FileChannel segment, long segmentSize, long nextSequence) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.mode = mode;
+        this.segment = segment;
+        this.segmentSize = segmentSize;
+        this.nextSequence = nextSequence;
+        this.durableSequence = nextSequence - 1;
+        this.committer = new Thread(this::commitLoop, "staff-journal-committer");
+        this.committer.setDaemon(true);
+    }
+    
+    // STATIC FACTORY METHODS
+    public static StaffJournal open(java.nio.file.Path directory) throws java.io.IOException {
+        return open(directory, DEFAULT_SEGMENT_BYTES, CommitMode.GROUP);
+    }
+    
+    // Continues an existing journal after its last intact record, or starts a new one
+    public static StaffJournal open(java.nio.file.Path directory, long segmentBytes, CommitMode mode)
+            throws java.io.IOException {
+        java.nio.file.Files.createDirectories(directory);
+        java.util.List<java.nio.file.Path> segments = listSegments(directory);
+        java.nio.channels.FileChannel channel;
+        long size, next;
+        if (segments.isEmpty()) {
+            next = 1;
+            channel = createSegment(directory, next);
+            size = SEGMENT_HEADER_BYTES;
+        } else {
+            java.nio.file.Path last = segments.get(segments.size() - 1);
+            channel = java.nio.channels.FileChannel.open(last, java.nio.file.StandardOpenOption.READ,
+                                                         java.nio.file.StandardOpenOption.WRITE);
+            if (!hasHeader(channel)) {
+                // A crash while rolling over tore the new segment's header: nothing
+                // was ever committed to it, so start it again
+                channel.close();
+                next = firstSequenceOf(last);
+                java.nio.file.Files.delete(last);
+                channel = createSegment(directory, next);
+                size = SEGMENT_HEADER_BYTES;
+            } else {
+                long[] scan = new long[2];   // end of intact records, last sequence
+                scanSegment(channel, last, null, Long.MIN_VALUE, scan);
+                size = scan[0];
+                next = scan[1] + 1;
+                if (channel.size() > size) {
+                    channel.truncate(size);   // drop a record torn by a crash
+                    channel.force(true);
+                }
+            }
+            channel.position(size);
+        }
+        StaffJournal journal = new StaffJournal(directory, segmentBytes, mode, channel, size, next);
+        journal.committer.start();
+        return journal;
+    }
+    
+    /**
+     * Replays every intact entry with a sequence above afterSequence, in order.
+     * Pass the sequence a snapshot was taken at to apply only newer changes.
+     * Returns the last sequence seen (afterSequence if there were none).
+     */
+    public static long replay(java.nio.file.Path directory, long afterSequence,
+                              java.util.function.Consumer<Entry> action) throws java.io.IOException {
+        long last = afterSequence;
+        java.util.List<java.nio.file.Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            // Skip segments whose entries all come before afterSequence
+            if (i + 1 < segments.size() && firstSequenceOf(segments.get(i + 1)) <= afterSequence + 1) continue;
+            try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(segments.get(i))) {
+                if (i + 1 == segments.size() && !hasHeader(channel)) break;   // torn while rolling over
+                long[] scan = new long[2];
+                scanSegment(channel, segments.get(i), action, afterSequence, scan);
+                if (scan[0] < channel.size() && i + 1 < segments.size()) {
+                    throw new java.io.IOException("Corrupt journal segment: " + segments.get(i));
+                }
+                last = Math.max(last, scan[1]);
+            }
+        }
+        return last;
+    }
+    
+    // Brings staff restored from a snapshot up to date: replays what followed it
+    public static int replayInto(java.nio.file.Path directory, StaffSnapshot snapshot, StaffRegistry registry)
+            throws java.io.IOException {
+        return replayInto(directory, snapshot.getJournalSequence(), registry);
+    }
+    
+    /**
+     * Applies journaled changes to the staff in a registry (e.g. one just restored
+     * from a StaffSnapshot). Must run before HospitalPersonnel.useJournal(), or the
+     * replayed changes would be journaled again. Returns the number of entries applied.
+     */
+    public static int replayInto(java.nio.file.Path directory, long afterSequence, StaffRegistry registry)
+            throws java.io.IOException {
+        if (HospitalPersonnel.getJournal() != null) {
+            throw new IllegalStateException("Replay before HospitalPersonnel.useJournal()");
+        }
+        int[] applied = new int[1];
+        replay(directory, afterSequence, entry -> {
+            if (entry.apply(registry.findById(entry.getStaffId()))) applied[0]++;
+        });
+        return applied[0];
+    }
+    
+    // PUBLIC METHODS
+    
+    /**
+     * Appends one change and returns its sequence number; in GROUP mode waits until
+     * it is durable. Throws UncheckedIOException if the journal can no longer write,
+     * in which case callers undo the in-memory change, or IllegalStateException if a
+     * failed write could not be cut off and the change may be on disk after all.
+     */
+    public long record(byte type, String staffId, String detail) {
+        long sequence = append(type, staffId, detail);
+        commit(sequence);
+        return sequence;
+    }
+    
+    // Queues a change for the committer without waiting; pair with commit()
+    public synchronized long append(byte type, String staffId, String detail) {
+        if (failure != null) throw new java.io.UncheckedIOException("Journal write failed", failure);
+        if (closed) throw new IllegalStateException("Journal is closed");
+        long sequence = nextSequence;
+        boolean wasEmpty = pending.position() == 0;
+        encode(sequence, type, System.currentTimeMillis(), staffId, detail);
+        nextSequence++;
+        if (wasEmpty) {
+            pendingFirstSequence = sequence;
+            notifyAll();    // wake the committer
+        }
+        return sequence;
+    }
+    
+    // GROUP mode: waits until the change with this sequence is on disk. ASYNC: returns at once
+    public synchronized void commit(long sequence) {
+        if (mode == CommitMode.GROUP) awaitDurable(sequence);
+    }
+    
+    // Blocks until every change recorded so far is on disk
+    public synchronized void sync() {
+        awaitDurable(nextSequence - 1);
+    }
+    
+    // Sequence of the last change recorded (durable or not), 0 if none
+    public synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+    
+    /**
+     * Deletes segments that only hold entries up to the given sequence, e.g. after a
+     * StaffSnapshot has been saved at that point. The current segment is always kept.
+     */
+    public int discardThrough(long sequence) throws java.io.IOException {
+        java.util.List<java.nio.file.Path> segments = listSegments(directory);
+        int deleted = 0;
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstSequenceOf(segments.get(i + 1)) > sequence + 1) break;
+            java.nio.file.Files.delete(segments.get(i));
+            deleted++;
+        }
+        return deleted;
+    }
+    
+    // Writes out anything pending, then stops the committer
+    public void close() throws java.io.IOException {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            notifyAll();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new java.io.InterruptedIOException("Interrupted while closing journal");
+        }
+        segment.close();
+        synchronized (this) {
+            if (failure != null) throw failure;
+        }
+    }
+    
+    /**
+     * ENTRY: one replayed change
+     */
+    static final class Entry {
+        private final long sequence;
+        private final byte type;
+        private final long timestampMillis;
+        private final String staffId;
+        private final String detail;
+        
+        Entry(long sequence, byte type, long timestampMillis, String staffId, String detail) {
+            this.sequence = sequence;
+            this.type = type;
+            this.timestampMillis = timestampMillis;
+            this.staffId = staffId;
+            this.detail = detail;
+        }
+        
+        public long getSequence() { return sequence; }
+        public byte getType() { return type; }
+        public long getTimestampMillis() { return timestampMillis; }
+        public String getStaffId() { return staffId; }
+        public String getDetail() { return detail; }   // ward name, null for other types
+        
+        // Re-applies the change without printing; false if it does not fit the person
+        boolean apply(HospitalPersonnel person) {
+            if (person instanceof Doctor) {
+                Doctor doctor = (Doctor) person;
+                switch (type) {
+                    case PATIENT_ADDED: return doctor.tryAddPatient();
+                    case PATIENT_DISCHARGED: return doctor.dischargePatient();
+                    case ON_CALL: doctor.updateOnCall(true); return true;
+                    case OFF_CALL: doctor.updateOnCall(false); return true;
+                    default: return false;
+                }
+            }
+            if (person instanceof Nurse) {
+                Nurse nurse = (Nurse) person;
+                switch (type) {
+                    case WARD_ASSIGNED: return nurse.addWard(detail);
+                    case WARD_REMOVED: return nurse.removeWard(detail);
+                    default: return false;
+                }
+            }
+            return false;
+        }
+    }
+    
+    // PRIVATE HELPER METHODS
+    
+    // Caller holds the lock
+    private void awaitDurable(long sequence) {
+        boolean interrupted = false;
+        while (durableSequence < sequence && failure == null && committer.isAlive()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;   // keep waiting: the record is already queued
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        if (durableSequence < sequence && batchInDoubt) {
+            // Not an UncheckedIOException: the change may be on disk, so it must not be undone
+            throw new IllegalStateException("Journal failed mid-write; restart from the last snapshot", failure);
+        }
+        if (durableSequence < sequence) {
+            throw new java.io.UncheckedIOException("Journal write failed",
+                failure != null ? failure : new java.io.IOException("Journal committer stopped"));
+        }
+    }
+    
+    // Caller holds the lock
+    private void encode(long sequence, byte type, long timestampMillis, String staffId, String detail) {
+        byte[] id = staffId == null ? null : staffId.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        byte[] text = detail == null ? null : detail.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        if ((id != null && id.length > Short.MAX_VALUE) || (text != null && text.length > Short.MAX_VALUE)) {
+            throw new IllegalArgumentException("Journal entry too large");
+        }
+        int payload = MIN_PAYLOAD_BYTES + (id == null ? 0 : id.length) + (text == null ? 0 : text.length);
+        if (pending.remaining() < RECORD_HEADER_BYTES + payload) {
+            java.nio.ByteBuffer larger = java.nio.ByteBuffer.allocate(
+                Math.max(pending.capacity() * 2, pending.position() + RECORD_HEADER_BYTES + payload));
+            pending.flip();
+            pending = larger.put(pending);
+        }
+        int start = pending.position();
+        pending.putInt(payload).putInt(0)
+               .putLong(sequence).put(type).putLong(timestampMillis);
+        putBytes(pending, id);
+        putBytes(pending, text);
+        crc.reset();
+        crc.update(pending.array(), start + RECORD_HEADER_BYTES, payload);
+        pending.putInt(start + 4, (int) crc.getValue());
+    }
+    
+    private static void putBytes(java.nio.ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) bytes.length).put(bytes);
+        }
+    }
+    
+    // Background thread: swap buffers, write and fsync the batch, publish durability
+    private void commitLoop() {
+        while (true) {
+            long firstSequence, lastSequence;
+            synchronized (this) {
+                while (pending.position() == 0 && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // only close() stops the committer
+                    }
+                }
+                if (pending.position() == 0) return;   // closed and drained
+                java.nio.ByteBuffer batch = pending;
+                pending = writing;
+                writing = batch;
+                firstSequence = pendingFirstSequence;
+                lastSequence = nextSequence - 1;
+            }
+            long committedSize = segmentSize;
+            boolean started = false;
+            try {
+                writing.flip();
+                if (segmentSize > SEGMENT_HEADER_BYTES && segmentSize + writing.remaining() > segmentBytes) {
+                    segment.force(true);
+                    segment.close();
+                    segment = createSegment(directory, firstSequence);
+                    segmentSize = committedSize = SEGMENT_HEADER_BYTES;
+                }
+                started = true;
+                while (writing.hasRemaining()) {
+                    segmentSize += segment.write(writing);
+                }
+                segment.force(false);
+                writing.clear();
+            } catch (java.io.IOException e) {
+                // Part of the batch may already be on disk. Callers undo these changes
+                // in memory, so cut the file back first; if even that fails, the batch
+                // is in doubt and commit() reports the journal as unusable instead
+                boolean inDoubt = started && !truncate(committedSize, e);
+                synchronized (this) {
+                    failure = e;
+                    batchInDoubt = inDoubt;
+                    notifyAll();
+                }
+                return;
+            }
+            synchronized (this) {
+                durableSequence = lastSequence;
+                notifyAll();
+            }
+        }
+    }
+    
+    // Committer thread: cuts a failed batch off the segment; false if that failed too
+    private boolean truncate(long size, java.io.IOException cause) {
+        try {
+            segment.truncate(size);
+            segment.force(true);
+            segmentSize = size;
+            return true;
+        } catch (java.io.IOException e) {
+            cause.addSuppressed(e);
+            return false;
+        }
+    }
+    
+    private static boolean hasHeader(java.nio.channels.FileChannel channel) throws java.io.IOException {
+        java.nio.ByteBuffer header = java.nio.ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // read until the header is full or the file ends
+        }
+        return !header.hasRemaining() && header.getInt(0) == SEGMENT_MAGIC;
+    }
+    
+    private static java.nio.channels.FileChannel createSegment(java.nio.file.Path directory, long firstSequence)
+            throws java.io.IOException {
+        java.nio.file.Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(file,
+            java.nio.file.StandardOpenOption.CREATE_NEW, java.nio.file.StandardOpenOption.READ,
+            java.nio.file.StandardOpenOption.WRITE);
+        java.nio.ByteBuffer header = java.nio.ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+        header.putInt(SEGMENT_MAGIC).putLong(firstSequence).flip();
+        while (header.hasRemaining()) channel.write(header);
+        channel.force(true);
+        return channel;
+    }
+    
+    // Segment files sorted by first sequence (the zero-padded names sort the same way)
+    private static java.util.List<java.nio.file.Path> listSegments(java.nio.file.Path directory) throws java.io.IOException {
+        if (!java.nio.file.Files.isDirectory(directory)) return java.util.List.of();
+        try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.list(directory)) {
+            return files.filter(f -> {
+                            String name = f.getFileName().toString();
+                            return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                        })
+                        .sorted()
+                        .collect(java.util.stream.Collectors.toList());
+        }
+    }
+    
+    private static long firstSequenceOf(java.nio.file.Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    /**
+     * Maps the segment and walks its intact records, passing those above afterSequence
+     * to action (if any). scan[0] = offset after the last intact record,
+     * scan[1] = sequence of the last intact record (first sequence - 1 if none).
+     */
+    private static void scanSegment(java.nio.channels.FileChannel channel, java.nio.file.Path file,
+                                    java.util.function.Consumer<Entry> action, long afterSequence, long[] scan)
+            throws java.io.IOException {
+        java.nio.MappedByteBuffer buffer = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (buffer.remaining() < SEGMENT_HEADER_BYTES || buffer.getInt() != SEGMENT_MAGIC) {
+            throw new java.io.IOException("Not a journal segment: " + file);
+        }
+        long lastSequence = buffer.getLong() - 1;
+        int intactEnd = SEGMENT_HEADER_BYTES;
+        java.util.zip.CRC32 check = new java.util.zip.CRC32();
+        while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+            int start = buffer.position();
+            int payload = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (payload < MIN_PAYLOAD_BYTES || payload > MAX_PAYLOAD_BYTES || payload > buffer.remaining()) break;
+            java.nio.ByteBuffer record = buffer.slice(buffer.position(), payload);
+            check.reset();
+            check.update(record.duplicate());
+            if ((int) check.getValue() != expectedCrc) break;
+            
+            long sequence = record.getLong();
+            byte type = record.get();
+            long timestampMillis = record.getLong();
+            String staffId = getString(record);
+            String detail = getString(record);
+            lastSequence = sequence;
+            intactEnd = start + RECORD_HEADER_BYTES + payload;
+            buffer.position(intactEnd);
+            if (action != null && sequence > afterSequence) {
+                action.accept(new Entry(sequence, type, timestampMillis, staffId, detail));
+            }
+        }
+        scan[0] = intactEnd;
+        scan[1] = lastSequence;
+    }
+    
+    private static String getString(java.nio.ByteBuffer record) {
+        int length = record.getShort();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,121 @@
+package com.hospital.management;
+
+/**
+ * CLASS: StaffRegistry
+ * Purpose: Indexes hospital staff by ID, department and specialization, and keeps
+ *          an availability index that staff update themselves when their state changes
+ * Demonstrates: HashMap-based indexes, observer-style callbacks, synchronized access
+ * 
+ * Department and specialization keys are the standardized values returned by
+ * getDepartment() and getSpecialization() (e.g. "EMERGENCY_ROOM", "CARDIOLOGY").
+ */
+final class StaffRegistry {
+    private final java.util.Map<String, HospitalPersonnel> byId = new java.util.HashMap<>();
+    private final java.util.Map<String, java.util.Set<HospitalPersonnel>> byDepartment = new java.util.HashMap<>();
+    private final java.util.Map<String, java.util.Set<Doctor>> bySpecialization = new java.util.HashMap<>();
+    
+    // Currently available staff: department -> staff, and department -> specialization -> doctors
+    private final java.util.Map<String, java.util.Set<HospitalPersonnel>> availableByDepartment = new java.util.HashMap<>();
+    private final java.util.Map<String, java.util.Map<String, java.util.Set<Doctor>>> availableDoctors = new java.util.HashMap<>();
+    
+    // PUBLIC METHODS
+    
+    // Returns false if the ID is taken or the person already belongs to another registry
+    public synchronized boolean register(HospitalPersonnel person) {
+        if (byId.containsKey(person.getId()) || person.getRegistry() != null) {
+            return false;
+        }
+        byId.put(person.getId(), person);
+        setFor(byDepartment, person.getDepartment()).add(person);
+        if (person instanceof Doctor) {
+            Doctor doctor = (Doctor) person;
+            setFor(bySpecialization, doctor.getSpecialization()).add(doctor);
+        }
+        person.attachRegistry(this);
+        updateAvailability(person);
+        return true;
+    }
+    
+    public synchronized boolean unregister(String id) {
+        HospitalPersonnel person = byId.remove(id);
+        if (person == null) {
+            return false;
+        }
+        person.attachRegistry(null);
+        byDepartment.get(person.getDepartment()).remove(person);
+        if (person instanceof Doctor) {
+            bySpecialization.get(((Doctor) person).getSpecialization()).remove(person);
+        }
+        removeAvailable(person);
+        return true;
+    }
+    
+    public synchronized HospitalPersonnel findById(String id) {
+        return byId.get(id);
+    }
+    
+    public synchronized java.util.List<HospitalPersonnel> getByDepartment(String department) {
+        return java.util.List.copyOf(byDepartment.getOrDefault(department, java.util.Set.of()));
+    }
+    
+    public synchronized java.util.List<Doctor> getBySpecialization(String specialization) {
+        return java.util.List.copyOf(bySpecialization.getOrDefault(specialization, java.util.Set.of()));
+    }
+    
+    // e.g. findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY") - constant time, null if none
+    public synchronized Doctor findAvailableDoctor(String department, String specialization) {
+        java.util.Map<String, java.util.Set<Doctor>> bySpec = availableDoctors.get(department);
+        java.util.Set<Doctor> doctors = bySpec == null ? null : bySpec.get(specialization);
+        return doctors == null || doctors.isEmpty() ? null : doctors.iterator().next();
+    }
+    
+    public synchronized HospitalPersonnel findAvailableStaff(String department) {
+        java.util.Set<HospitalPersonnel> staff = availableByDepartment.get(department);
+        return staff == null || staff.isEmpty() ? null : staff.iterator().next();
+    }
+    
+    public synchronized int size() {
+        return byId.size();
+    }
+    
+    public synchronized java.util.List<HospitalPersonnel> getAll() {
+        return java.util.List.copyOf(byId.values());
+    }
+    
+    // PACKAGE-PRIVATE - called by HospitalPersonnel.notifyAvailabilityChanged()
+    synchronized void availabilityChanged(HospitalPersonnel person) {
+        if (byId.get(person.getId()) == person) {
+            updateAvailability(person);
+        }
+    }
+    
+    // PRIVATE HELPER METHODS
+    private void updateAvailability(HospitalPersonnel person) {
+        boolean available = person instanceof MedicalProfessional && ((MedicalProfessional) person).isAvailable();
+        if (!available) {
+            removeAvailable(person);
+            return;
+        }
+        setFor(availableByDepartment, person.getDepartment()).add(person);
+        if (person instanceof Doctor) {
+            Doctor doctor = (Doctor) person;
+            setFor(availableDoctors.computeIfAbsent(doctor.getDepartment(), d -> new java.util.HashMap<>()),
+                   doctor.getSpecialization()).add(doctor);
+        }
+    }
+    
+    private void removeAvailable(HospitalPersonnel person) {
+        java.util.Set<HospitalPersonnel> staff = availableByDepartment.get(person.getDepartment());
+        if (staff != null) staff.remove(person);
+        if (person instanceof Doctor) {
+            java.util.Map<String, java.util.Set<Doctor>> bySpec = availableDoctors.get(person.getDepartment());
+            java.util.Set<Doctor> doctors = bySpec == null ? null : bySpec.get(((Doctor) person).getSpecialization());
+            if (doctors != null) doctors.remove(person);
+        }
+    }
+    
+    // Insertion-ordered sets: O(1) add/remove, and the "first" entry is cheap to read
+    private static <T> java.util.Set<T> setFor(java.util.Map<String, java.util.Set<T>> index, String key) {
+        return index.computeIfAbsent(key, k -> new java.util.LinkedHashSet<>());
+    }
+}
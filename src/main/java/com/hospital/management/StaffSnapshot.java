@@ -0,0 +1,308 @@
+package com.hospital.management;
+
+/**
+ * CLASS: StaffSnapshot
+ * Purpose: Compact binary snapshot of cleaned staff and patient records, so a
+ *          restart reloads data instead of re-running every cleaning constructor
+ * Demonstrates: Columnar layout, dictionary encoding, memory-mapped lazy loading,
+ *               atomic replace (temp file, force, rename)
+ * 
+ * Layout (big-endian):
+ *   magic "HMS3", journal sequence (long), staff count, patient count, doctors
+ *     constructed when saved
+ *   string dictionary: count, then (int byte length, UTF-8 bytes) per entry
+ *   staff columns, one after another: kind, name, id, department, contact,
+ *     specialization/level, license, internal code, patients/shift hours,
+ *     on call, wards (5 per row)
+ *   patient columns: name, age, condition
+ * String columns hold dictionary indexes (-1 for null), so repeated values such
+ * as departments and specializations are stored once.
+ * 
+ * The journal sequence is the last StaffJournal change the snapshot reflects
+ * (0 when no journal was in use). State is captured with journaled changes
+ * paused, and the file is only written once the journal is durable up to that
+ * sequence; after loading, replay the journal from getJournalSequence().
+ * 
+ * load() only maps the file and checks its size. Dictionary strings are decoded
+ * the first time a row uses them, and the staff and patient objects are built on
+ * the first getStaff() / getPatients() call. Restored doctors are not counted by
+ * their constructor; restoreInto() carries over the saved Doctor.getTotalDoctors()
+ * instead, once per snapshot.
+ */
+final class StaffSnapshot {
+    private static final int MAGIC = 0x484D5333;   // "HMS3"
+    private static final int HEADER_BYTES = 4 + 8 + 4 + 4 + 4 + 4;
+    private static final byte DOCTOR = 0;
+    private static final byte NURSE = 1;
+    private static final int WARD_SLOTS = 5;
+    
+    private final long journalSequence;
+    private final int doctorsConstructed;
+    private final java.nio.ByteBuffer buffer;
+    private final int staffCount;
+    private final int patientCount;
+    private final int[] dictionaryOffsets;   // where each entry's length is stored
+    private final String[] dictionary;       // entries decoded so far
+    
+    // Column start offsets
+    private final int kinds, names, ids, departments, contacts, specOrLevel, licenses;
+    private final int codes, counts, onCall, wards, patientNames, ages, conditions;
+    
+    private java.util.List<HospitalPersonnel> staff;       // built on first use
+    private java.util.List<PatientRecord> patients;
+    private boolean countersRestored;
+    
+    private StaffSnapshot(java.nio.ByteBuffer buffer, java.nio.file.Path file) throws java.io.IOException {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new java.io.IOException("Not a staff snapshot: " + file);
+        }
+        this.buffer = buffer;
+        this.journalSequence = buffer.getLong();
+        int n = this.staffCount = buffer.getInt();
+        this.patientCount = buffer.getInt();
+        this.doctorsConstructed = buffer.getInt();
+        this.dictionaryOffsets = new int[buffer.getInt()];
+        this.dictionary = new String[dictionaryOffsets.length];
+        long position = buffer.position();
+        for (int i = 0; i < dictionaryOffsets.length; i++) {
+            if (position + 4 > buffer.limit()) throw new java.io.IOException("Truncated staff snapshot: " + file);
+            dictionaryOffsets[i] = (int) position;
+            position += 4 + (buffer.getInt((int) position) & 0xFFFFFFFFL);
+        }
+        
+        kinds = (int) Math.min(position, Integer.MAX_VALUE);
+        names = kinds + n;
+        ids = names + 4 * n;
+        departments = ids + 4 * n;
+        contacts = departments + 4 * n;
+        specOrLevel = contacts + 4 * n;
+        licenses = specOrLevel + 4 * n;
+        codes = licenses + 4 * n;
+        counts = codes + 8 * n;
+        onCall = counts + 4 * n;
+        wards = onCall + n;
+        patientNames = wards + 4 * n * WARD_SLOTS;
+        ages = patientNames + 4 * patientCount;
+        conditions = ages + 4 * patientCount;
+        if (position != kinds || conditions + 4L * patientCount != buffer.limit()) {
+            throw new java.io.IOException("Truncated or corrupt staff snapshot: " + file);
+        }
+    }
+    
+    // Last journaled change reflected in this snapshot; replay only what follows it
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+    
+    public int getStaffCount() {
+        return staffCount;
+    }
+    
+    public int getPatientCount() {
+        return patientCount;
+    }
+    
+    // Builds the staff objects on the first call
+    public synchronized java.util.List<HospitalPersonnel> getStaff() {
+        if (staff == null) staff = buildStaff();
+        return staff;
+    }
+    
+    public synchronized java.util.List<PatientRecord> getPatients() {
+        if (patients == null) patients = buildPatients();
+        return patients;
+    }
+    
+    // Registers every restored staff member and carries over the saved doctor
+    // count (the first time only); returns how many were added
+    public int restoreInto(StaffRegistry registry) {
+        int added = 0;
+        for (HospitalPersonnel person : getStaff()) {
+            if (registry.register(person)) added++;
+        }
+        synchronized (this) {
+            if (!countersRestored) {
+                Doctor.addRestoredDoctors(doctorsConstructed);
+                countersRestored = true;
+            }
+        }
+        return added;
+    }
+    
+    // SAVING
+    public static void save(StaffRegistry registry, java.util.List<PatientRecord> patients, java.nio.file.Path file)
+            throws java.io.IOException {
+        save(registry.getAll(), patients, file);
+    }
+    
+    public static void save(java.util.List<HospitalPersonnel> staff, java.util.List<PatientRecord> patients,
+                            java.nio.file.Path file) throws java.io.IOException {
+        for (HospitalPersonnel person : staff) {
+            if (!(person instanceof Doctor) && !(person instanceof Nurse)) {
+                throw new IllegalArgumentException("Unsupported staff type: " + person.getClass().getSimpleName());
+            }
+        }
+        java.util.Map<String, Integer> dictionary = new java.util.LinkedHashMap<>();
+        int n = staff.size();
+        
+        // Capture every column with journaled changes paused, so journalSequence
+        // covers exactly the changes the columns reflect
+        int[] names = new int[n], ids = new int[n], departments = new int[n], contacts = new int[n];
+        int[] specOrLevel = new int[n], licenses = new int[n], counts = new int[n], wards = new int[n * WARD_SLOTS];
+        long[] codes = new long[n];
+        byte[] kinds = new byte[n], onCall = new byte[n];
+        StaffJournal journal = HospitalPersonnel.getJournal();
+        long journalSequence;
+        java.util.concurrent.locks.Lock gate = HospitalPersonnel.snapshotGate();
+        gate.lock();
+        try {
+            journalSequence = journal == null ? 0 : journal.getLastSequence();
+            for (int i = 0; i < n; i++) {
+                HospitalPersonnel person = staff.get(i);
+                names[i] = encode(dictionary, person.getName());
+                ids[i] = encode(dictionary, person.getId());
+                departments[i] = encode(dictionary, person.getDepartment());
+                contacts[i] = encode(dictionary, person.getContactNumber());
+                codes[i] = person.getInternalCodeValue();
+                if (person instanceof Doctor) {
+                    Doctor doctor = (Doctor) person;
+                    kinds[i] = DOCTOR;
+                    specOrLevel[i] = encode(dictionary, doctor.getSpecialization());
+                    licenses[i] = encode(dictionary, doctor.getMedicalLicense());
+                    counts[i] = doctor.getPatientCount();
+                    onCall[i] = (byte) (doctor.isOnCall() ? 1 : 0);
+                    java.util.Arrays.fill(wards, i * WARD_SLOTS, (i + 1) * WARD_SLOTS, -1);
+                } else {
+                    Nurse nurse = (Nurse) person;
+                    kinds[i] = NURSE;
+                    specOrLevel[i] = encode(dictionary, nurse.getNurseLevel());
+                    licenses[i] = -1;
+                    counts[i] = nurse.getShiftHours();
+                    String[] assigned = nurse.getAssignedWards();
+                    for (int w = 0; w < WARD_SLOTS; w++) {
+                        wards[i * WARD_SLOTS + w] = encode(dictionary, assigned[w]);
+                    }
+                }
+            }
+        } finally {
+            gate.unlock();
+        }
+        int[] patientNames = new int[patients.size()], patientConditions = new int[patients.size()];
+        for (int i = 0; i < patients.size(); i++) {
+            patientNames[i] = encode(dictionary, patients.get(i).getName());
+            patientConditions[i] = encode(dictionary, patients.get(i).getCondition());
+        }
+        // Never let a snapshot get ahead of what the journal has on disk
+        if (journal != null) journal.sync();
+        
+        // Written beside the target and renamed over it once on disk, so a crash
+        // mid-save leaves the previous snapshot intact
+        java.nio.file.Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(temp,
+                java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.WRITE,
+                java.nio.file.StandardOpenOption.TRUNCATE_EXISTING)) {
+            java.io.DataOutputStream out = new java.io.DataOutputStream(new java.io.BufferedOutputStream(
+                java.nio.channels.Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeLong(journalSequence);
+            out.writeInt(n);
+            out.writeInt(patients.size());
+            out.writeInt(Doctor.getTotalDoctors());
+            out.writeInt(dictionary.size());
+            for (String value : dictionary.keySet()) {
+                byte[] bytes = value.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            
+            out.write(kinds);
+            writeColumn(out, names);
+            writeColumn(out, ids);
+            writeColumn(out, departments);
+            writeColumn(out, contacts);
+            writeColumn(out, specOrLevel);
+            writeColumn(out, licenses);
+            for (long code : codes) out.writeLong(code);
+            writeColumn(out, counts);
+            out.write(onCall);
+            writeColumn(out, wards);
+            
+            writeColumn(out, patientNames);
+            for (PatientRecord patient : patients) out.writeInt(patient.getAge());
+            writeColumn(out, patientConditions);
+            out.flush();
+            channel.force(true);
+        }
+        java.nio.file.Files.move(temp, file, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                                 java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    // LOADING - maps the file; objects are built from the columns when first asked for
+    public static StaffSnapshot load(java.nio.file.Path file) throws java.io.IOException {
+        java.nio.ByteBuffer buffer;
+        try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(file)) {
+            buffer = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return new StaffSnapshot(buffer, file);
+    }
+    
+    // PRIVATE HELPER METHODS
+    private java.util.List<HospitalPersonnel> buildStaff() {
+        java.util.List<HospitalPersonnel> built = new java.util.ArrayList<>(staffCount);
+        String[] rowWards = new String[WARD_SLOTS];
+        for (int i = 0; i < staffCount; i++) {
+            String name = lookup(buffer.getInt(names + 4 * i));
+            String id = lookup(buffer.getInt(ids + 4 * i));
+            String department = lookup(buffer.getInt(departments + 4 * i));
+            String contact = lookup(buffer.getInt(contacts + 4 * i));
+            String specialization = lookup(buffer.getInt(specOrLevel + 4 * i));
+            long code = buffer.getLong(codes + 8 * i);
+            int count = buffer.getInt(counts + 4 * i);
+            
+            if (buffer.get(kinds + i) == DOCTOR) {
+                String license = lookup(buffer.getInt(licenses + 4 * i));
+                built.add(new Doctor(name, id, department, code, contact, specialization, license,
+                                     count, buffer.get(onCall + i) != 0));
+            } else {
+                for (int w = 0; w < WARD_SLOTS; w++) {
+                    rowWards[w] = lookup(buffer.getInt(wards + 4 * (i * WARD_SLOTS + w)));
+                }
+                built.add(new Nurse(name, id, department, code, contact, specialization, count, rowWards));
+            }
+        }
+        return built;
+    }
+    
+    private java.util.List<PatientRecord> buildPatients() {
+        java.util.List<PatientRecord> built = new java.util.ArrayList<>(patientCount);
+        for (int i = 0; i < patientCount; i++) {
+            built.add(new PatientRecord(lookup(buffer.getInt(patientNames + 4 * i)),
+                                        buffer.getInt(ages + 4 * i),
+                                        lookup(buffer.getInt(conditions + 4 * i))));
+        }
+        return built;
+    }
+    
+    // Caller holds the lock; decodes the entry the first time it is used
+    private String lookup(int index) {
+        if (index < 0) return null;
+        String value = dictionary[index];
+        if (value == null) {
+            int offset = dictionaryOffsets[index];
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            buffer.get(offset + 4, bytes);
+            value = dictionary[index] = new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+    
+    private static int encode(java.util.Map<String, Integer> dictionary, String value) {
+        return value == null ? -1 : dictionary.computeIfAbsent(value, v -> dictionary.size());
+    }
+    
+    private static void writeColumn(java.io.DataOutputStream out, int[] column) throws java.io.IOException {
+        for (int value : column) {
+            out.writeInt(value);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.hospital.management;
+
+/**
+ * CLASS: SymbolTable
+ * Purpose: Hands out one shared String instance per distinct value, so fields such
+ *          as department and specialization do not each keep a copy of the same text
+ * Demonstrates: Canonicalization (a scoped, bounded String.intern), ConcurrentHashMap
+ * 
+ * Once maxSize distinct values are stored, unseen values are returned as they are,
+ * so free-text input cannot grow the table without limit.
+ */
+final class SymbolTable {
+    static final SymbolTable DEPARTMENTS = new SymbolTable(4_096);
+    static final SymbolTable SPECIALIZATIONS = new SymbolTable(4_096);
+    
+    private final java.util.concurrent.ConcurrentHashMap<String, String> symbols =
+        new java.util.concurrent.ConcurrentHashMap<>();
+    private final int maxSize;
+    
+    SymbolTable(int maxSize) {
+        this.maxSize = maxSize;
+    }
+    
+    // PUBLIC METHODS
+    
+    // The shared instance equal to value (null stays null)
+    public String canonical(String value) {
+        if (value == null) return null;
+        String shared = symbols.get(value);
+        if (shared != null) return shared;
+        if (symbols.size() >= maxSize) return value;
+        shared = symbols.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+    
+    public boolean contains(String value) {
+        return symbols.containsKey(value);
+    }
+    
+    public int size() {
+        return symbols.size();
+    }
+}
@@ -0,0 +1,173 @@
+package com.hospital.management;
+
+/**
+ * CLASS: TermAutomaton
+ * Purpose: Aho-Corasick automaton over a set of terms (case-insensitive, folded with
+ *          TextNormalizer.lowerCase like containsIgnoreCaseAscii)
+ * Demonstrates: Immutable data structure, array-based state tables,
+ *               scanning cost that depends on text length, not term count
+ */
+final class TermAutomaton {
+    private static final int ROOT = 0;
+    
+    // Alphabet: every distinct character of the lower-cased terms that appears in a term gets a class,
+    // class 0 stands for "any other character"
+    private final int[] asciiClass = new int[128];
+    private final java.util.Map<Character, Integer> otherClass = new java.util.HashMap<>();
+    private final int alphabetSize;
+    
+    // Complete transition table (goto + failure links folded together)
+    private final int[] transitions;
+    private final int[] depth;
+    private final boolean[] terminal;      // a term ends exactly at this state
+    private final boolean[] matchEnds;     // some term (possibly a suffix) ends here
+    private final int termCount;
+    
+    TermAutomaton(java.util.Collection<String> terms) {
+        // Assign character classes
+        java.util.List<String> folded = new java.util.ArrayList<>(terms.size());
+        for (String term : terms) {
+            folded.add(TextNormalizer.lowerCase(term));
+        }
+        int nextClass = 1;
+        for (String term : folded) {
+            for (int i = 0; i < term.length(); i++) {
+                char c = term.charAt(i);
+                if (classOf(c) == 0) {
+                    if (c < 128) asciiClass[c] = nextClass++;
+                    else otherClass.put(c, nextClass++);
+                }
+            }
+        }
+        alphabetSize = nextClass;
+        
+        // Build the trie
+        java.util.List<int[]> rows = new java.util.ArrayList<>();
+        java.util.List<Integer> depths = new java.util.ArrayList<>();
+        java.util.Set<Integer> terminals = new java.util.HashSet<>();
+        rows.add(newRow());
+        depths.add(0);
+        int count = 0;
+        for (String term : folded) {
+            if (term.isEmpty()) continue;
+            int state = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                int cls = classOf(term.charAt(i));
+                if (rows.get(state)[cls] < 0) {
+                    rows.get(state)[cls] = rows.size();
+                    rows.add(newRow());
+                    depths.add(depths.get(state) + 1);
+                }
+                state = rows.get(state)[cls];
+            }
+            if (terminals.add(state)) count++;
+        }
+        termCount = count;
+        
+        int states = rows.size();
+        transitions = new int[states * alphabetSize];
+        depth = new int[states];
+        terminal = new boolean[states];
+        matchEnds = new boolean[states];
+        for (int s = 0; s < states; s++) {
+            depth[s] = depths.get(s);
+            terminal[s] = terminals.contains(s);
+        }
+        
+        // Breadth-first: fill missing transitions from the failure state
+        int[] fail = new int[states];
+        java.util.ArrayDeque<Integer> queue = new java.util.ArrayDeque<>();
+        for (int a = 0; a < alphabetSize; a++) {
+            int next = rows.get(ROOT)[a];
+            if (next > 0) {
+                transitions[a] = next;
+                fail[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            matchEnds[s] = terminal[s] || matchEnds[fail[s]];
+            for (int a = 0; a < alphabetSize; a++) {
+                int next = rows.get(s)[a];
+                if (next > 0) {
+                    transitions[s * alphabetSize + a] = next;
+                    fail[next] = transitions[fail[s] * alphabetSize + a];
+                    queue.add(next);
+                } else {
+                    transitions[s * alphabetSize + a] = transitions[fail[s] * alphabetSize + a];
+                }
+            }
+        }
+    }
+    
+    public int size() {
+        return termCount;
+    }
+    
+    // True if any term occurs anywhere in the text
+    public boolean containsAny(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 128) {
+                // Non-ASCII case mapping can change the length, fold the whole text instead
+                return containsAnyFolded(TextNormalizer.lowerCase(text.toString()));
+            }
+            state = transitions[state * alphabetSize + asciiClass[foldAscii(c)]];
+            if (matchEnds[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // True if text[from..to) is exactly one of the terms
+    public boolean matchesExactly(CharSequence text, int from, int to) {
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= 128) {
+                return matchesFolded(TextNormalizer.lowerCase(text.subSequence(from, to).toString()));
+            }
+            state = transitions[state * alphabetSize + asciiClass[foldAscii(c)]];
+        }
+        return terminal[state] && depth[state] == to - from;
+    }
+    
+    // PRIVATE HELPER METHODS
+    private boolean containsAnyFolded(String folded) {
+        int state = ROOT;
+        for (int i = 0; i < folded.length(); i++) {
+            state = transitions[state * alphabetSize + classOf(folded.charAt(i))];
+            if (matchEnds[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean matchesFolded(String folded) {
+        int state = ROOT;
+        for (int i = 0; i < folded.length(); i++) {
+            state = transitions[state * alphabetSize + classOf(folded.charAt(i))];
+        }
+        return terminal[state] && depth[state] == folded.length();
+    }
+    
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        java.util.Arrays.fill(row, -1);
+        return row;
+    }
+    
+    private int classOf(char c) {
+        if (c < 128) return asciiClass[c];
+        Integer cls = otherClass.get(c);
+        return cls == null ? 0 : cls;
+    }
+    
+    private static char foldAscii(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + 32) : c;
+    }
+}
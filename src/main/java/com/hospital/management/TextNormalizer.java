@@ -0,0 +1,152 @@
+package com.hospital.management;
+
+/**
+ * CLASS: TextNormalizer
+ * Purpose: Shared, allocation-light character scanners behind the cleaning helpers
+ * Demonstrates: Final utility class, static methods, hand-written scanning
+ *               instead of replaceAll (which compiles a new Pattern on every call)
+ */
+final class TextNormalizer {
+    // PRIVATE CONSTRUCTOR - static helpers only
+    private TextNormalizer() {}
+    
+    // Same character set as the regex class \s
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+    
+    // Same result as s.trim().isEmpty() without the intermediate string
+    static boolean isBlank(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // Equivalent to trim(), collapsing whitespace, then capitalizing every word
+    static String titleCaseWords(String raw) {
+        int start = 0;
+        int end = raw.length();
+        while (start < end && raw.charAt(start) <= ' ') start++;
+        while (end > start && raw.charAt(end - 1) <= ' ') end--;
+        
+        StringBuilder result = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            while (i < end && isWhitespace(raw.charAt(i))) i++;
+            if (i >= end) break;
+            
+            int wordStart = i;
+            while (i < end && !isWhitespace(raw.charAt(i))) i++;
+            
+            if (result.length() > 0) {
+                result.append(' ');
+            }
+            result.append(Character.toUpperCase(raw.charAt(wordStart)));
+            appendLowerCase(result, raw, wordStart + 1, i);
+        }
+        return result.toString();
+    }
+    
+    // Equivalent to trim().toUpperCase().replaceAll("[^A-Z0-9-]", "")
+    static String upperAlphanumericDash(String raw) {
+        StringBuilder result = null;
+        int start = 0;
+        int end = raw.length();
+        while (start < end && raw.charAt(start) <= ' ') start++;
+        while (end > start && raw.charAt(end - 1) <= ' ') end--;
+        
+        for (int i = start; i < end; i++) {
+            char c = raw.charAt(i);
+            if (c >= 0x80) {
+                // Unicode case mapping can turn non-ASCII into A-Z, leave it to the JDK
+                return raw.trim().toUpperCase().replaceAll("[^A-Z0-9-]", "");
+            }
+            char upper = (c >= 'a' && c <= 'z') ? (char) (c - 32) : c;
+            boolean keep = (upper >= 'A' && upper <= 'Z') || (upper >= '0' && upper <= '9') || upper == '-';
+            if (result == null) {
+                if (keep && upper == c) continue;      // still identical to the input
+                result = new StringBuilder(end - start).append(raw, start, i);
+            }
+            if (keep) result.append(upper);
+        }
+        return result == null ? raw.substring(start, end) : result.toString();
+    }
+    
+    // Equivalent to s.replaceAll("\\s+", String.valueOf(replacement))
+    static String collapseWhitespace(String s, char replacement) {
+        int i = 0;
+        while (i < s.length() && !isWhitespace(s.charAt(i))) i++;
+        if (i == s.length()) {
+            return s;  // common case: nothing to replace, no allocation
+        }
+        
+        StringBuilder result = new StringBuilder(s.length()).append(s, 0, i);
+        while (i < s.length()) {
+            char c = s.charAt(i++);
+            if (isWhitespace(c)) {
+                result.append(replacement);
+                while (i < s.length() && isWhitespace(s.charAt(i))) i++;
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+    
+    // Equivalent to s.replaceAll("\\D", "")
+    static String digitsOnly(String s) {
+        StringBuilder result = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+    
+    // The case folding every case-insensitive matcher here agrees with
+    static String lowerCase(String s) {
+        return s.toLowerCase(java.util.Locale.ROOT);
+    }
+    
+    // Same result as lowerCase(text).contains(lowerKey) for an all-ASCII key. Besides
+    // A-Z, only two characters lower-case to anything ASCII: the Kelvin sign U+212A
+    // becomes 'k', and U+0130 (capital I with dot) becomes "i" + U+0307, which can only
+    // match the key's final 'i' since the combining dot matches no ASCII character
+    static boolean containsIgnoreCaseAscii(CharSequence text, String lowerKey) {
+        int last = text.length() - lowerKey.length();
+        for (int i = 0; i <= last; i++) {
+            int j = 0;
+            while (j < lowerKey.length()) {
+                char c = text.charAt(i + j);
+                if (c >= 'A' && c <= 'Z') c = (char) (c + 32);
+                else if (c == '\u212A') c = 'k';
+                else if (c == '\u0130' && j == lowerKey.length() - 1) c = 'i';
+                if (c != lowerKey.charAt(j)) break;
+                j++;
+            }
+            if (j == lowerKey.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // Lower-cases ASCII in place; anything else goes through String.toLowerCase()
+    private static void appendLowerCase(StringBuilder out, String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) >= 0x80) {
+                out.append(s.substring(from, to).toLowerCase());
+                return;
+            }
+        }
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            out.append((c >= 'A' && c <= 'Z') ? (char) (c + 32) : c);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.hospital.management;
+
+/**
+ * CLASS: VitalSigns
+ * Purpose: Reusable holder for one bedside reading, decoded into primitives
+ * Demonstrates: Mutable value object (no allocation per reading),
+ *               hand-written state machine parser, range validation
+ * 
+ * Accepted tokens, separated by commas, semicolons or whitespace:
+ *   120/80  blood pressure     98.6, 98.6F, 37C  temperature (stored in F)
+ *   60, 60bpm  pulse
+ */
+final class VitalSigns {
+    // Plausible ranges; anything outside is rejected as a data-entry error
+    static final int MIN_SYSTOLIC = 50, MAX_SYSTOLIC = 260;
+    static final int MIN_DIASTOLIC = 30, MAX_DIASTOLIC = 160;
+    static final float MIN_TEMPERATURE_F = 85f, MAX_TEMPERATURE_F = 110f;
+    static final int MIN_PULSE = 20, MAX_PULSE = 250;
+    
+    // Parser states
+    private static final int BETWEEN = 0, WHOLE = 1, FRACTION = 2, DIASTOLIC = 3, SUFFIX = 4;
+    
+    private int systolic = -1;
+    private int diastolic = -1;
+    private float temperatureF = Float.NaN;
+    private int pulse = -1;
+    private String error;      // constant message, null when the last parse succeeded
+    
+    public VitalSigns reset() {
+        systolic = -1;
+        diastolic = -1;
+        temperatureF = Float.NaN;
+        pulse = -1;
+        error = null;
+        return this;
+    }
+    
+    // GETTERS - -1 / NaN when the reading did not contain that vital
+    public int getSystolic() { return systolic; }
+    public int getDiastolic() { return diastolic; }
+    public float getTemperatureF() { return temperatureF; }
+    public int getPulse() { return pulse; }
+    public String getError() { return error; }
+    
+    public boolean hasBloodPressure() { return systolic >= 0; }
+    public boolean hasTemperature() { return !Float.isNaN(temperatureF); }
+    public boolean hasPulse() { return pulse >= 0; }
+    
+    // Returns false (with getError() set and all vitals cleared) for malformed,
+    // empty or out-of-range readings
+    static boolean parse(CharSequence text, VitalSigns into) {
+        into.reset();
+        int state = BETWEEN;
+        int whole = 0, wholeDigits = 0, fraction = 0, fractionDigits = 0, second = 0, secondDigits = 0;
+        int suffixStart = 0;
+        
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ',';   // virtual separator at the end
+            boolean digit = c >= '0' && c <= '9';
+            boolean separator = c == ',' || c == ';' || c <= ' ';
+            
+            switch (state) {
+                case BETWEEN:
+                    if (separator) continue;
+                    if (!digit) return into.fail("Reading must start with a number");
+                    whole = c - '0'; wholeDigits = 1;
+                    fraction = fractionDigits = second = secondDigits = 0;
+                    state = WHOLE;
+                    continue;
+                case WHOLE:
+                    if (digit) {
+                        if (++wholeDigits > 3) return into.fail("Number too long");
+                        whole = whole * 10 + (c - '0');
+                        continue;
+                    }
+                    if (c == '.') { state = FRACTION; continue; }
+                    if (c == '/') { state = DIASTOLIC; continue; }
+                    break;
+                case FRACTION:
+                    if (digit) {
+                        if (++fractionDigits > 2) return into.fail("Too many decimals");
+                        fraction = fraction * 10 + (c - '0');
+                        continue;
+                    }
+                    if (fractionDigits == 0) return into.fail("Missing decimals");
+                    break;
+                case DIASTOLIC:
+                    if (digit) {
+                        if (++secondDigits > 3) return into.fail("Number too long");
+                        second = second * 10 + (c - '0');
+                        continue;
+                    }
+                    if (secondDigits == 0) return into.fail("Missing diastolic value");
+                    break;
+                case SUFFIX:
+                    if (!separator) {
+                        if (!matchSuffix(text, suffixStart, i + 1)) return into.fail("Unknown unit");
+                        continue;
+                    }
+                    char unit = unitOf(text, suffixStart, i);
+                    if (unit == 0) return into.fail("Unknown unit");
+                    if (!into.finishToken(whole, fraction, fractionDigits, -1, unit)) return false;
+                    state = BETWEEN;
+                    continue;
+                default:
+                    throw new IllegalStateException("state " + state);
+            }
+            
+            // End of the numeric part: either a unit follows or the token ends here
+            if (separator) {
+                if (!into.finishToken(whole, fraction, fractionDigits, secondDigits > 0 ? second : -1,
+                                      (char) 0)) return false;
+                state = BETWEEN;
+            } else if (state != DIASTOLIC && matchSuffix(text, i, i + 1)) {
+                suffixStart = i;
+                state = SUFFIX;
+            } else {
+                return into.fail("Unexpected character");
+            }
+        }
+        if (!into.hasBloodPressure() && !into.hasTemperature() && !into.hasPulse()) {
+            return into.fail("No vital signs in reading");
+        }
+        return true;
+    }
+    
+    // PRIVATE HELPER METHODS
+    
+    // Is text[start..end) a prefix of one of the units F, C, degF, degC, bpm?
+    private static boolean matchSuffix(CharSequence text, int start, int end) {
+        return isPrefixOf(text, start, end, "f") || isPrefixOf(text, start, end, "c")
+            || isPrefixOf(text, start, end, "\u00B0f") || isPrefixOf(text, start, end, "\u00B0c")
+            || isPrefixOf(text, start, end, "bpm");
+    }
+    
+    // 'f', 'c' or 'b' (bpm) when text[start..end) is a complete unit, 0 otherwise
+    private static char unitOf(CharSequence text, int start, int end) {
+        int length = end - start;
+        char last = Character.toLowerCase(text.charAt(end - 1));
+        if (length == 1 && (last == 'f' || last == 'c')) return last;
+        if (length == 2 && text.charAt(start) == '\u00B0' && (last == 'f' || last == 'c')) return last;
+        if (length == 3 && isPrefixOf(text, start, end, "bpm")) return 'b';
+        return 0;
+    }
+    
+    private static boolean isPrefixOf(CharSequence text, int start, int end, String unit) {
+        if (end - start > unit.length()) return false;
+        for (int i = start; i < end; i++) {
+            if (Character.toLowerCase(text.charAt(i)) != unit.charAt(i - start)) return false;
+        }
+        return true;
+    }
+    
+    // unit is 'f', 'c', 'b' (bpm) or 0 when the number had no suffix
+    private boolean finishToken(int whole, int fraction, int fractionDigits, int second, char unit) {
+        if (second >= 0) {
+            if (whole < MIN_SYSTOLIC || whole > MAX_SYSTOLIC) return fail("Systolic out of range");
+            if (second < MIN_DIASTOLIC || second > MAX_DIASTOLIC || second >= whole) return fail("Diastolic out of range");
+            systolic = whole;
+            diastolic = second;
+        } else if (unit == 'b' && fractionDigits > 0) {
+            return fail("Pulse must be a whole number");
+        } else if (fractionDigits > 0 || unit == 'f' || unit == 'c') {
+            float value = whole + fraction / (fractionDigits == 2 ? 100f : fractionDigits == 1 ? 10f : 1f);
+            if (unit == 'c') value = value * 9f / 5f + 32f;
+            if (value < MIN_TEMPERATURE_F || value > MAX_TEMPERATURE_F) return fail("Temperature out of range");
+            temperatureF = value;
+        } else {
+            if (whole < MIN_PULSE || whole > MAX_PULSE) return fail("Pulse out of range");
+            pulse = whole;
+        }
+        return true;
+    }
+    
+    // Clears any vitals decoded before the error so callers never see half a reading
+    private boolean fail(String message) {
+        reset();
+        error = message;
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hospital.management;
+
+/**
+ * CLASS: VitalWindow
+ * Purpose: Reusable min/max/avg accumulator filled by VitalsStore.summarize
+ */
+final class VitalWindow {
+    private int count;
+    private float min;
+    private float max;
+    private double sum;
+    
+    VitalWindow() {
+        reset();
+    }
+    
+    void reset() {
+        count = 0;
+        min = Float.NaN;
+        max = Float.NaN;
+        sum = 0;
+    }
+    
+    void add(float value) {
+        if (count++ == 0) {
+            min = max = value;
+        } else {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        sum += value;
+    }
+    
+    // GETTERS - NaN when the window is empty
+    public int getCount() { return count; }
+    public float getMin() { return min; }
+    public float getMax() { return max; }
+    public float getAverage() { return count == 0 ? Float.NaN : (float) (sum / count); }
+}
@@ -0,0 +1,196 @@
+package com.hospital.management;
+
+/**
+ * CLASS: VitalsStore
+ * Purpose: Keeps recent vital-sign readings per patient for ward dashboards
+ * Demonstrates: Primitive ring buffers (no boxing), binary search over a ring,
+ *               reusable result objects, per-series locking
+ * 
+ * Each patient gets a fixed-capacity series; once full, the oldest readings are
+ * overwritten. Timestamps are epoch milliseconds and must not go backwards
+ * within one patient's series.
+ */
+final class VitalsStore {
+    // Which column a query reads
+    enum Vital { SYSTOLIC, DIASTOLIC, TEMPERATURE, PULSE }
+    
+    static final int DEFAULT_CAPACITY = 4_096;   // e.g. one reading a minute for ~2.8 days
+    
+    private static final ThreadLocal<VitalSigns> SCRATCH = ThreadLocal.withInitial(VitalSigns::new);
+    
+    private final int capacity;
+    private final java.util.concurrent.ConcurrentHashMap<String, Series> series =
+        new java.util.concurrent.ConcurrentHashMap<>();
+    
+    VitalsStore() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    VitalsStore(int capacityPerPatient) {
+        if (capacityPerPatient < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacityPerPatient;
+    }
+    
+    // PUBLIC METHODS
+    
+    // Parses and stores a reading; false if it is malformed or older than the latest one
+    public boolean record(String patientId, long timestampMillis, CharSequence reading) {
+        VitalSigns vitals = SCRATCH.get();
+        return VitalSigns.parse(reading, vitals) && record(patientId, timestampMillis, vitals);
+    }
+    
+    public boolean record(String patientId, long timestampMillis, VitalSigns vitals) {
+        return series.computeIfAbsent(patientId, key -> new Series(capacity)).append(timestampMillis, vitals);
+    }
+    
+    // Fills window with min/max/avg of one vital over [fromMillis, toMillis]; false if no readings
+    public boolean summarize(String patientId, Vital vital, long fromMillis, long toMillis, VitalWindow window) {
+        window.reset();
+        Series patient = series.get(patientId);
+        if (patient != null) patient.summarize(vital, fromMillis, toMillis, window);
+        return window.getCount() > 0;
+    }
+    
+    /**
+     * Downsamples one vital into averages.length buckets of bucketMillis each, starting
+     * at fromMillis. Buckets without readings are NaN. min and max may be null; when
+     * given they must be at least as long as averages. Returns the number of non-empty buckets.
+     */
+    public int downsample(String patientId, Vital vital, long fromMillis, long bucketMillis,
+                          float[] averages, float[] min, float[] max) {
+        if (bucketMillis <= 0) throw new IllegalArgumentException("bucketMillis must be positive");
+        java.util.Arrays.fill(averages, Float.NaN);
+        if (min != null) java.util.Arrays.fill(min, 0, averages.length, Float.NaN);
+        if (max != null) java.util.Arrays.fill(max, 0, averages.length, Float.NaN);
+        Series patient = series.get(patientId);
+        return patient == null ? 0 : patient.downsample(vital, fromMillis, bucketMillis, averages, min, max);
+    }
+    
+    public int size(String patientId) {
+        Series patient = series.get(patientId);
+        return patient == null ? 0 : patient.size();
+    }
+    
+    public java.util.Set<String> getPatientIds() {
+        return java.util.Collections.unmodifiableSet(series.keySet());
+    }
+    
+    public void remove(String patientId) {
+        series.remove(patientId);
+    }
+    
+    /**
+     * One patient's readings as parallel primitive columns in a ring buffer.
+     * Missing vitals are stored as -1 (short columns) or NaN (temperature).
+     */
+    private static final class Series {
+        private final long[] timestamps;
+        private final short[] systolic;
+        private final short[] diastolic;
+        private final short[] pulse;
+        private final float[] temperature;
+        private int head;    // slot of the oldest reading
+        private int count;
+        
+        Series(int capacity) {
+            timestamps = new long[capacity];
+            systolic = new short[capacity];
+            diastolic = new short[capacity];
+            pulse = new short[capacity];
+            temperature = new float[capacity];
+        }
+        
+        synchronized boolean append(long timestampMillis, VitalSigns vitals) {
+            if (count > 0 && timestampMillis < timestamps[slot(count - 1)]) return false;
+            int slot;
+            if (count < timestamps.length) {
+                slot = slot(count++);
+            } else {
+                slot = head;
+                head = (head + 1) % timestamps.length;
+            }
+            timestamps[slot] = timestampMillis;
+            systolic[slot] = (short) vitals.getSystolic();
+            diastolic[slot] = (short) vitals.getDiastolic();
+            pulse[slot] = (short) vitals.getPulse();
+            temperature[slot] = vitals.getTemperatureF();
+            return true;
+        }
+        
+        synchronized void summarize(Vital vital, long fromMillis, long toMillis, VitalWindow window) {
+            for (int i = firstAtOrAfter(fromMillis); i < count; i++) {
+                int slot = slot(i);
+                if (timestamps[slot] > toMillis) break;
+                float value = value(vital, slot);
+                if (value == value) window.add(value);   // skip NaN (vital missing from this reading)
+            }
+        }
+        
+        synchronized int downsample(Vital vital, long fromMillis, long bucketMillis,
+                                    float[] averages, float[] min, float[] max) {
+            int filled = 0;
+            int bucket = -1;
+            int bucketCount = 0;
+            double bucketSum = 0;
+            for (int i = firstAtOrAfter(fromMillis); i < count; i++) {
+                int slot = slot(i);
+                long offset = (timestamps[slot] - fromMillis) / bucketMillis;
+                if (offset >= averages.length) break;
+                float value = value(vital, slot);
+                if (value != value) continue;
+                if (offset != bucket) {
+                    if (bucketCount > 0) {
+                        averages[bucket] = (float) (bucketSum / bucketCount);
+                        filled++;
+                    }
+                    bucket = (int) offset;
+                    bucketCount = 0;
+                    bucketSum = 0;
+                }
+                bucketCount++;
+                bucketSum += value;
+                if (min != null && !(value >= min[bucket])) min[bucket] = value;
+                if (max != null && !(value <= max[bucket])) max[bucket] = value;
+            }
+            if (bucketCount > 0) {
+                averages[bucket] = (float) (bucketSum / bucketCount);
+                filled++;
+            }
+            return filled;
+        }
+        
+        synchronized int size() {
+            return count;
+        }
+        
+        // PRIVATE HELPER METHODS
+        
+        // Physical slot of the i-th oldest reading
+        private int slot(int i) {
+            int slot = head + i;
+            return slot < timestamps.length ? slot : slot - timestamps.length;
+        }
+        
+        // Logical index of the first reading at or after the given time (count if none)
+        private int firstAtOrAfter(long timestampMillis) {
+            int low = 0, high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestamps[slot(mid)] < timestampMillis) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+        
+        private float value(Vital vital, int slot) {
+            short raw;
+            switch (vital) {
+                case TEMPERATURE: return temperature[slot];
+                case SYSTOLIC:    raw = systolic[slot]; break;
+                case DIASTOLIC:   raw = diastolic[slot]; break;
+                default:          raw = pulse[slot]; break;
+            }
+            return raw < 0 ? Float.NaN : raw;
+        }
+    }
+}
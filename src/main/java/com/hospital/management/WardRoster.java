@@ -0,0 +1,165 @@
+package com.hospital.management;
+
+/**
+ * CLASS: WardRoster
+ * Purpose: Assigns nurses to wards for a shift and answers "who is on this ward?"
+ *          and "which wards is this nurse covering?" without scanning nurses
+ * Demonstrates: Bidirectional HashMap indexes, hour buckets, synchronized access
+ * 
+ * Each assignment carries the hours the nurse spends on that ward. A nurse's
+ * rostered hours never exceed Nurse.MAX_SHIFT_HOURS and a nurse covers at most
+ * Nurse.MAX_WARDS wards. The nurse's own ward list is updated as well, so
+ * snapshots and getAssignedWards() agree with the roster. Enrolling keeps the
+ * hours a nurse has already worked (a new Nurse starts at 8), and from then on
+ * ward hours are added to and taken off that total, so isAvailable() and the
+ * StaffRegistry availability index follow the roster.
+ * 
+ * Updating the ward list may wait for a StaffJournal fsync, so it happens outside
+ * the roster lock: assign() books the slot first and gives it back if the nurse
+ * cannot take the ward; unassign() removes the ward from the nurse first and
+ * frees the slot only once that succeeded.
+ */
+final class WardRoster {
+    private final java.util.Map<Nurse, java.util.Map<String, Integer>> wardsByNurse = new java.util.HashMap<>();
+    private final java.util.Map<String, java.util.Set<Nurse>> nursesByWard = new java.util.HashMap<>();
+    private final java.util.Map<Nurse, Integer> hoursByNurse = new java.util.HashMap<>();
+    
+    // hourBuckets.get(h) = enrolled nurses with exactly h rostered hours, for capacity queries
+    private final java.util.List<java.util.Set<Nurse>> hourBuckets = new java.util.ArrayList<>();
+    
+    WardRoster() {
+        for (int h = 0; h <= Nurse.MAX_SHIFT_HOURS; h++) {
+            hourBuckets.add(new java.util.LinkedHashSet<>());
+        }
+    }
+    
+    // PUBLIC METHODS
+    
+    // Adds a nurse to the pool with their current shift hours (clamped to
+    // 0..MAX_SHIFT_HOURS); assign() enrolls automatically
+    public synchronized void enroll(Nurse nurse) {
+        if (hoursByNurse.containsKey(nurse)) return;
+        int hours = Math.max(0, Math.min(nurse.getShiftHours(), Nurse.MAX_SHIFT_HOURS));
+        hoursByNurse.put(nurse, hours);
+        hourBuckets.get(hours).add(nurse);
+        nurse.setShiftHours(hours);
+    }
+    
+    /**
+     * Returns false if the nurse is already on the ward, already covers MAX_WARDS
+     * wards, or the extra hours would take them past MAX_SHIFT_HOURS.
+     */
+    public boolean assign(Nurse nurse, String ward, int hours) {
+        if (hours < 1) throw new IllegalArgumentException("hours must be positive");
+        synchronized (this) {
+            int rostered = hoursByNurse.getOrDefault(nurse, 0);
+            java.util.Map<String, Integer> wards = wardsByNurse.getOrDefault(nurse, java.util.Map.of());
+            if (wards.containsKey(ward) || rostered + hours > Nurse.MAX_SHIFT_HOURS) return false;
+            book(nurse, ward, hours);
+        }
+        boolean added = false;
+        try {
+            added = nurse.addWard(ward);
+        } finally {
+            if (!added) {
+                synchronized (this) {
+                    free(nurse, ward);
+                }
+            }
+        }
+        return added;
+    }
+    
+    // Returns false, leaving the roster as it was, if the nurse is not rostered on the
+    // ward or their own ward list no longer has it (e.g. a racing unassign got there first)
+    public boolean unassign(Nurse nurse, String ward) {
+        synchronized (this) {
+            if (!wardsByNurse.getOrDefault(nurse, java.util.Map.of()).containsKey(ward)) return false;
+        }
+        if (!nurse.removeWard(ward)) return false;
+        synchronized (this) {
+            free(nurse, ward);
+        }
+        return true;
+    }
+    
+    // Removes every assignment for the nurse (e.g. at the end of a shift); they stay enrolled
+    public void release(Nurse nurse) {
+        for (String ward : getWards(nurse)) {
+            unassign(nurse, ward);
+        }
+    }
+    
+    // Releases the nurse and takes them out of the pool
+    public void remove(Nurse nurse) {
+        release(nurse);
+        synchronized (this) {
+            if (!wardsByNurse.containsKey(nurse) && hoursByNurse.containsKey(nurse)) {
+                hourBuckets.get(hoursByNurse.remove(nurse)).remove(nurse);
+            }
+        }
+    }
+    
+    public synchronized java.util.List<Nurse> getNurses(String ward) {
+        return java.util.List.copyOf(nursesByWard.getOrDefault(ward, java.util.Set.of()));
+    }
+    
+    public synchronized java.util.List<String> getWards(Nurse nurse) {
+        return java.util.List.copyOf(wardsByNurse.getOrDefault(nurse, java.util.Map.of()).keySet());
+    }
+    
+    public synchronized int getRosteredHours(Nurse nurse) {
+        return hoursByNurse.getOrDefault(nurse, 0);
+    }
+    
+    public synchronized int getRemainingHours(Nurse nurse) {
+        return Nurse.MAX_SHIFT_HOURS - hoursByNurse.getOrDefault(nurse, 0);
+    }
+    
+    // Enrolled nurses who can still take the given number of hours, least booked first
+    public synchronized java.util.List<Nurse> findNursesWithHours(int hours) {
+        java.util.List<Nurse> result = new java.util.ArrayList<>();
+        for (int h = 0; h + hours <= Nurse.MAX_SHIFT_HOURS; h++) {
+            for (Nurse nurse : hourBuckets.get(h)) {
+                java.util.Map<String, Integer> wards = wardsByNurse.get(nurse);
+                if (wards == null || wards.size() < Nurse.MAX_WARDS) result.add(nurse);
+            }
+        }
+        return result;
+    }
+    
+    public synchronized int getWardCount() {
+        return nursesByWard.size();
+    }
+    
+    // PRIVATE HELPER METHODS
+    
+    // Caller holds the lock and has checked the ward and hour limits
+    private void book(Nurse nurse, String ward, int hours) {
+        enroll(nurse);
+        int rostered = hoursByNurse.get(nurse);
+        wardsByNurse.computeIfAbsent(nurse, n -> new java.util.LinkedHashMap<>()).put(ward, hours);
+        nursesByWard.computeIfAbsent(ward, w -> new java.util.LinkedHashSet<>()).add(nurse);
+        setHours(nurse, rostered, rostered + hours);
+    }
+    
+    // Caller holds the lock; does nothing if the nurse is not rostered on the ward
+    private void free(Nurse nurse, String ward) {
+        java.util.Map<String, Integer> wards = wardsByNurse.get(nurse);
+        Integer hours = wards == null ? null : wards.remove(ward);
+        if (hours == null) return;
+        if (wards.isEmpty()) wardsByNurse.remove(nurse);
+        java.util.Set<Nurse> nurses = nursesByWard.get(ward);
+        nurses.remove(nurse);
+        if (nurses.isEmpty()) nursesByWard.remove(ward);
+        int rostered = hoursByNurse.get(nurse);
+        setHours(nurse, rostered, rostered - hours);
+    }
+    
+    private void setHours(Nurse nurse, int fromHours, int toHours) {
+        hoursByNurse.put(nurse, toHours);
+        hourBuckets.get(fromHours).remove(nurse);
+        hourBuckets.get(toHours).add(nurse);
+        nurse.setShiftHours(toHours);
+    }
+}
@@ -0,0 +1,106 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class AnonymizationEngineTest {
+    private static final String[] TOKENS = {
+        "Alice Johnson", "Bob  Smith", "CAROL O'Neil", "Dave\nNguyen", "Dr Who", "McDonald Farm", "Ann",
+        "123-45-6789", "123-45-67890", "4111111111111111", "41111111111111112", "5551234567", "555123456",
+        "Phone:", "SSN:", "Name:", "age: 42", "x123-45-6789", "_5551234567", "José Díaz", "Émile Zola",
+        "\uD835\uDC005551234567", "5551234567\uD835\uDC00", "Alice Johnson\uD835\uDC00"   // a letter outside the BMP
+    };
+    private static final String[] GAPS = {" ", "\n", ", ", "", "\t", "-", "_", "\n\n"};
+    
+    @Test
+    void matchesLegacyRegexChainOnRandomExports() {
+        Random random = new Random(7);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder export = new StringBuilder();
+            for (int t = random.nextInt(10); t >= 0; t--) {
+                export.append(TOKENS[random.nextInt(TOKENS.length)]).append(GAPS[random.nextInt(GAPS.length)]);
+            }
+            String text = export.toString();
+            assertEquals(LegacyImplementations.anonymizeData(text), PatientDataCleaner.anonymizeData(text), text);
+        }
+    }
+    
+    @Test
+    void masksNamesIdsCardsAndPhones() {
+        assertEquals("Name: *** ***\nSSN: ***-**-**** Card: **************** Phone: **********",
+                     PatientDataCleaner.anonymizeData(
+                         "Name: Alice Johnson\nSSN: 123-45-6789 Card: 4111111111111111 Phone: 5551234567"));
+    }
+    
+    @Test
+    void streamMatchesStringPathWhateverTheReadSizes() throws IOException {
+        Random random = new Random(8);
+        for (int n = 0; n < 2_000; n++) {
+            StringBuilder export = new StringBuilder();
+            for (int t = random.nextInt(40); t >= 0; t--) {
+                export.append(TOKENS[random.nextInt(TOKENS.length)]).append(GAPS[random.nextInt(GAPS.length)]);
+            }
+            String text = export.toString();
+            // 1-9 chars per read: every match and every \b context char lands on a read boundary somewhere
+            assertEquals(PatientDataCleaner.anonymizeData(text), anonymizeStream(trickle(text, random)), text);
+        }
+    }
+    
+    @Test
+    void matchesStraddlingTheStreamBufferAreFound() throws IOException {
+        // The first 8192-char read ends inside "Alice", the second inside the phone number
+        String text = ".".repeat(8_189) + " Alice Johnson " + ".".repeat(8_176) + " 5551234567 x";
+        String expected = ".".repeat(8_189) + " *** *** " + ".".repeat(8_176) + " ********** x";
+        assertEquals(expected, anonymizeStream(new StringReader(text)));
+    }
+    
+    @Test
+    void lookaheadStaysBoundedWhenARuleAlwaysWantsMore() throws IOException {
+        int[] longestText = new int[1];
+        AnonymizationRule hungry = new AnonymizationRule() {
+            public int matchAt(CharSequence text, int at, boolean endOfInput) {
+                longestText[0] = Math.max(longestText[0], text.length());
+                return endOfInput ? NO_MATCH : NEEDS_MORE_INPUT;
+            }
+            public String replacement() { return "?"; }
+            public boolean mayStartWith(char c) { return c == '#'; }
+        };
+        AnonymizationEngine engine = AnonymizationEngine.defaults().withRule(hungry);
+        String text = ("#" + ".".repeat(99)).repeat(20_000) + " Alice Johnson";
+        
+        StringWriter out = new StringWriter();
+        engine.anonymize(new StringReader(text), out);
+        
+        assertEquals(text.replace("Alice Johnson", "*** ***"), out.toString());
+        assertTrue(longestText[0] <= AnonymizationEngine.MAX_LOOKAHEAD_CHARS + 8_192 + 2, "saw " + longestText[0]);
+    }
+    
+    @Test
+    void overlongNameIsLeftAloneOnlyByTheStream() throws IOException {
+        String text = "A" + "a".repeat(2 * AnonymizationEngine.MAX_LOOKAHEAD_CHARS) + " Bob.";
+        assertEquals("*** ***.", PatientDataCleaner.anonymizeData(text));
+        assertEquals(text, anonymizeStream(new StringReader(text)));
+    }
+    
+    private static String anonymizeStream(Reader in) throws IOException {
+        StringWriter out = new StringWriter();
+        AnonymizationEngine.defaults().anonymize(in, out);
+        return out.toString();
+    }
+    
+    private static Reader trickle(String text, Random random) {
+        return new StringReader(text) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 1 + random.nextInt(9)));
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventSinkTest {
+    private static final int THREADS = 4;
+    
+    @Test
+    void everyBlockedEventIsWrittenByClose() throws Exception {
+        StringWriter out = new StringWriter();
+        AsyncEventSink sink = new AsyncEventSink(out, 64, AsyncEventSink.Overflow.BLOCK);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            producers.add(start(() -> {
+                for (int i = 0; i < 10_000; i++) emitOne(sink);
+            }));
+        }
+        for (Thread producer : producers) producer.join();
+        sink.close();
+        
+        assertEquals(THREADS * 10_000, lines(out));
+        assertEquals(0, sink.getDropped());
+        assertEquals(0, sink.getRejected());
+    }
+    
+    @Test
+    void eventsAfterCloseAreRejectedNotLost() throws Exception {
+        StringWriter out = new StringWriter();
+        AsyncEventSink sink = new AsyncEventSink(out, 64, AsyncEventSink.Overflow.BLOCK);
+        emitOne(sink);
+        sink.close();
+        emitOne(sink);
+        emitOne(sink);
+        
+        assertEquals(1, lines(out));
+        assertEquals(2, sink.getRejected());
+    }
+    
+    @Test
+    void closeRacingProducersAccountsForEveryEvent() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            StringWriter out = new StringWriter();
+            AsyncEventSink sink = new AsyncEventSink(out, 256, AsyncEventSink.Overflow.BLOCK);
+            AtomicLong emitted = new AtomicLong();
+            AtomicBoolean done = new AtomicBoolean();
+            CountDownLatch started = new CountDownLatch(THREADS);
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                producers.add(start(() -> {
+                    started.countDown();
+                    while (!done.get()) {
+                        emitOne(sink);
+                        emitted.incrementAndGet();
+                    }
+                }));
+            }
+            started.await();
+            Thread.sleep(2);
+            sink.close();
+            Thread.sleep(1);
+            done.set(true);
+            for (Thread producer : producers) producer.join();
+            
+            assertEquals(emitted.get(), lines(out) + sink.getRejected(), "round " + round);
+        }
+    }
+    
+    private static void emitOne(AsyncEventSink sink) {
+        sink.emit(EventSink.Type.PATIENT_ADDED, "emp-1", "test doctor", "Doctor", 1, null);
+    }
+    
+    private static Thread start(Runnable body) {
+        Thread thread = new Thread(body);
+        thread.start();
+        return thread;
+    }
+    
+    private static long lines(StringWriter out) {
+        return out.toString().chars().filter(c -> c == '\n').count();
+    }
+}
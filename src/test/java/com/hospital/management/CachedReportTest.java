@@ -0,0 +1,98 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CachedReportTest {
+    private static final Duration HOUR = Duration.ofHours(1);
+    
+    // Counts renders; every render returns a new String so reuse shows up as identity
+    private static final class CountingReport implements Reportable {
+        long version;
+        int renders;
+        
+        public String generateReport() {
+            renders++;
+            return new String("report v" + version);
+        }
+        
+        public long getReportVersion() {
+            return version;
+        }
+    }
+    
+    @Test
+    void reusedWithinMaxAgeWhileTheVersionIsUnchanged() {
+        CountingReport source = new CountingReport();
+        CachedReport cached = source.cached(HOUR);
+        
+        String first = cached.get();
+        for (int i = 0; i < 100; i++) assertSame(first, cached.get());
+        assertEquals(1, source.renders);
+    }
+    
+    @Test
+    void rebuiltAfterAVersionChange() {
+        CountingReport source = new CountingReport();
+        CachedReport cached = source.cached(HOUR);
+        String first = cached.get();
+        
+        source.version++;
+        String second = cached.get();
+        assertNotSame(first, second);
+        assertEquals("report v1", second);
+        assertSame(second, cached.get());
+        assertEquals(2, source.renders);
+        
+        cached.invalidate();
+        assertEquals("report v1", cached.get());
+        assertEquals(3, source.renders);
+    }
+    
+    @Test
+    void rebuiltOnceOlderThanMaxAge() throws InterruptedException {
+        CountingReport source = new CountingReport();
+        CachedReport cached = source.cached(Duration.ofMillis(20));
+        String first = cached.get();
+        
+        Thread.sleep(40);
+        String second = cached.get();
+        assertNotSame(first, second);
+        assertEquals(2, source.renders);
+        
+        CachedReport uncached = source.cached(Duration.ZERO);
+        uncached.get();
+        uncached.get();
+        assertEquals(4, source.renders);
+    }
+    
+    @Test
+    void unversionedReportsAreNeverReused() {
+        CountingReport source = new CountingReport();
+        source.version = Reportable.UNVERSIONED;
+        CachedReport cached = source.cached(HOUR);
+        
+        cached.get();
+        cached.get();
+        assertEquals(2, source.renders);
+    }
+    
+    @Test
+    void doctorReportFollowsAdmissions() {
+        Doctor doctor = new Doctor("cache test", "emp-c1", "er", "heart", "md111111");
+        CachedReport cached = doctor.cached(HOUR);
+        String empty = cached.get();
+        assertSame(empty, cached.get());
+        assertTrue(empty.contains("Patients: 0/"));
+        
+        doctor.addPatient();
+        String one = cached.get();
+        assertTrue(one.contains("Patients: 1/"), one);
+        assertSame(one, cached.get());
+    }
+}
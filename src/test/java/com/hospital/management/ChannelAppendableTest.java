@@ -0,0 +1,109 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChannelAppendableTest {
+    private static final String[] NAMES = {
+        "ann lee", "José Müller", "Øyvind Ærø", "李 小龙", "😀 smile", "x𝒜𝒜y", "ǆemal"
+    };
+    
+    @Test
+    void channelBytesMatchGenerateReport() throws IOException {
+        for (String name : NAMES) {
+            Doctor doctor = new Doctor(name, "emp-w1", "er", "heart", "md222222");
+            assertArrayEquals(utf8(doctor.generateReport()), written(doctor), name);
+            
+            StringBuilder appended = new StringBuilder();
+            doctor.writeReport(appended);
+            assertEquals(doctor.generateReport(), appended.toString(), name);
+        }
+    }
+    
+    @Test
+    void surrogatePairsSplitByTheCharBufferAreEncodedWhole() throws IOException {
+        // Moves a pair across the 4,096-char buffer boundary one position at a time
+        for (int padding = 3_990; padding < 4_060; padding++) {
+            Doctor doctor = new Doctor("a".repeat(padding) + "😀😀 b", "emp-w2", "er", "heart", "md333333");
+            assertTrue(doctor.getName().endsWith("😀😀 B"));
+            assertArrayEquals(utf8(doctor.generateReport()), written(doctor), "padding " + padding);
+        }
+    }
+    
+    @Test
+    void partialChannelWritesAreRetried() throws IOException {
+        Doctor doctor = new Doctor("李 小龙 😀".repeat(2_000), "emp-w3", "er", "heart", "md444444");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel sink = Channels.newChannel(bytes);
+        WritableByteChannel stingy = new WritableByteChannel() {
+            public int write(ByteBuffer source) throws IOException {
+                ByteBuffer slice = source.slice();
+                slice.limit(Math.min(slice.limit(), 5));
+                int written = sink.write(slice);
+                source.position(source.position() + written);
+                return written;
+            }
+            
+            public boolean isOpen() {
+                return true;
+            }
+            
+            public void close() {
+            }
+        };
+        doctor.writeReport(stingy);
+        assertArrayEquals(utf8(doctor.generateReport()), bytes.toByteArray());
+    }
+    
+    @Test
+    void writeAllSeparatesReportsWithABlankLine() throws IOException {
+        List<Doctor> doctors = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < NAMES.length; i++) {
+            Doctor doctor = new Doctor(NAMES[i], "emp-a" + i, "icu", "brain", "md55555" + i);
+            doctors.add(doctor);
+            expected.append(doctor.generateReport()).append("\n\n");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChannelAppendable.writeAll(doctors, Channels.newChannel(bytes));
+        assertArrayEquals(utf8(expected.toString()), bytes.toByteArray());
+    }
+    
+    @Test
+    void numbersAndDatesMatchTheJdk() throws IOException {
+        for (int value : new int[] {0, 7, 10, 99, 100, -1, -10, 123_456, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            StringBuilder out = new StringBuilder();
+            ChannelAppendable.appendInt(out, value);
+            assertEquals(Integer.toString(value), out.toString());
+        }
+        for (LocalDate date : new LocalDate[] {LocalDate.of(2024, 2, 29), LocalDate.of(7, 1, 1),
+                                               LocalDate.of(9999, 12, 31), LocalDate.of(10_000, 1, 1),
+                                               LocalDate.of(-1, 6, 15)}) {
+            StringBuilder out = new StringBuilder();
+            ChannelAppendable.appendDate(out, date);
+            assertEquals(date.toString(), out.toString());
+        }
+    }
+    
+    private static byte[] written(Reportable report) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        report.writeReport(Channels.newChannel(bytes));
+        return bytes.toByteArray();
+    }
+    
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
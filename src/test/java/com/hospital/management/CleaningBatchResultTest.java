@@ -0,0 +1,87 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CleaningBatchResultTest {
+    private static final String[] READINGS = {"120/80", "98.6", "60", "12a0//80", "", "  ", "1234", "98.65", "72/"};
+    
+    @Test
+    void outputsComeBackInInputOrderEvenWhenTasksFinishOutOfOrder() {
+        // Work time varies per record, so later records often finish before earlier ones
+        DataCleanable slowAndUneven = new DataCleanable() {
+            public String cleanAndFormat(String rawData) {
+                spin(ThreadLocalRandom.current().nextInt(20_000));
+                return "clean:" + rawData;
+            }
+            
+            public boolean validateData(String data) {
+                return Integer.parseInt(data) % 7 != 0;
+            }
+            
+            public String standardizeFormat(String input) {
+                spin(ThreadLocalRandom.current().nextInt(20_000));
+                return "std:" + input;
+            }
+        };
+        List<String> records = IntStream.range(0, 5_000).mapToObj(Integer::toString).collect(Collectors.toList());
+        
+        CleaningBatchResult cleaned = slowAndUneven.cleanBatch(records.stream());
+        ForkJoinPool pool = new ForkJoinPool(3);
+        CleaningBatchResult standardized;
+        try {
+            standardized = slowAndUneven.standardizeBatch(records, pool);
+        } finally {
+            pool.shutdown();
+        }
+        
+        List<Integer> multiplesOfSeven = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals("clean:" + i, cleaned.get(i));
+            assertEquals("std:" + i, standardized.get(i));
+            if (i % 7 == 0) multiplesOfSeven.add(i);
+        }
+        assertEquals(multiplesOfSeven, cleaned.getInvalidIndices());
+        assertEquals(multiplesOfSeven, standardized.getInvalidIndices());
+        assertFalse(cleaned.isValid(700));
+        assertTrue(cleaned.isValid(701));
+    }
+    
+    @Test
+    void nurseBatchMatchesOneAtATimeAndReportsInvalidReadings() {
+        Nurse nurse = new Nurse("batch nurse", "emp-b1", "icu", "rn");
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            records.add(READINGS[(i * 31) % READINGS.length]);
+        }
+        
+        CleaningBatchResult cleaned = nurse.cleanBatch(records);
+        CleaningBatchResult standardized = nurse.standardizeBatch(records);
+        
+        assertEquals(records.size(), cleaned.size());
+        List<Integer> invalid = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(nurse.cleanAndFormat(records.get(i)), cleaned.get(i), "record " + i);
+            assertEquals(nurse.standardizeFormat(records.get(i)), standardized.get(i), "record " + i);
+            assertEquals(nurse.validateData(records.get(i)), cleaned.isValid(i), "record " + i);
+            if (!nurse.validateData(records.get(i))) invalid.add(i);
+        }
+        assertEquals(invalid, cleaned.getInvalidIndices());
+        assertEquals(invalid.size(), standardized.getInvalidCount());
+    }
+    
+    private static void spin(int iterations) {
+        long x = 0;
+        for (int i = 0; i < iterations; i++) x += i * 31L;
+        if (x == 42) throw new AssertionError();
+    }
+}
@@ -0,0 +1,152 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DoctorAdmissionConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int MAX_PATIENTS = 50;
+    
+    @Test
+    void racingDesksNeverOversubscribeADoctor() throws Exception {
+        Doctor[] doctors = newDoctors(200);
+        AtomicInteger admitted = new AtomicInteger();
+        race(() -> {
+            for (Doctor doctor : doctors) {
+                for (int attempt = 0; attempt < 100; attempt++) {
+                    if (doctor.tryAddPatient()) admitted.incrementAndGet();
+                }
+            }
+        });
+        
+        assertEquals(doctors.length * MAX_PATIENTS, admitted.get());
+        for (Doctor doctor : doctors) {
+            assertEquals(MAX_PATIENTS, doctor.getPatientCount(), doctor.getId());
+        }
+    }
+    
+    @Test
+    void admissionsAndDischargesBalanceUnderContention() throws Exception {
+        Doctor[] doctors = newDoctors(20);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger discharged = new AtomicInteger();
+        race(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                Doctor doctor = doctors[i % doctors.length];
+                if (doctor.tryAddPatient()) admitted.incrementAndGet();
+                if (i % 3 == 0 && doctor.dischargePatient()) discharged.incrementAndGet();
+            }
+        });
+        
+        int total = 0;
+        for (Doctor doctor : doctors) {
+            int count = doctor.getPatientCount();
+            assertTrue(count >= 0 && count <= MAX_PATIENTS, doctor.getId() + " has " + count);
+            total += count;
+        }
+        assertEquals(admitted.get() - discharged.get(), total);
+    }
+    
+    @Test
+    void admissionsBelowCapacityDoNotTakeTheRegistryLock() throws Exception {
+        StaffRegistry registry = new StaffRegistry();
+        Doctor doctor = new Doctor("busy doctor", "emp-lock", "er", "cardiology", "md123456");
+        registry.register(doctor);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            synchronized (registry) {
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        holder.start();
+        locked.await();
+        ExecutorService desk = Executors.newSingleThreadExecutor();
+        try {
+            // With the registry locked, filling all but the last bed must still go through
+            Future<?> admissions = desk.submit(() -> {
+                for (int i = 1; i < MAX_PATIENTS; i++) assertTrue(doctor.tryAddPatient());
+                assertTrue(doctor.dischargePatient());
+                assertTrue(doctor.tryAddPatient());
+            });
+            admissions.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            holder.join();
+            desk.shutdown();
+        }
+        assertSame(doctor, registry.findAvailableDoctor(doctor.getDepartment(), doctor.getSpecialization()));
+        assertTrue(doctor.tryAddPatient());
+        assertNull(registry.findAvailableDoctor(doctor.getDepartment(), doctor.getSpecialization()));
+    }
+    
+    @Test
+    void availabilityIndexEndsUpMatchingRacingAdmissionsAndDischarges() throws Exception {
+        StaffRegistry registry = new StaffRegistry();
+        Doctor[] doctors = new Doctor[10];
+        for (int i = 0; i < doctors.length; i++) {
+            // One department each, so the index answer is about exactly one doctor
+            doctors[i] = new Doctor("flip doctor", "emp-f" + i, "ward " + i, "cardiology", "md123456");
+            registry.register(doctors[i]);
+            while (doctors[i].getPatientCount() < MAX_PATIENTS - 2) doctors[i].tryAddPatient();
+        }
+        race(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                Doctor doctor = doctors[i % doctors.length];
+                if ((i / doctors.length) % 2 == 0) doctor.tryAddPatient();
+                else doctor.dischargePatient();
+            }
+        });
+        
+        for (Doctor doctor : doctors) {
+            Doctor found = registry.findAvailableDoctor(doctor.getDepartment(), doctor.getSpecialization());
+            assertEquals(doctor.isAvailable() ? doctor : null, found, doctor.getId() + " at " + doctor.getPatientCount());
+        }
+    }
+    
+    private static Doctor[] newDoctors(int count) {
+        Doctor[] doctors = new Doctor[count];
+        for (int i = 0; i < count; i++) {
+            doctors[i] = new Doctor("stress doctor", "emp-" + i, "er", "cardiology", "md123456");
+        }
+        return doctors;
+    }
+    
+    private static void race(Runnable task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
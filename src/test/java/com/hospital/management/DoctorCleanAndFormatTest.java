@@ -0,0 +1,80 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DoctorCleanAndFormatTest {
+    private static final String[] WORDS = {
+        "patient", "presents", "with", "covid", "COVID-19", "symptoms,", "needs", "MRI", "mri.", "ct",
+        "scan.", "History:", "hiv", "aids", "null", "NIL", "na", "n/a", "xray", "x-ray", "120/80",
+        "98.6f", "follow-up", "weeks!!!", "(urgent)", "naïve", "café", "pre-op,", "...", "--"
+    };
+    private static final String[] GAPS = {" ", "  ", "\t", "\n", " \n  ", "", "\u00a0"};
+    private static final char[] CHARS = {'a', 'k', 'i', 's', 'K', 'I', 'S', ' ', '\u212A', '\u0130', '\u0307',
+                                         '\u03A3', '\u03C3', '\u03C2', '\u00C9', '\u00E9'};
+    private static final List<String> BLOCKLIST = List.of("ki", "ik", "asks", "\u00E9s", "i\u0307", "\u03C3a", "\u03C2");
+    
+    private final Doctor doctor = new Doctor("test doctor", "emp-1", "er", "cardiology", "md123456");
+    
+    @Test
+    void matchesLegacyRegexChainOnRandomNotes() {
+        Random random = new Random(2);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder note = new StringBuilder();
+            for (int w = random.nextInt(12); w >= 0; w--) {
+                note.append(GAPS[random.nextInt(GAPS.length)]).append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            note.append(GAPS[random.nextInt(GAPS.length)]);
+            String text = note.toString();
+            if (text.isBlank()) continue;   // the scanner rejects blank notes up front
+            assertEquals(LegacyImplementations.doctorCleanAndFormat(text), doctor.cleanAndFormat(text), text);
+        }
+    }
+    
+    @Test
+    void capitalizesTermsAndReplacesNullTokens() {
+        assertEquals("Patient has COVID, needs MRI and CT. UNKNOWN",
+                     doctor.cleanAndFormat("  Patient   has covid, needs mri and ct.  null "));
+    }
+    
+    @Test
+    void rejectsBlankNotes() {
+        assertEquals("INVALID_DATA", doctor.cleanAndFormat(" \t\n"));
+        assertEquals("INVALID_DATA", doctor.cleanAndFormat(null));
+    }
+    
+    @Test
+    void dictionaryRejectsTermsNoNoteWordCanMatch() {
+        for (String term : new String[] {"x-ray", "heart attack", "i/o", "naïve", ""}) {
+            assertThrows(IllegalArgumentException.class,
+                         () -> MedicalTermDictionary.of(List.of(term), List.of()), term);
+        }
+        assertEquals(2, MedicalTermDictionary.of(List.of("ecg", "h1n1"), List.of("x-ray")).termCount());
+    }
+    
+    @Test
+    void blocklistFoldsCaseLikeContainsIgnoreCaseAscii() {
+        MedicalTermDictionary dictionary = MedicalTermDictionary.of(List.of(), BLOCKLIST);
+        Random random = new Random(3);
+        for (int n = 0; n < 100_000; n++) {
+            char[] chars = new char[random.nextInt(7)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = CHARS[random.nextInt(CHARS.length)];
+            }
+            String text = new String(chars);
+            String lower = TextNormalizer.lowerCase(text);
+            boolean expected = false;
+            for (String pattern : BLOCKLIST) {
+                expected |= lower.contains(pattern);
+                if (pattern.chars().allMatch(c -> c < 128)) {
+                    assertEquals(lower.contains(pattern), TextNormalizer.containsIgnoreCaseAscii(text, pattern), text);
+                }
+            }
+            assertEquals(expected, dictionary.containsBlockedPattern(text), text);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class InternalCodeGeneratorTest {
+    private static final int THREADS = 8;
+    private static final int MAX_SEQUENCE = 4095;   // 12 bits
+    
+    @Test
+    void concurrentCodesAreUniqueAndIncreasingPerThread() throws Exception {
+        InternalCodeGenerator generator = new InternalCodeGenerator(37);
+        int perThread = 50_000;
+        long[][] codes = new long[THREADS][perThread];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            long[] mine = codes[t];
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < mine.length; i++) mine[i] = generator.nextCode();
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+        
+        long[] all = new long[THREADS * perThread];
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 1; i < perThread; i++) {
+                assertTrue(codes[t][i] > codes[t][i - 1], "thread " + t + " went backwards at " + i);
+            }
+            System.arraycopy(codes[t], 0, all, t * perThread, perThread);
+        }
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertTrue(all[i] != all[i - 1], "duplicate code " + all[i]);
+        }
+        for (long code : all) assertEquals(37, InternalCodeGenerator.nodeId(code));
+    }
+    
+    @Test
+    void sequenceOverflowMovesToTheNextMillisecond() {
+        InternalCodeGenerator generator = new InternalCodeGenerator(InternalCodeGenerator.MAX_NODE_ID);
+        // Far more than 4,096 codes per millisecond, so the 12-bit sequence has to wrap
+        long[] codes = new long[400_000];
+        long before = System.currentTimeMillis();
+        for (int i = 0; i < codes.length; i++) codes[i] = generator.nextCode();
+        
+        int wraps = 0;
+        for (int i = 1; i < codes.length; i++) {
+            long previous = codes[i - 1];
+            long code = codes[i];
+            assertTrue(code > previous, "not increasing at " + i);
+            assertEquals(InternalCodeGenerator.MAX_NODE_ID, InternalCodeGenerator.nodeId(code));
+            long previousMillis = InternalCodeGenerator.timestampMillis(previous);
+            if (InternalCodeGenerator.sequence(previous) == MAX_SEQUENCE) {
+                // Out of sequence numbers: the next code borrows the next millisecond
+                assertTrue(InternalCodeGenerator.timestampMillis(code) > previousMillis, "at " + i);
+                if (InternalCodeGenerator.timestampMillis(code) == previousMillis + 1) wraps++;
+            } else if (InternalCodeGenerator.timestampMillis(code) == previousMillis) {
+                assertEquals(InternalCodeGenerator.sequence(previous) + 1, InternalCodeGenerator.sequence(code));
+            }
+        }
+        assertTrue(wraps > 0, "the sequence never overflowed");
+        assertTrue(InternalCodeGenerator.timestampMillis(codes[0]) >= before);
+    }
+    
+    @Test
+    void rejectsNodeIdsOutsideTenBits() {
+        assertThrows(IllegalArgumentException.class, () -> new InternalCodeGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new InternalCodeGenerator(InternalCodeGenerator.MAX_NODE_ID + 1));
+    }
+}
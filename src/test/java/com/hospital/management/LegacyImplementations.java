@@ -0,0 +1,173 @@
+package com.hospital.management;
+
+/**
+ * CLASS: LegacyImplementations
+ * Purpose: The regex/lock-based code each optimization replaced, kept as a
+ *          reference for equivalence tests and as the baseline in benchmarks
+ */
+final class LegacyImplementations {
+    private LegacyImplementations() {}
+    
+    static String doctorCleanAndFormat(String rawData) {
+        String step1 = rawData.trim().replaceAll("\\s+", " ");
+        String step2 = step1.replaceAll("[^a-zA-Z0-9\\s.,-]", "");
+        String step3 = step2.replaceAll("\\b(?:null|nil|na|n/a)\\b", "UNKNOWN");
+        
+        String[] medicalTerms = {"covid", "hiv", "aids", "ct", "mri", "xray"};
+        String result = step3;
+        for (String term : medicalTerms) {
+            result = result.replaceAll("(?i)\\b" + term + "\\b", term.toUpperCase());
+        }
+        return result;
+    }
+    
+    static String anonymizeData(String data) {
+        return data.replaceAll("\\b[A-Z][a-z]+\\s+[A-Z][a-z]+\\b", "*** ***")
+                   .replaceAll("\\b\\d{3}-\\d{2}-\\d{4}\\b", "***-**-****")
+                   .replaceAll("\\b\\d{16}\\b", "****************")
+                   .replaceAll("\\b\\d{10}\\b", "**********");
+    }
+    
+    static String nurseCleanAndFormat(String rawData) {
+        return rawData.trim().replaceAll("[^0-9./]", "").replaceAll("/+", "/");
+    }
+    
+    static boolean nurseValidateData(String data) {
+        return !data.trim().isEmpty() && data.matches("^[0-9]{1,3}(\\.[0-9])?(/[0-9]{1,3})?$");
+    }
+    
+    // What a caller had to write before VitalSigns: split, classify by regex, parse
+    static int[] parseVitals(String reading) {
+        int[] vitals = {-1, -1, -1, -1};   // systolic, diastolic, temperature x10, pulse
+        for (String token : reading.trim().split("[,;\\s]+")) {
+            if (token.matches("\\d{1,3}/\\d{1,3}")) {
+                String[] parts = token.split("/");
+                vitals[0] = Integer.parseInt(parts[0]);
+                vitals[1] = Integer.parseInt(parts[1]);
+            } else if (token.matches("(?i)\\d{1,3}(\\.\\d{1,2})?f")) {
+                vitals[2] = Math.round(Float.parseFloat(token.substring(0, token.length() - 1)) * 10);
+            } else if (token.matches("(?i)\\d{1,3}(bpm)?")) {
+                vitals[3] = Integer.parseInt(token.replaceAll("(?i)bpm", ""));
+            } else {
+                return null;
+            }
+        }
+        return vitals;
+    }
+    
+    // Search without an index: test every note for every term
+    static int scanNotes(String[] notes, String... terms) {
+        int matches = 0;
+        for (String note : notes) {
+            boolean all = true;
+            for (String term : terms) {
+                if (!TextNormalizer.containsIgnoreCaseAscii(note, term)) {
+                    all = false;
+                    break;
+                }
+            }
+            if (all) matches++;
+        }
+        return matches;
+    }
+    
+    // Deduplication the obvious way: score every pair, O(n^2)
+    static int allPairsDuplicates(java.util.List<PatientRecord> records) {
+        int n = records.size();
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++) {
+            names[i] = PatientDeduplicator.normalizeName(records.get(i).getName());
+        }
+        boolean[] duplicate = new boolean[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (!duplicate[j] && records.get(i).getAge() == records.get(j).getAge()
+                        && PatientDeduplicator.nameSimilarity(names[i], names[j]) >= PatientDeduplicator.DEFAULT_THRESHOLD) {
+                    duplicate[j] = true;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+    
+    // Doctor.addPatient made safe the simple way: one lock per doctor
+    static final class SynchronizedPatientCounter {
+        private int patientCount;
+        
+        synchronized boolean add() {
+            if (patientCount < 50) {
+                patientCount++;
+                return true;
+            }
+            return false;
+        }
+        
+        synchronized void discharge() {
+            patientCount--;
+        }
+    }
+    
+    // The straightforward durable log: one write and one fsync per change, under a lock
+    static final class SyncPerWriteJournal implements java.io.Closeable {
+        private final java.nio.channels.FileChannel channel;
+        
+        SyncPerWriteJournal(java.nio.file.Path file) throws java.io.IOException {
+            channel = java.nio.channels.FileChannel.open(file, java.nio.file.StandardOpenOption.CREATE,
+                                                         java.nio.file.StandardOpenOption.WRITE,
+                                                         java.nio.file.StandardOpenOption.APPEND);
+        }
+        
+        synchronized void write(String line) {
+            try {
+                channel.write(java.nio.ByteBuffer.wrap((line + "\n").getBytes(java.nio.charset.StandardCharsets.UTF_8)));
+                channel.force(false);
+            } catch (java.io.IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        }
+        
+        public void close() throws java.io.IOException {
+            channel.close();
+        }
+    }
+    
+    static String cleanName(String rawName) {
+        String cleaned = rawName.trim().replaceAll("\\s+", " ");
+        String[] parts = cleaned.split(" ");
+        StringBuilder result = new StringBuilder();
+        for (String part : parts) {
+            if (!part.isEmpty()) {
+                result.append(Character.toUpperCase(part.charAt(0)))
+                      .append(part.substring(1).toLowerCase())
+                      .append(" ");
+            }
+        }
+        return result.toString().trim();
+    }
+    
+    static String formatId(String rawId) {
+        return rawId.trim().toUpperCase().replaceAll("[^A-Z0-9-]", "");
+    }
+    
+    static String standardizeDept(String dept) {
+        return dept.trim().toUpperCase().replaceAll("\\s+", "_");
+    }
+    
+    static String phoneDigits(String phone) {
+        return phone.replaceAll("\\D", "");
+    }
+    
+    static String cleanSpecialization(String spec) {
+        String cleaned = spec.trim().toUpperCase().replaceAll("\\s+", "_");
+        java.util.Map<String, String> specializationMap = new java.util.HashMap<>();
+        specializationMap.put("CARDIOLOGY", "CARDIOLOGY");
+        specializationMap.put("HEART", "CARDIOLOGY");
+        specializationMap.put("NEUROLOGY", "NEUROLOGY");
+        specializationMap.put("BRAIN", "NEUROLOGY");
+        specializationMap.put("ORTHOPEDICS", "ORTHOPEDICS");
+        specializationMap.put("BONE", "ORTHOPEDICS");
+        return specializationMap.getOrDefault(cleaned, cleaned);
+    }
+}
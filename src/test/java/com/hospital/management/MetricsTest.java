@@ -0,0 +1,63 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+    
+    @Test
+    void standardizeFormatCountsOnlyItself() {
+        Nurse nurse = new Nurse("metrics nurse", "emp-m1", "icu", "rn");
+        Metrics.Timer standardize = Metrics.timer("Nurse", "standardizeFormat");
+        Metrics.Timer clean = Metrics.timer("Nurse", "cleanAndFormat");
+        long standardizeBefore = standardize.getCount(), cleanBefore = clean.getCount();
+        
+        nurse.standardizeFormat("120/80");
+        
+        assertEquals(standardizeBefore + 1, standardize.getCount());
+        assertEquals(cleanBefore, clean.getCount());
+    }
+    
+    @Test
+    void doctorStandardizeSkipsTimedValidateAndClean() {
+        Doctor doctor = new Doctor("metrics doctor", "emp-m2", "er", "cardiology", "md123456");
+        Metrics.Timer validate = Metrics.timer("Doctor", "validateData");
+        Metrics.Timer clean = Metrics.timer("Doctor", "cleanAndFormat");
+        long validateBefore = validate.getCount(), cleanBefore = clean.getCount();
+        
+        doctor.standardizeFormat("patient needs mri");
+        PatientDataCleaner.getInstance().standardizeFormat("PATIENT RECORD\nName: Ann Lee\nAge: 40");
+        
+        assertEquals(validateBefore, validate.getCount());
+        assertEquals(cleanBefore, clean.getCount());
+    }
+    
+    @Test
+    void restoredStaffCountAsConstructed() {
+        Metrics.Timer doctors = Metrics.timer("Doctor", "construct");
+        Metrics.Timer nurses = Metrics.timer("Nurse", "construct");
+        long doctorsBefore = doctors.getCount(), nursesBefore = nurses.getCount();
+        
+        new Doctor("Restored Doctor", "EMP-R1", "ER", 1L, "555-0100", "CARDIOLOGY", "MD123456", 3, false);
+        new Nurse("Restored Nurse", "EMP-R2", "ICU", 2L, "555-0101", "RN", 8, new String[] {"WARD A"});
+        
+        assertEquals(doctorsBefore + 1, doctors.getCount());
+        assertEquals(nursesBefore + 1, nurses.getCount());
+    }
+    
+    @Test
+    void everyCallIsCountedButOnlySomeAreTimed() {
+        Metrics.Timer timer = Metrics.timer("MetricsTest", "sampled");
+        int calls = Metrics.SAMPLE_INTERVAL * 200;
+        for (int i = 0; i < calls; i++) {
+            timer.recordSince(timer.start());
+        }
+        long sampled = timer.snapshot().getCount();
+        
+        assertEquals(calls, timer.getCount());
+        assertTrue(sampled > 0 && sampled < calls || Metrics.SAMPLE_INTERVAL == 1, "sampled " + sampled);
+        assertTrue(Integer.bitCount(Metrics.SAMPLE_INTERVAL) == 1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NoteIndexTest {
+    private static final String[] WORDS = {"mri", "covid", "fever", "cough", "xray", "ecg", "rash", "sarcoidosis"};
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void operatorsAreMatchedInAnyCase() {
+        NoteIndex index = new NoteIndex();
+        index.add("MRI shows COVID pneumonia");
+        index.add("MRI clear");
+        
+        assertArrayEquals(new int[] {0}, index.search("mri and covid"));
+        assertArrayEquals(new int[] {0}, index.search("Mri And Covid"));
+        assertThrows(IllegalArgumentException.class, () -> index.search("mri or covid"));
+    }
+    
+    @Test
+    void longTermsAreCutTheSameWayInNotesAndQueries() {
+        NoteIndex index = new NoteIndex();
+        String longTerm = "a".repeat(NoteIndex.MAX_TERM_LENGTH + 10);
+        index.add("biopsy " + longTerm);
+        
+        assertArrayEquals(new int[] {0}, index.search(longTerm));
+        assertArrayEquals(new int[] {0}, index.search("biopsy AND " + "a".repeat(NoteIndex.MAX_TERM_LENGTH)));
+    }
+    
+    @Test
+    void savesAppendSegmentsAndLoadedIndexMatchesTheOriginal() throws Exception {
+        NoteIndex index = new NoteIndex();
+        List<String> notes = randomNotes(5_000);
+        for (int i = 0; i < notes.size(); i++) {
+            index.add(notes.get(i));
+            if (i % 1_000 == 999) index.save(directory);
+        }
+        index.save(directory);   // nothing new: no empty segment
+        
+        NoteIndex loaded = NoteIndex.load(directory);
+        assertEquals(5, loaded.getSegmentCount());
+        assertEquals(index.getDocumentCount(), loaded.getDocumentCount());
+        assertEquals(index.getTermCount(), loaded.getTermCount());
+        assertSameAnswers(index, loaded);
+        
+        // The loaded index keeps growing and appends a sixth segment
+        loaded.add("sarcoidosis fever");
+        index.add("sarcoidosis fever");
+        loaded.save(directory);
+        NoteIndex reloaded = NoteIndex.load(directory);
+        assertEquals(6, reloaded.getSegmentCount());
+        assertSameAnswers(index, reloaded);
+    }
+    
+    @Test
+    void savingElsewhereWritesOneSegment(@TempDir Path other) throws Exception {
+        NoteIndex index = new NoteIndex();
+        for (String note : randomNotes(3_000)) {
+            index.add(note);
+            if (index.getDocumentCount() % 1_000 == 0) index.save(directory);
+        }
+        NoteIndex.load(directory).save(other);
+        
+        NoteIndex copy = NoteIndex.load(other);
+        assertEquals(1, copy.getSegmentCount());
+        assertSameAnswers(index, copy);
+        assertThrows(IllegalArgumentException.class, () -> new NoteIndex().save(directory));
+    }
+    
+    private static void assertSameAnswers(NoteIndex expected, NoteIndex actual) {
+        for (String first : WORDS) {
+            for (String second : WORDS) {
+                String query = first + " AND " + second;
+                assertArrayEquals(expected.search(query), actual.search(query), query);
+                assertArrayEquals(expected.search(query, 7), actual.search(query, 7), query);
+            }
+            assertEquals(expected.getDocumentFrequency(first), actual.getDocumentFrequency(first), first);
+        }
+    }
+    
+    private static List<String> randomNotes(int count) {
+        Random random = new Random(25);
+        List<String> notes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder note = new StringBuilder();
+            int words = 1 + random.nextInt(6);
+            for (int w = 0; w < words; w++) {
+                // Skewed so some terms have long lists that cross skip blocks and segments
+                note.append(WORDS[Math.min(random.nextInt(WORDS.length), random.nextInt(WORDS.length))]).append(' ');
+            }
+            notes.add(note.toString());
+        }
+        return notes;
+    }
+}
@@ -0,0 +1,67 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NurseVitalsTest {
+    private static final String ALPHABET = "0123456789012345678901234567890123456789..//  \t-,;FCbpm°x";
+    
+    private final Nurse nurse = new Nurse("test nurse", "emp-2", "icu", "rn");
+    
+    @Test
+    void matchesLegacyRegexesOnRandomFields() {
+        Random random = new Random(5);
+        for (int n = 0; n < 50_000; n++) {
+            StringBuilder field = new StringBuilder();
+            for (int c = random.nextInt(12); c > 0; c--) {
+                field.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String raw = field.toString();
+            String cleaned = LegacyImplementations.nurseCleanAndFormat(raw);
+            assertEquals(cleaned, nurse.cleanAndFormat(raw), raw);
+            assertEquals(LegacyImplementations.nurseValidateData(cleaned), nurse.validateData(cleaned), cleaned);
+            assertEquals(LegacyImplementations.nurseValidateData(raw), nurse.validateData(raw), raw);
+        }
+    }
+    
+    @Test
+    void parsesEveryUnit() {
+        VitalSigns vitals = new VitalSigns();
+        assertTrue(nurse.parseVitals("120/80, 98.6F; 60bpm", vitals));
+        assertEquals(120, vitals.getSystolic());
+        assertEquals(80, vitals.getDiastolic());
+        assertEquals(98.6f, vitals.getTemperatureF(), 0.001f);
+        assertEquals(60, vitals.getPulse());
+        assertNull(vitals.getError());
+        
+        assertTrue(nurse.parseVitals("37C 72", vitals));
+        assertEquals(98.6f, vitals.getTemperatureF(), 0.001f);
+        assertEquals(72, vitals.getPulse());
+        assertFalse(vitals.hasBloodPressure());
+        
+        assertTrue(nurse.parseVitals("99.1°f", vitals));
+        assertEquals(99.1f, vitals.getTemperatureF(), 0.001f);
+        assertTrue(nurse.parseVitals("38°C", vitals));
+        assertEquals(100.4f, vitals.getTemperatureF(), 0.001f);
+    }
+    
+    @Test
+    void failedParseClearsEarlierVitals() {
+        VitalSigns vitals = new VitalSigns();
+        assertFalse(nurse.parseVitals("120/80, 98.6kg", vitals));
+        assertNotNull(vitals.getError());
+        assertFalse(vitals.hasBloodPressure());
+        assertFalse(vitals.hasTemperature());
+        
+        assertFalse(nurse.parseVitals("120/130", vitals));
+        assertFalse(nurse.parseVitals("60.5bpm", vitals));
+        assertFalse(nurse.parseVitals(" , ; ", vitals));
+        assertEquals("No vital signs in reading", vitals.getError());
+    }
+}
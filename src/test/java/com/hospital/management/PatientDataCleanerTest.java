@@ -0,0 +1,192 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PatientDataCleanerTest {
+    private static final String[] NAMES = {"john   doe", "JANE ROE", "José Díaz", "o'neil, zoe", "Émile\tZola"};
+    private static final String[] CONDITIONS = {"high blood pressure", "flu,  cough", "asthma!!", "ÆSTHMA", ""};
+    private static final String[] AGES = {"45", "45 years", "45.", " 7 ", "4 5", "1234", "x", "", "099", "age: 3"};
+    
+    private final PatientDataCleaner cleaner = PatientDataCleaner.getInstance();
+    
+    @Test
+    void streamMatchesStandardizeFormatPerRecord() throws IOException {
+        Random random = new Random(4);
+        List<String> records = randomRecords(random, 2_000);
+        String input = join(records, random);
+        
+        StringWriter out = new StringWriter();
+        long written = cleaner.standardizeStream(new StringReader(input), out);
+        
+        assertEquals(records.size(), written);
+        assertEquals(withoutClock(expected(records)), withoutClock(out.toString()));
+    }
+    
+    @Test
+    void recordsSplitAcrossReadsAreReassembled() throws IOException {
+        Random random = new Random(5);
+        List<String> records = randomRecords(random, 300);
+        String input = join(records, random);
+        
+        // A reader that never returns more than 7 chars cuts lines, keys and headers apart
+        Reader trickle = new StringReader(input) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 1 + random.nextInt(7)));
+            }
+        };
+        StringWriter out = new StringWriter();
+        assertEquals(records.size(), cleaner.standardizeStream(trickle, out));
+        assertEquals(withoutClock(expected(records)), withoutClock(out.toString()));
+    }
+    
+    @Test
+    void byteStreamDecodesAndEncodesUtf8() throws IOException {
+        Random random = new Random(6);
+        List<String> records = randomRecords(random, 500);
+        byte[] input = join(records, random).getBytes(StandardCharsets.UTF_8);
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(records.size(), cleaner.standardizeStream(new ByteArrayInputStream(input), out));
+        assertEquals(withoutClock(expected(records)), withoutClock(out.toString(StandardCharsets.UTF_8)));
+    }
+    
+    @Test
+    void blankLinesAndHeadersBothEndARecord() throws IOException {
+        String input = "name: a b\nage: 1\ncondition: x\n \t\n"
+                     + "PATIENT RECORD\nname: c d\nage: 2\ncondition: y\n"
+                     + "patient record\nname: e f\n\n\n";
+        StringWriter out = new StringWriter();
+        
+        assertEquals(3, cleaner.standardizeStream(new StringReader(input), out));
+        String[] blocks = out.toString().split("\n\n");
+        assertEquals(3, blocks.length);
+        assertEquals("INVALID_PATIENT_DATA_FORMAT", blocks[2]);
+    }
+    
+    @Test
+    void mappedFieldsMatchExtractRecord(@TempDir Path directory) throws IOException {
+        Random random = new Random(7);
+        List<String> records = randomRecords(random, 3_000);
+        Path file = directory.resolve("export.txt");
+        Files.writeString(file, join(records, random));
+        
+        List<String> texts = new ArrayList<>();
+        long count = cleaner.scanMappedFile(file, record -> {
+            String text = record.getText();
+            texts.add(text);
+            PatientRecord expected = cleaner.extractRecord(text);
+            PatientRecord mapped = PatientRecord.from(record);
+            assertEquals(expected.getName(), mapped.getName(), text);
+            assertEquals(expected.getAge(), mapped.getAge(), text);
+            assertEquals(expected.getCondition(), mapped.getCondition(), text);
+            assertEquals(cleaner.validateData(text), record.isValid(), text);
+        });
+        
+        assertEquals(records.size(), count);
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(records.get(i).stripTrailing(), texts.get(i).stripTrailing(), "record " + i);
+        }
+    }
+    
+    @Test
+    void agesParseTheSameOnBothPaths(@TempDir Path directory) throws IOException {
+        StringBuilder export = new StringBuilder();
+        for (String age : AGES) {
+            export.append("name: a b\nage: ").append(age).append("\ncondition: x\n\n");
+        }
+        Path file = directory.resolve("ages.txt");
+        Files.writeString(file, export.toString());
+        
+        List<Integer> mapped = new ArrayList<>();
+        cleaner.scanMappedFile(file, record -> mapped.add(record.getAge()));
+        
+        assertEquals(List.of(45, 45, 45, 7, 4, -1, -1, -1, 99, -1), mapped);
+        for (int i = 0; i < AGES.length; i++) {
+            assertEquals(mapped.get(i), cleaner.extractRecord("age: " + AGES[i]).getAge(), AGES[i]);
+        }
+    }
+    
+    @Test
+    void recordsStraddlingMappingWindowsAreCarriedOver(@TempDir Path directory) throws IOException {
+        Random random = new Random(8);
+        List<String> records = randomRecords(random, 1_000);
+        Path file = directory.resolve("export.txt");
+        Files.writeString(file, join(records, random));
+        List<String> whole = mappedTexts(file, Long.MAX_VALUE);
+        
+        // The largest record is under 400 bytes; odd sizes cut lines, UTF-8 sequences and headers
+        for (long window : new long[] {400, 401, 997, 4_096}) {
+            assertEquals(whole, mappedTexts(file, window), "window " + window);
+        }
+        assertEquals(records.size(), whole.size());
+        IOException tooSmall = assertThrows(IOException.class, () -> cleaner.scanMappedFile(file, record -> { }, 16));
+        assertTrue(tooSmall.getMessage().contains("16-byte mapping window"));
+    }
+    
+    private List<String> mappedTexts(Path file, long window) throws IOException {
+        List<String> seen = new ArrayList<>();
+        long count = cleaner.scanMappedFile(file, record -> {
+            PatientRecord fields = PatientRecord.from(record);
+            seen.add(record.getFileOffset() + "|" + record.getText() + "|" + record.isValid() + "|"
+                     + fields.getName() + "|" + fields.getAge() + "|" + fields.getCondition());
+        }, window);
+        assertEquals(seen.size(), count);
+        return seen;
+    }
+    
+    private String expected(List<String> records) {
+        StringBuilder expected = new StringBuilder();
+        for (String record : records) {
+            String standardized = cleaner.standardizeFormat(record);
+            expected.append(standardized);
+            if (!standardized.endsWith("\n")) expected.append('\n');
+            expected.append('\n');
+        }
+        return expected.toString();
+    }
+    
+    private static List<String> randomRecords(Random random, int count) {
+        List<String> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder record = new StringBuilder("PATIENT RECORD");
+            if (random.nextInt(5) > 0) record.append("\nname: ").append(NAMES[random.nextInt(NAMES.length)]);
+            if (random.nextInt(5) > 0) record.append("\n  Age :  ").append(AGES[random.nextInt(AGES.length)]);
+            if (random.nextInt(5) > 0) record.append("\ncondition:").append(CONDITIONS[random.nextInt(CONDITIONS.length)]);
+            if (random.nextBoolean()) record.append("\nnotes: ").append("x".repeat(random.nextInt(200))).append('\r');
+            records.add(record.toString());
+        }
+        return records;
+    }
+    
+    // Records end at a blank line or at the next header, chosen at random
+    private static String join(List<String> records, Random random) {
+        StringBuilder input = new StringBuilder();
+        for (String record : records) {
+            input.append(record).append('\n');
+            if (random.nextBoolean()) input.append(random.nextBoolean() ? "\n" : " \t\n");
+        }
+        return input.toString();
+    }
+    
+    private static String withoutClock(String output) {
+        return output.replaceAll("(?m)^(Date|Time): .*$", "$1: -");
+    }
+}
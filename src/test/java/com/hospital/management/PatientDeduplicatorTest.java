@@ -0,0 +1,44 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PatientDeduplicatorTest {
+    @Test
+    void namesKeepNonAsciiLettersAndFoldAccents() {
+        assertEquals("jose muller", PatientDeduplicator.normalizeName("Müller,  JOSÉ"));
+        assertEquals("oneil zoe", PatientDeduplicator.normalizeName("Zoë O'Neil"));
+        assertEquals("иван петров", PatientDeduplicator.normalizeName("Петров Иван"));
+        assertEquals("", PatientDeduplicator.normalizeName("42 - "));
+    }
+    
+    @Test
+    void accentedAndPlainSpellingsAreTheSamePatient() {
+        DuplicateReport report = PatientDeduplicator.defaults().deduplicate(List.of(
+            new PatientRecord("José Müller", 40, "asthma"),
+            new PatientRecord("jose muller", 40, "asthma"),
+            new PatientRecord("Иван Петров", 40, "asthma"),
+            new PatientRecord("Петров, Иван", 40, "asthma"),
+            new PatientRecord("Мария Петрова", 40, "asthma")));
+        
+        assertEquals(0, report.getRepresentative(1));
+        assertEquals(2, report.getRepresentative(3));
+        assertFalse(report.isDuplicate(4));
+    }
+    
+    @Test
+    void everyTokenIsABlockingKey() {
+        // The two alphabetically first tokens differ in their first letters; only
+        // the third ("zimm") puts the records in the same block
+        DuplicateReport report = PatientDeduplicator.defaults().deduplicate(List.of(
+            new PatientRecord("Catherine Evangeline Zimmerman", 52, "migraine"),
+            new PatientRecord("Katherine Ivangeline Zimmerman", 52, "migraine")));
+        
+        assertTrue(report.isDuplicate(1));
+        assertEquals(1, report.getComparisonCount());
+    }
+}
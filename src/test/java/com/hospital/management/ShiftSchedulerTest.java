@@ -0,0 +1,160 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ShiftSchedulerTest {
+    private static final ShiftScheduler.Shift DAY = ShiftScheduler.Shift.DAY;
+    private static final ShiftScheduler.Shift EVENING = ShiftScheduler.Shift.EVENING;
+    private static final ShiftScheduler.Shift NIGHT = ShiftScheduler.Shift.NIGHT;
+    
+    @Test
+    void feasibleDemandIsCoveredExactlyWithinTheRules() {
+        List<Nurse> icu = nurses("icu", 12);
+        List<Doctor> cardiologists = doctors("er", "heart", 4);
+        Nurse elsewhere = new Nurse("other nurse", "emp-x1", "pediatrics", "rn");
+        Doctor neurologist = new Doctor("other doctor", "emp-x2", "er", "brain", "md000001");
+        List<HospitalPersonnel> staff = new ArrayList<>(icu);
+        staff.addAll(cardiologists);
+        staff.add(elsewhere);
+        staff.add(neurologist);
+        
+        String department = icu.get(0).getDepartment();
+        ShiftScheduler scheduler = ShiftScheduler.create()
+            .withNurseCoverage(department, DAY, 3)
+            .withNurseCoverage(department, EVENING, 2)
+            .withNurseCoverage(department, NIGHT, 2)
+            .withOnCallCoverage(cardiologists.get(0).getDepartment(), "CARDIOLOGY", NIGHT, 1);
+        ShiftRoster roster = scheduler.solve(staff);
+        
+        assertTrue(roster.isFeasible());
+        assertEquals(0, roster.getUnfilledPositions());
+        assertHardRules(roster, staff);
+        for (int day = 0; day < ShiftScheduler.DAYS; day++) {
+            // Over-staffing costs more than it saves, so the best roster has no extra heads
+            assertEquals(3, count(roster, icu, day, DAY), "day " + day);
+            assertEquals(2, count(roster, icu, day, EVENING), "day " + day);
+            assertEquals(2, count(roster, icu, day, NIGHT), "day " + day);
+            assertEquals(1, count(roster, cardiologists, day, NIGHT), "day " + day);
+            assertEquals(0, count(roster, cardiologists, day, DAY), "day " + day);
+            assertNull(roster.getShift(elsewhere, day));     // no coverage asked for their groups
+            assertNull(roster.getShift(neurologist, day));
+        }
+        assertEquals(0, roster.getWeeklyHours(elsewhere));
+    }
+    
+    @Test
+    void sameSeedGivesTheSameRosterOnAnyPool() {
+        List<HospitalPersonnel> staff = new ArrayList<>(nurses("er", 9));
+        staff.addAll(doctors("er", "brain", 3));
+        String department = staff.get(0).getDepartment();
+        ShiftScheduler scheduler = ShiftScheduler.create()
+            .withNurseCoverage(department, DAY, 2)
+            .withNurseCoverage(department, NIGHT, 2)
+            .withOnCallCoverage(department, "NEUROLOGY", EVENING, 1)
+            .withSeed(7);
+        
+        ForkJoinPool single = new ForkJoinPool(1);
+        ShiftRoster first;
+        try {
+            first = scheduler.solve(staff, single);
+        } finally {
+            single.shutdown();
+        }
+        ShiftRoster second = scheduler.solve(staff);
+        assertEquals(shifts(first, staff), shifts(second, staff));
+        assertEquals(first.getUnfilledPositions(), second.getUnfilledPositions());
+        
+        ShiftRoster reseeded = scheduler.withSeed(8).solve(staff);
+        assertHardRules(reseeded, staff);
+        assertEquals(0, reseeded.getUnfilledPositions());
+    }
+    
+    @Test
+    void infeasibleDemandLeavesGapsButBreaksNoRule() {
+        // 2 nurses, one day and one night a day: 14 shifts wanted, at most 12 allowed,
+        // and whoever works a night cannot take the next day shift
+        List<Nurse> pair = nurses("icu", 2);
+        String department = pair.get(0).getDepartment();
+        List<HospitalPersonnel> staff = new ArrayList<>(pair);
+        ShiftScheduler scheduler = ShiftScheduler.create()
+            .withNurseCoverage(department, DAY, 1)
+            .withNurseCoverage(department, NIGHT, 1)
+            .withNurseCoverage("NO_SUCH_DEPARTMENT", EVENING, 2);
+        ShiftRoster roster = scheduler.solve(staff);
+        
+        assertTrue(roster.isFeasible());
+        assertHardRules(roster, staff);
+        int worked = 0;
+        for (Nurse nurse : pair) {
+            assertEquals(HospitalPersonnel.MAX_WORK_HOURS, roster.getWeeklyHours(nurse));
+            worked += roster.getWeeklyHours(nurse) / ShiftScheduler.Shift.HOURS;
+        }
+        int gaps = 0;
+        for (int day = 0; day < ShiftScheduler.DAYS; day++) {
+            gaps += Math.max(0, 1 - count(roster, pair, day, DAY)) + Math.max(0, 1 - count(roster, pair, day, NIGHT));
+        }
+        assertEquals(2 * ShiftScheduler.DAYS - worked, gaps);
+        assertEquals(gaps + 2 * ShiftScheduler.DAYS, roster.getUnfilledPositions());   // plus the empty department
+        assertNotEquals(0, gaps);
+    }
+    
+    private static void assertHardRules(ShiftRoster roster, List<? extends HospitalPersonnel> staff) {
+        for (HospitalPersonnel person : staff) {
+            int shifts = 0;
+            for (int day = 0; day < ShiftScheduler.DAYS; day++) {
+                ShiftScheduler.Shift shift = roster.getShift(person, day);
+                if (shift == null) continue;
+                shifts++;
+                if (shift == DAY && day > 0) {
+                    assertNotEquals(NIGHT, roster.getShift(person, day - 1), person.getName() + " day " + day);
+                }
+            }
+            assertTrue(shifts <= ShiftScheduler.MAX_SHIFTS_PER_WEEK, person.getName());
+            assertEquals(shifts * ShiftScheduler.Shift.HOURS, roster.getWeeklyHours(person));
+            assertTrue(roster.getWeeklyHours(person) <= HospitalPersonnel.MAX_WORK_HOURS);
+        }
+    }
+    
+    private static int count(ShiftRoster roster, List<? extends HospitalPersonnel> group, int day, ShiftScheduler.Shift shift) {
+        int count = 0;
+        for (HospitalPersonnel person : group) {
+            if (roster.getShift(person, day) == shift) count++;
+        }
+        return count;
+    }
+    
+    private static List<String> shifts(ShiftRoster roster, List<? extends HospitalPersonnel> staff) {
+        List<String> shifts = new ArrayList<>();
+        for (HospitalPersonnel person : staff) {
+            for (int day = 0; day < ShiftScheduler.DAYS; day++) {
+                shifts.add(person.getId() + " " + day + " " + roster.getShift(person, day));
+            }
+        }
+        return shifts;
+    }
+    
+    private static List<Nurse> nurses(String department, int count) {
+        List<Nurse> nurses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            nurses.add(new Nurse("nurse " + department + i, "emp-n" + department + i, department, "rn"));
+        }
+        return nurses;
+    }
+    
+    private static List<Doctor> doctors(String department, String specialization, int count) {
+        List<Doctor> doctors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            doctors.add(new Doctor("doctor " + specialization + i, "emp-d" + specialization + i,
+                                   department, specialization, "md10000" + i));
+        }
+        return doctors;
+    }
+}
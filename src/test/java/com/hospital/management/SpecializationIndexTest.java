@@ -0,0 +1,122 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpecializationIndexTest {
+    private final SpecializationIndex index = SpecializationIndex.defaults();
+    
+    @Test
+    void exactLookupNormalizesLikeTheOldMap() {
+        assertEquals("CARDIOLOGY", index.lookup(" heart "));
+        assertEquals("NEUROLOGY", index.lookup("Brain"));
+        assertSame(index.lookup("HEART"), index.lookup("cardiology"));
+        assertNull(index.lookup("hearts"));
+        assertNull(index.lookup(""));
+        
+        SpecializationIndex surgery = index.withSynonym("general surgery", "surgery");
+        assertEquals("SURGERY", surgery.lookup(" General \t Surgery"));
+        assertEquals("SURGERY", surgery.lookup("GENERAL_SURGERY"));
+        assertEquals("CARDIOLOGY", surgery.lookup("heart"));
+        assertNull(index.lookup("general surgery"));   // withSynonym returns a new index
+    }
+    
+    @Test
+    void exactLookupMatchesAHashMapOnThousandsOfSynonyms() {
+        Random random = new Random(8);
+        Map<String, String> synonyms = new LinkedHashMap<>();
+        Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            String synonym = "syn" + Integer.toString(random.nextInt(1_000_000), 36) + (i % 2 == 0 ? " x" : "");
+            String canonical = "SPEC_" + random.nextInt(50);
+            synonyms.put(synonym, canonical);
+            expected.put(SpecializationIndex.normalize(synonym), canonical);
+            expected.put(canonical, canonical);
+        }
+        SpecializationIndex large = SpecializationIndex.of(synonyms);
+        
+        for (String synonym : synonyms.keySet()) {
+            assertEquals(expected.get(SpecializationIndex.normalize(synonym)), large.lookup(synonym), synonym);
+            assertEquals(expected.get(SpecializationIndex.normalize(synonym)), large.lookup(" " + synonym.toUpperCase()));
+        }
+        for (int i = 0; i < 5_000; i++) {
+            String miss = "syn" + Integer.toString(random.nextInt(1_000_000), 36) + "?";
+            assertNull(large.lookup(miss), miss);
+        }
+    }
+    
+    @Test
+    void nonAsciiInputUsesJdkUpperCasing() {
+        SpecializationIndex strasse = SpecializationIndex.of(Map.of("straße", "roads"));
+        assertEquals("ROADS", strasse.lookup("STRASSE"));
+        assertEquals("ROADS", strasse.lookup(" straße"));
+    }
+    
+    @Test
+    void prefixMustBeLongEnoughAndUnambiguous() {
+        assertEquals("CARDIOLOGY", index.lookupPrefix("cardio"));
+        assertEquals("CARDIOLOGY", index.lookupPrefix("hea"));
+        assertEquals("NEUROLOGY", index.lookupPrefix("neur"));
+        assertNull(index.lookupPrefix("he"));                    // shorter than three characters
+        assertNull(index.lookupPrefix("pediatrics"));
+        
+        SpecializationIndex neuro = index.withSynonym("neurosurgery", "neurosurgery");
+        assertNull(neuro.lookupPrefix("neuro"));                 // NEUROLOGY or NEUROSURGERY
+        assertEquals("NEUROSURGERY", neuro.lookupPrefix("neuros"));
+        assertEquals("ORTHOPEDICS", index.lookupPrefix("bone"));  // exact keys are prefixes of themselves
+    }
+    
+    @Test
+    void fuzzyFindsTheClosestUniqueSynonym() {
+        assertEquals("CARDIOLOGY", index.lookupFuzzy("cardiolgy", 1));
+        assertEquals("ORTHOPEDICS", index.lookupFuzzy("orthopaedics", 1));
+        assertEquals("NEUROLOGY", index.lookupFuzzy("nerology", 2));
+        assertNull(index.lookupFuzzy("cardilgy", 1));            // two edits away
+        assertEquals("CARDIOLOGY", index.lookupFuzzy("cardilgy", 2));
+        
+        // "bune" is one edit from BONE and from BANE, which map to different names
+        SpecializationIndex tie = index.withSynonym("bane", "toxicology");
+        assertNull(tie.lookupFuzzy("bune", 1));
+        assertEquals("ORTHOPEDICS", tie.lookupFuzzy("bone", 1));  // exact beats one edit
+    }
+    
+    @Test
+    void resolveTriesExactThenPrefixThenOneTypo() {
+        assertEquals("CARDIOLOGY", index.resolve("heart"));
+        assertEquals("CARDIOLOGY", index.resolve("Cardio"));
+        assertEquals("NEUROLOGY", index.resolve("neurolgy"));
+        assertNull(index.resolve("bome"));                       // too short to guess a typo
+        assertNull(index.resolve("pediatrics"));
+        
+        assertEquals("CARDIOLOGY", Doctor.canonicalSpecialization(" cardiolgy "));
+        assertEquals("PEDIATRICS", Doctor.canonicalSpecialization("pediatrics"));
+        assertEquals("GENERAL_PRACTICE", Doctor.canonicalSpecialization("  "));
+    }
+    
+    @Test
+    void loadAddsFileSynonymsToTheDefaults(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("specializations.txt");
+        Files.writeString(file, "# hospital-wide\nPEDIATRICS: children, paediatrics\n\nDERMATOLOGY: skin,\n");
+        SpecializationIndex loaded = SpecializationIndex.load(file);
+        
+        assertEquals("PEDIATRICS", loaded.lookup("Children"));
+        assertEquals("PEDIATRICS", loaded.lookup("pediatrics"));
+        assertEquals("DERMATOLOGY", loaded.lookup("skin"));
+        assertEquals("CARDIOLOGY", loaded.lookup("heart"));
+        assertEquals("PEDIATRICS", loaded.resolve("paediatric"));
+        
+        Files.writeString(file, "no colon here\n");
+        assertThrows(IllegalArgumentException.class, () -> SpecializationIndex.load(file));
+    }
+}
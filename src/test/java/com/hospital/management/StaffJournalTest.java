@@ -0,0 +1,149 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StaffJournalTest {
+    @TempDir
+    Path directory;
+    
+    @AfterEach
+    void stopJournaling() {
+        HospitalPersonnel.useJournal(null);
+    }
+    
+    @Test
+    void tornHeaderOnNewestSegmentCountsAsEmpty() throws IOException {
+        try (StaffJournal journal = StaffJournal.open(directory, 64, StaffJournal.CommitMode.GROUP)) {
+            for (int i = 0; i < 6; i++) {
+                journal.record(StaffJournal.ON_CALL, "EMP-" + i, null);
+            }
+        }
+        // A crash while rolling over to the segment that would start at 7
+        Files.write(directory.resolve(String.format("journal-%020d.log", 7)), new byte[] {0x48, 0x4D});
+        
+        try (StaffJournal journal = StaffJournal.open(directory, 64, StaffJournal.CommitMode.GROUP)) {
+            assertEquals(6, journal.getLastSequence());
+            assertEquals(7, journal.record(StaffJournal.OFF_CALL, "EMP-7", null));
+        }
+        List<Long> sequences = new ArrayList<>();
+        StaffJournal.replay(directory, 0, entry -> sequences.add(entry.getSequence()));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), sequences);
+    }
+    
+    @Test
+    void snapshotRecordsTheSequenceItReflects() throws IOException {
+        Doctor doctor = new Doctor("journal doctor", "emp-s1", "er", "cardiology", "md123456");
+        Path journalDirectory = directory.resolve("journal");
+        Path snapshotFile = directory.resolve("staff.snapshot");
+        try (StaffJournal journal = StaffJournal.open(journalDirectory)) {
+            HospitalPersonnel.useJournal(journal);
+            for (int i = 0; i < 3; i++) {
+                assertTrue(doctor.tryAddPatient());
+            }
+            StaffSnapshot.save(List.of(doctor), List.of(), snapshotFile);
+            assertTrue(doctor.tryAddPatient());
+            assertTrue(doctor.dischargePatient());
+            assertTrue(doctor.tryAddPatient());
+        } finally {
+            HospitalPersonnel.useJournal(null);
+        }
+        
+        StaffSnapshot snapshot = StaffSnapshot.load(snapshotFile);
+        assertEquals(3, snapshot.getJournalSequence());
+        StaffRegistry registry = new StaffRegistry();
+        snapshot.restoreInto(registry);
+        assertEquals(3, StaffJournal.replayInto(journalDirectory, snapshot, registry));
+        assertEquals(4, ((Doctor) registry.findById("EMP-S1")).getPatientCount());
+    }
+    
+    @Test
+    void rosterGivesTheSlotBackWhenTheNurseIsFull() throws IOException {
+        Nurse nurse = new Nurse("journal nurse", "emp-n1", "icu", "rn");
+        WardRoster roster = new WardRoster();
+        try (StaffJournal journal = StaffJournal.open(directory)) {
+            HospitalPersonnel.useJournal(journal);
+            for (int w = 0; w < Nurse.MAX_WARDS; w++) {
+                nurse.assignToWard("Ward " + w);
+            }
+            assertFalse(roster.assign(nurse, "Ward X", 2));
+            assertEquals(8, roster.getRosteredHours(nurse));
+            assertTrue(roster.getNurses("Ward X").isEmpty());
+            
+            assertTrue(nurse.removeWard("Ward 0"));
+            assertTrue(roster.assign(nurse, "Ward X", 2));
+            assertTrue(roster.unassign(nurse, "Ward X"));
+            assertEquals(8, roster.getRosteredHours(nurse));
+        }
+    }
+    
+    @Test
+    void failedOnCallChangeRestoresTheValueItReplaced() throws IOException {
+        Doctor doctor = new Doctor("journal doctor", "emp-s2", "er", "cardiology", "md123456");
+        StaffRegistry registry = new StaffRegistry();
+        registry.register(doctor);
+        StaffJournal journal = StaffJournal.open(directory, 64, StaffJournal.CommitMode.GROUP);
+        HospitalPersonnel.useJournal(journal);
+        doctor.setOnCall(true);
+        
+        // With 64-byte segments the next change rolls over to segment 2, which already exists
+        Files.createFile(directory.resolve(String.format("journal-%020d.log", 2)));
+        assertThrows(UncheckedIOException.class, () -> doctor.updateOnCall(false));
+        assertTrue(doctor.isOnCall());
+        assertNull(registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        assertThrows(UncheckedIOException.class, () -> doctor.updateOnCall(false));
+        assertTrue(doctor.isOnCall());
+        assertThrows(IOException.class, journal::close);
+    }
+    
+    @Test
+    void racingOnCallChangesThatBothFailLeaveTheDoctorAsBefore() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            Doctor doctor = new Doctor("journal doctor", "emp-s3", "er", "cardiology", "md123456");
+            StaffRegistry registry = new StaffRegistry();
+            registry.register(doctor);
+            Path roundDirectory = directory.resolve("round-" + round);
+            StaffJournal journal = StaffJournal.open(roundDirectory, 64, StaffJournal.CommitMode.GROUP);
+            HospitalPersonnel.useJournal(journal);
+            journal.record(StaffJournal.OFF_CALL, doctor.getId(), null);
+            Files.createFile(roundDirectory.resolve(String.format("journal-%020d.log", 2)));
+            
+            // Neither change reaches the journal, so whichever order the undos run in,
+            // the doctor must end up off call
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Thread other = new Thread(() -> {
+                try {
+                    barrier.await();
+                    doctor.updateOnCall(false);
+                } catch (UncheckedIOException expected) {
+                    // the journal is broken for every change from here on
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            other.start();
+            barrier.await();
+            assertThrows(UncheckedIOException.class, () -> doctor.updateOnCall(true));
+            other.join();
+            
+            assertFalse(doctor.isOnCall(), "round " + round);
+            assertSame(doctor, registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"), "round " + round);
+            assertThrows(IOException.class, journal::close);
+        }
+    }
+}
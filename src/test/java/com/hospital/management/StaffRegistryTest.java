@@ -0,0 +1,89 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StaffRegistryTest {
+    private final StaffRegistry registry = new StaffRegistry();
+    private final Doctor cardiologist = new Doctor("ann lee", "emp-s1", "er", "heart", "md123456");
+    private final Doctor neurologist = new Doctor("bo chan", "emp-s2", "emergency", "brain", "md654321");
+    private final Nurse nurse = new Nurse("cy diaz", "emp-s3", "er", "rn");
+    
+    @Test
+    void indexesByIdDepartmentAndSpecialization() {
+        assertTrue(registry.register(cardiologist));
+        assertTrue(registry.register(neurologist));
+        assertTrue(registry.register(nurse));
+        
+        assertEquals(3, registry.size());
+        assertSame(nurse, registry.findById(nurse.getId()));
+        assertEquals(3, registry.getByDepartment("EMERGENCY_ROOM").size());
+        assertEquals(List.of(cardiologist), registry.getBySpecialization("CARDIOLOGY"));
+        assertEquals(List.of(neurologist), registry.getBySpecialization("NEUROLOGY"));
+        assertTrue(registry.getBySpecialization("ORTHOPEDICS").isEmpty());
+    }
+    
+    @Test
+    void rejectsDuplicateIdsAndStaffOfAnotherRegistry() {
+        assertTrue(registry.register(cardiologist));
+        assertFalse(registry.register(cardiologist));
+        assertFalse(registry.register(new Doctor("same id", "emp-s1", "icu", "bone", "md000000")));
+        
+        StaffRegistry other = new StaffRegistry();
+        assertFalse(other.register(cardiologist));
+        assertTrue(registry.unregister(cardiologist.getId()));
+        assertTrue(other.register(cardiologist));
+    }
+    
+    @Test
+    void findAvailableDoctorFollowsAddRemoveAndAvailability() {
+        assertNull(registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        registry.register(cardiologist);
+        registry.register(neurologist);
+        assertSame(cardiologist, registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        assertSame(neurologist, registry.findAvailableDoctor("EMERGENCY_ROOM", "NEUROLOGY"));
+        assertNull(registry.findAvailableDoctor("INTENSIVE_CARE", "CARDIOLOGY"));
+        
+        // On call: out of the index, and back when the shift ends
+        cardiologist.updateOnCall(true);
+        assertNull(registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        assertSame(neurologist, registry.findAvailableStaff("EMERGENCY_ROOM"));
+        cardiologist.updateOnCall(false);
+        assertSame(cardiologist, registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        
+        // Full: out of the index at the last bed, back after one discharge
+        while (cardiologist.tryAddPatient()) continue;
+        assertFalse(cardiologist.isAvailable());
+        assertNull(registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        assertTrue(cardiologist.dischargePatient());
+        assertSame(cardiologist, registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        
+        // Removed: gone from every index, and later changes no longer reach it
+        assertTrue(registry.unregister(cardiologist.getId()));
+        assertFalse(registry.unregister(cardiologist.getId()));
+        assertNull(registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        assertNull(registry.findById(cardiologist.getId()));
+        assertTrue(registry.getBySpecialization("CARDIOLOGY").isEmpty());
+        cardiologist.updateOnCall(true);
+        cardiologist.updateOnCall(false);
+        assertNull(registry.findAvailableDoctor("EMERGENCY_ROOM", "CARDIOLOGY"));
+        assertEquals(List.of(neurologist), registry.getByDepartment("EMERGENCY_ROOM"));
+    }
+    
+    @Test
+    void nurseAvailabilityFollowsShiftHours() {
+        registry.register(nurse);
+        assertSame(nurse, registry.findAvailableStaff("EMERGENCY_ROOM"));
+        
+        nurse.setShiftHours(Nurse.MAX_SHIFT_HOURS);
+        assertNull(registry.findAvailableStaff("EMERGENCY_ROOM"));
+        nurse.setShiftHours(4);
+        assertSame(nurse, registry.findAvailableStaff("EMERGENCY_ROOM"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StaffSnapshotTest {
+    @TempDir
+    Path directory;
+    
+    @Test
+    void savesReplaceTheFileAndLeaveNoTemporary() throws IOException {
+        Path file = directory.resolve("staff.snapshot");
+        Files.write(directory.resolve("staff.snapshot.tmp"), new byte[] {1, 2, 3});   // from an interrupted save
+        Doctor doctor = new Doctor("snapshot doctor", "emp-p1", "er", "cardiology", "md123456");
+        Nurse nurse = new Nurse("snapshot nurse", "emp-p2", "icu", "np");
+        nurse.assignToWard("Ward 7");
+        
+        StaffSnapshot.save(List.of(doctor), List.of(), file);
+        StaffSnapshot.save(List.of(doctor, nurse), List.of(new PatientRecord("jane roe", 41, "asthma")), file);
+        
+        assertFalse(Files.exists(directory.resolve("staff.snapshot.tmp")));
+        StaffSnapshot snapshot = StaffSnapshot.load(file);
+        assertEquals(2, snapshot.getStaffCount());
+        assertEquals(1, snapshot.getPatientCount());
+        List<HospitalPersonnel> staff = snapshot.getStaff();
+        assertSame(staff, snapshot.getStaff());
+        assertEquals(doctor.getName(), staff.get(0).getName());
+        assertEquals("NP", ((Nurse) staff.get(1)).getNurseLevel());
+        assertArrayEquals(nurse.getAssignedWards(), ((Nurse) staff.get(1)).getAssignedWards());
+        assertEquals(41, snapshot.getPatients().get(0).getAge());
+    }
+    
+    @Test
+    void restoredDoctorsAreCountedOnceFromTheSnapshot() throws IOException {
+        Path file = directory.resolve("staff.snapshot");
+        Doctor doctor = new Doctor("snapshot doctor", "emp-p3", "er", "cardiology", "md123456");
+        int savedTotal = Doctor.getTotalDoctors();
+        StaffSnapshot.save(List.of(doctor), List.of(), file);
+        
+        StaffSnapshot snapshot = StaffSnapshot.load(file);
+        int before = Doctor.getTotalDoctors();
+        assertEquals(1, snapshot.getStaff().size());   // built without being counted
+        assertEquals(before, Doctor.getTotalDoctors());
+        snapshot.restoreInto(new StaffRegistry());
+        snapshot.restoreInto(new StaffRegistry());
+        assertEquals(before + savedTotal, Doctor.getTotalDoctors());
+    }
+}
@@ -0,0 +1,92 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class SymbolTableTest {
+    private static final int BOUND = 4_096;
+    
+    @Test
+    void equalValuesShareTheFirstInstance() {
+        SymbolTable table = new SymbolTable(BOUND);
+        String first = new String("INTENSIVE_CARE");
+        String second = new String("INTENSIVE_CARE");
+        
+        assertSame(first, table.canonical(first));
+        assertSame(first, table.canonical(second));
+        assertTrue(table.contains(second));
+        assertEquals(1, table.size());
+        assertNull(table.canonical(null));
+        assertEquals(1, table.size());
+    }
+    
+    @Test
+    void valuesPastTheBoundAreReturnedUnshared() {
+        SymbolTable table = new SymbolTable(BOUND);
+        String[] stored = new String[BOUND];
+        for (int i = 0; i < BOUND; i++) {
+            stored[i] = "DEPT_" + i;
+            assertSame(stored[i], table.canonical(stored[i]));
+        }
+        assertEquals(BOUND, table.size());
+        
+        // A full table stops learning but keeps canonicalizing what it already has
+        String unseen = new String("DEPT_NEW");
+        assertSame(unseen, table.canonical(unseen));
+        String again = new String("DEPT_NEW");
+        assertSame(again, table.canonical(again));
+        assertFalse(table.contains("DEPT_NEW"));
+        assertEquals(BOUND, table.size());
+        for (int i = 0; i < BOUND; i += 97) {
+            assertSame(stored[i], table.canonical(new String("DEPT_" + i)));
+        }
+        assertSame(stored[BOUND - 1], table.canonical(new String("DEPT_" + (BOUND - 1))));
+    }
+    
+    @Test
+    void racingThreadsAllGetTheSameInstance() throws InterruptedException {
+        SymbolTable table = new SymbolTable(BOUND);
+        int threads = 8, values = 500;
+        String[][] seen = new String[threads][values];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            String[] mine = seen[t];
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < values; i++) mine[i] = table.canonical(new String("SPEC_" + i));
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+        
+        assertEquals(values, table.size());
+        for (int i = 0; i < values; i++) {
+            for (int t = 1; t < threads; t++) assertSame(seen[0][i], seen[t][i], "SPEC_" + i);
+        }
+    }
+    
+    @Test
+    void staffShareDepartmentAndSpecializationStrings() {
+        Doctor doctor = new Doctor("sym one", "emp-y1", "er", "heart", "md777777");
+        Nurse nurse = new Nurse("sym two", "emp-y2", " Emergency ", "rn");
+        Doctor cardiologist = new Doctor("sym three", "emp-y3", "emergency room", "cardiology", "md888888");
+        
+        assertEquals("EMERGENCY_ROOM", doctor.getDepartment());
+        assertSame(doctor.getDepartment(), nurse.getDepartment());
+        assertSame(doctor.getDepartment(), cardiologist.getDepartment());
+        assertSame(doctor.getSpecialization(), cardiologist.getSpecialization());
+        assertSame(doctor.getSpecialization(), SymbolTable.SPECIALIZATIONS.canonical(new String("CARDIOLOGY")));
+    }
+}
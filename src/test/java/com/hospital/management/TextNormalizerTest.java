@@ -0,0 +1,73 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TextNormalizerTest {
+    private static final char[] ALPHABET = {'a', 'k', 'i', 'K', 'I', 'N', ':', ' ', '\u212A', '\u0130', '\u0307', '\u00E9'};
+    private static final String[] KEYS = {"k", "i", "ki", "ik", "kin:", "name:", "ai"};
+    // ASCII staff-row characters plus whitespace and case-mapping oddities: sharp s and the
+    // fi ligature upper-case to two letters, dotless and dotted i, the Kelvin sign, a
+    // no-break space (not \s), a control character (trimmed but not \s) and a surrogate pair
+    private static final String[] PIECES = {"a", "Z", "m", "E", "7", "0", "-", ".", "/", "(", " ", "  ", "\t", "\n",
+                                            "\u000B", "\f", "\r", "\u0001", "\u00A0", "\u00E9", "\u00C9", "\u00DF",
+                                            "\uFB01", "\u0131", "\u0130", "\u212A", "\u00F1", "\uD835\uDC00"};
+    
+    @Test
+    void matchesLowerCaseContainsOnRandomText() {
+        Random random = new Random(6);
+        for (int n = 0; n < 200_000; n++) {
+            char[] text = new char[random.nextInt(8)];
+            for (int i = 0; i < text.length; i++) {
+                text[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+            String raw = new String(text);
+            String key = KEYS[random.nextInt(KEYS.length)];
+            assertEquals(raw.toLowerCase(Locale.ROOT).contains(key), TextNormalizer.containsIgnoreCaseAscii(raw, key),
+                         raw + " / " + key);
+        }
+    }
+    
+    @Test
+    void scannersMatchTheRegexVersions() {
+        Random random = new Random(1);
+        for (int n = 0; n < 100_000; n++) {
+            StringBuilder text = new StringBuilder();
+            int pieces = random.nextInt(12);
+            for (int i = 0; i < pieces; i++) {
+                text.append(PIECES[random.nextInt(PIECES.length)]);
+            }
+            String raw = text.toString();
+            
+            if (!raw.trim().isEmpty()) {   // callers map blank input to a default first
+                assertEquals(LegacyImplementations.cleanName(raw), TextNormalizer.titleCaseWords(raw), raw);
+            }
+            assertEquals(LegacyImplementations.formatId(raw), TextNormalizer.upperAlphanumericDash(raw), raw);
+            assertEquals(LegacyImplementations.standardizeDept(raw),
+                         TextNormalizer.collapseWhitespace(raw.trim().toUpperCase(), '_'), raw);
+            assertEquals(raw.replaceAll("\\s+", " "), TextNormalizer.collapseWhitespace(raw, ' '), raw);
+            assertEquals(LegacyImplementations.phoneDigits(raw), TextNormalizer.digitsOnly(raw), raw);
+        }
+    }
+    
+    @Test
+    void scannersHandleNonAsciiLikeTheJdk() {
+        assertEquals("Jos\u00E9 \u00C9lodie", TextNormalizer.titleCaseWords("  jOS\u00C9 \t \u00E9LODIE "));
+        assertEquals("EMP-STRASSE", TextNormalizer.upperAlphanumericDash(" emp-stra\u00DFe "));
+        assertEquals("FI", TextNormalizer.upperAlphanumericDash("\uFB01\u212A"));   // Kelvin stays itself
+        assertEquals("NO\u00A0SPACE_X", TextNormalizer.collapseWhitespace("NO\u00A0SPACE \t X", '_'));
+        assertEquals("5551234", TextNormalizer.digitsOnly("\u0665 555-1234"));   // Arabic-Indic five is not \d
+    }
+    
+    @Test
+    void kelvinSignAndDottedCapitalIFoldLikeToLowerCase() {
+        assertTrue(TextNormalizer.containsIgnoreCaseAscii("\u212AIN: 2", "kin:"));
+        assertTrue(TextNormalizer.containsIgnoreCaseAscii("TAX\u0130", "taxi"));
+        assertFalse(TextNormalizer.containsIgnoreCaseAscii("\u0130D", "id"));
+    }
+}
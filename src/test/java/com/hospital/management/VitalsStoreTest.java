@@ -0,0 +1,160 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class VitalsStoreTest {
+    private static final int CAPACITY = 8;
+    private static final VitalsStore.Vital PULSE = VitalsStore.Vital.PULSE;
+    
+    private final VitalsStore store = new VitalsStore(CAPACITY);
+    private final VitalWindow window = new VitalWindow();
+    
+    @Test
+    void capacityReadingsFitAndTheNextOneDropsTheOldest() {
+        for (int i = 0; i < CAPACITY; i++) assertTrue(store.record("p1", i * 1_000L, pulse(40 + i)));
+        assertEquals(CAPACITY, store.size("p1"));
+        assertTrue(store.summarize("p1", PULSE, 0, Long.MAX_VALUE, window));
+        assertWindow(CAPACITY, 40, 40 + CAPACITY - 1);
+        
+        assertTrue(store.record("p1", CAPACITY * 1_000L, pulse(40 + CAPACITY)));
+        assertEquals(CAPACITY, store.size("p1"));
+        assertTrue(store.summarize("p1", PULSE, 0, Long.MAX_VALUE, window));
+        assertWindow(CAPACITY, 41, 40 + CAPACITY);
+        assertFalse(store.summarize("p1", PULSE, 0, 999, window));   // reading 0 was overwritten
+    }
+    
+    @Test
+    void summarizeOverAWrappedRingMatchesALinearScan() {
+        // 21 readings into 8 slots: the oldest kept reading sits mid-array
+        int[] pulses = new int[21];
+        for (int i = 0; i < pulses.length; i++) {
+            pulses[i] = 40 + (i * 37) % 90;
+            store.record("p1", i * 1_000L, pulse(pulses[i]));
+        }
+        int oldest = pulses.length - CAPACITY;
+        
+        for (long from = -500; from <= 21_500; from += 500) {
+            for (long to = from; to <= 21_500; to += 500) {
+                int count = 0;
+                float min = Float.NaN, max = Float.NaN;
+                double sum = 0;
+                for (int i = oldest; i < pulses.length; i++) {
+                    long timestamp = i * 1_000L;
+                    if (timestamp < from || timestamp > to) continue;
+                    min = count == 0 ? pulses[i] : Math.min(min, pulses[i]);
+                    max = count == 0 ? pulses[i] : Math.max(max, pulses[i]);
+                    sum += pulses[i];
+                    count++;
+                }
+                String range = "[" + from + ", " + to + "]";
+                assertEquals(count > 0, store.summarize("p1", PULSE, from, to, window), range);
+                assertEquals(count, window.getCount(), range);
+                assertEquals(min, window.getMin(), range);
+                assertEquals(max, window.getMax(), range);
+                assertEquals(count == 0 ? Float.NaN : (float) (sum / count), window.getAverage(), range);
+            }
+        }
+    }
+    
+    @Test
+    void emptyWindowsReportNaN() {
+        store.record("p1", 10_000, pulse(60));
+        store.record("p1", 20_000, pulse(80));
+        assertTrue(store.summarize("p1", PULSE, 0, 30_000, window));
+        
+        // Each of these must also clear what the previous call left in the window
+        for (long[] range : new long[][] {{11_000, 19_000}, {0, 9_999}, {20_001, 30_000}, {20_000, 10_000}}) {
+            assertFalse(store.summarize("p1", PULSE, range[0], range[1], window), Arrays.toString(range));
+            assertWindow(0, Float.NaN, Float.NaN);
+            assertEquals(Float.NaN, window.getAverage());
+            assertTrue(store.summarize("p1", PULSE, 0, 30_000, window));
+        }
+        assertFalse(store.summarize("nobody", PULSE, 0, Long.MAX_VALUE, window));
+        assertFalse(store.summarize("p1", VitalsStore.Vital.TEMPERATURE, 0, 30_000, window));   // never measured
+        assertEquals(0, store.size("nobody"));
+    }
+    
+    @Test
+    void downsampleBucketsAreHalfOpenAndSkipEmptyOnes() {
+        // Bucket k covers [1_000 + 100k, 1_000 + 100(k+1)); readings sit on and next to the edges
+        long[] timestamps = {999, 1_000, 1_099, 1_100, 1_199, 1_300, 1_399, 1_400, 1_500};
+        int[] pulses = {200, 50, 70, 90, 100, 110, 130, 120, 140};
+        for (int i = 0; i < timestamps.length; i++) store.record("p1", timestamps[i], pulse(pulses[i]));
+        
+        float[] averages = new float[5];
+        float[] min = new float[5];
+        float[] max = new float[5];
+        float nan = Float.NaN;
+        assertEquals(4, store.downsample("p1", PULSE, 1_000, 100, averages, min, max));
+        assertArrayEquals(new float[] {60, 95, nan, 120, 120}, averages);
+        assertArrayEquals(new float[] {50, 90, nan, 110, 120}, min);
+        assertArrayEquals(new float[] {70, 100, nan, 130, 120}, max);
+        
+        // One bucket later the 1_500 reading opens the last bucket exactly at its edge; min and max are optional
+        assertEquals(4, store.downsample("p1", PULSE, 1_100, 100, averages, null, null));
+        assertArrayEquals(new float[] {95, nan, 120, 120, 140}, averages);
+        assertEquals(0, store.downsample("p1", PULSE, 5_000, 100, averages, min, max));
+        assertArrayEquals(new float[] {nan, nan, nan, nan, nan}, averages);
+        assertEquals(0, store.downsample("nobody", PULSE, 0, 100, averages, min, max));
+    }
+    
+    @Test
+    void downsampleOverAWrappedRingMatchesALinearScan() {
+        List<Integer> bucketMillis = List.of(1, 7, 1_000, 2_500, 100_000);
+        int[] pulses = new int[CAPACITY * 3 + 5];
+        for (int i = 0; i < pulses.length; i++) {
+            pulses[i] = 40 + (i * 53) % 120;
+            store.record("p1", i * 1_000L, pulse(pulses[i]));
+        }
+        int oldest = pulses.length - CAPACITY;
+        
+        for (int bucket : bucketMillis) {
+            for (long from = 0; from <= pulses.length * 1_000L; from += 700) {
+                float[] averages = new float[6];
+                double[] sums = new double[6];
+                int[] counts = new int[6];
+                for (int i = oldest; i < pulses.length; i++) {
+                    long timestamp = i * 1_000L;
+                    if (timestamp < from || (timestamp - from) / bucket >= 6) continue;
+                    sums[(int) ((timestamp - from) / bucket)] += pulses[i];
+                    counts[(int) ((timestamp - from) / bucket)]++;
+                }
+                float[] expected = new float[6];
+                int filled = 0;
+                for (int b = 0; b < 6; b++) {
+                    expected[b] = counts[b] == 0 ? Float.NaN : (float) (sums[b] / counts[b]);
+                    if (counts[b] > 0) filled++;
+                }
+                String at = "from " + from + " bucket " + bucket;
+                assertEquals(filled, store.downsample("p1", PULSE, from, bucket, averages, null, null), at);
+                assertArrayEquals(expected, averages, at);
+            }
+        }
+    }
+    
+    @Test
+    void rejectsReadingsOlderThanTheLatestAndMalformedOnes() {
+        assertTrue(store.record("p1", 5_000, pulse(60)));
+        assertFalse(store.record("p1", 4_999, pulse(61)));
+        assertTrue(store.record("p1", 5_000, pulse(62)));   // same time is allowed
+        assertFalse(store.record("p1", 6_000, "not a reading"));
+        assertEquals(2, store.size("p1"));
+    }
+    
+    private void assertWindow(int count, float min, float max) {
+        assertEquals(count, window.getCount());
+        assertEquals(min, window.getMin());
+        assertEquals(max, window.getMax());
+    }
+    
+    private static String pulse(int beatsPerMinute) {
+        return "120/80 " + beatsPerMinute + "bpm";
+    }
+}
@@ -0,0 +1,118 @@
+package com.hospital.management;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class WardRosterTest {
+    @Test
+    void rosteredHoursDriveAvailability() {
+        Nurse nurse = new Nurse("roster nurse", "emp-r1", "icu", "rn");
+        StaffRegistry registry = new StaffRegistry();
+        registry.register(nurse);
+        WardRoster roster = new WardRoster();
+        
+        // Enrolling keeps the 8 hours a new nurse starts with
+        roster.enroll(nurse);
+        assertEquals(8, nurse.getShiftHours());
+        assertEquals(8, roster.getRosteredHours(nurse));
+        assertFalse(roster.assign(nurse, "Ward A", 5));
+        assertTrue(roster.assign(nurse, "Ward A", 2));
+        assertTrue(roster.assign(nurse, "Ward B", 2));
+        assertEquals(Nurse.MAX_SHIFT_HOURS, nurse.getShiftHours());
+        assertFalse(nurse.isAvailable());
+        assertNull(registry.findAvailableStaff(nurse.getDepartment()));
+        
+        assertTrue(roster.unassign(nurse, "Ward B"));
+        assertEquals(10, nurse.getShiftHours());
+        assertTrue(nurse.isAvailable());
+        assertSame(nurse, registry.findAvailableStaff(nurse.getDepartment()));
+        
+        roster.release(nurse);
+        assertEquals(8, nurse.getShiftHours());
+    }
+    
+    @Test
+    void enrollTakesTheHoursTheNurseAlreadyHas() {
+        Nurse fresh = new Nurse("fresh nurse", "emp-r3", "icu", "rn");
+        Nurse tired = new Nurse("tired nurse", "emp-r4", "icu", "rn");
+        fresh.setShiftHours(0);
+        tired.setShiftHours(Nurse.MAX_SHIFT_HOURS);
+        WardRoster roster = new WardRoster();
+        roster.enroll(fresh);
+        roster.enroll(tired);
+        
+        assertEquals(Nurse.MAX_SHIFT_HOURS, roster.getRemainingHours(fresh));
+        assertEquals(0, roster.getRemainingHours(tired));
+        assertEquals(List.of(fresh), roster.findNursesWithHours(1));
+        assertFalse(roster.assign(tired, "Ward A", 1));
+        assertTrue(roster.assign(fresh, "Ward A", Nurse.MAX_SHIFT_HOURS));
+        assertEquals(Nurse.MAX_SHIFT_HOURS, tired.getShiftHours());
+        
+        // Enrolling twice changes nothing; removing clears the nurse from the hour index
+        roster.enroll(fresh);
+        assertEquals(Nurse.MAX_SHIFT_HOURS, roster.getRosteredHours(fresh));
+        roster.remove(fresh);
+        roster.remove(tired);
+        assertEquals(0, fresh.getShiftHours());
+        assertTrue(roster.findNursesWithHours(0).isEmpty());
+    }
+    
+    @Test
+    void aNurseCannotBeOnTheSameWardTwice() {
+        Nurse nurse = new Nurse("ward nurse", "emp-r5", "icu", "rn");
+        nurse.assignToWard("Ward A");
+        nurse.assignToWard("Ward A");
+        assertArrayEquals(new String[] {"Ward A", null, null, null, null}, nurse.getAssignedWards());
+        assertFalse(nurse.addWard("Ward A"));
+        
+        // The roster only knows its own bookings, so the nurse's list has the final say
+        WardRoster roster = new WardRoster();
+        assertFalse(roster.assign(nurse, "Ward A", 2));
+        assertTrue(roster.getNurses("Ward A").isEmpty());
+        assertEquals(8, roster.getRosteredHours(nurse));
+        assertTrue(roster.assign(nurse, "Ward B", 2));
+        assertFalse(roster.assign(nurse, "Ward B", 1));
+        assertArrayEquals(new String[] {"Ward A", "Ward B", null, null, null}, nurse.getAssignedWards());
+    }
+    
+    @Test
+    void onlyOneRacingUnassignSucceeds() throws Exception {
+        Nurse nurse = new Nurse("roster nurse", "emp-r2", "icu", "rn");
+        WardRoster roster = new WardRoster();
+        AtomicInteger removed = new AtomicInteger();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        int rounds = 2_000;
+        Runnable desk = () -> {
+            for (int i = 0; i < rounds; i++) {
+                try {
+                    barrier.await();
+                    if (roster.unassign(nurse, "Ward A")) removed.incrementAndGet();
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            }
+        };
+        Thread other = new Thread(desk);
+        other.start();
+        for (int i = 0; i < rounds; i++) {
+            assertTrue(roster.assign(nurse, "Ward A", 4));
+            barrier.await();
+            if (roster.unassign(nurse, "Ward A")) removed.incrementAndGet();
+            barrier.await();
+            assertEquals(i + 1, removed.get());
+            assertEquals(8, roster.getRosteredHours(nurse));
+            assertNull(nurse.getAssignedWards()[0]);
+        }
+        other.join();
+    }
+}